@@ -6,6 +6,7 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+import dm.dao.Utility;
 import org.apache.log4j.BasicConfigurator;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
@@ -74,6 +75,7 @@ public class App extends Application {
     public static void main(final String[] args) {
         try {
             BasicConfigurator.configure();
+            Utility.getLexicon();
             launch();
         } catch (Exception exception) {
             LOGGER.error("Something went wrong.");
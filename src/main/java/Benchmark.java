@@ -0,0 +1,710 @@
+import service.formatter.PostFormatter;
+import service.inversion.InversionCache;
+import service.inversion.InversionService;
+import service.inversion.InversionTrace;
+import service.inversion.SkipHelper;
+import service.util.Corpus;
+import service.util.EditList;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Class for running the performance benchmarks. The
+ * benchmarks to run can be given as arguments; with
+ * no arguments, all of them are run. The benchmarks
+ * only read the resources, unless the argument "save"
+ * is given too.
+ */
+public final class Benchmark {
+
+    /**
+     * Lengths of the generated adversarial posts.
+     */
+    private static final int[] POST_LENGTHS = {1000, 10000, 100000, 1000000};
+
+    /**
+     * Number of measured runs for every post. The fastest
+     * run is reported.
+     */
+    private static final int RUNS = 5;
+
+    /**
+     * Number of runs done before measuring, so that the
+     * measured code is already compiled.
+     */
+    private static final int WARMUP_RUNS = 20;
+
+    /**
+     * Length of the posts used for the warm-up.
+     */
+    private static final int WARMUP_LENGTH = 10000;
+
+    /**
+     * Time budget used to check the fallback, in milliseconds.
+     */
+    private static final long TEST_BUDGET = 1;
+
+    /**
+     * Numbers of words in the generated long sentences.
+     */
+    private static final int[] SENTENCE_WORDS
+            = {200, 400, 800, 1600, 3200, 6400, 12800};
+
+    /**
+     * Number of words in the sentences used for the warm-up.
+     */
+    private static final int WARMUP_WORDS = 400;
+
+    /**
+     * Nanoseconds in a microsecond.
+     */
+    private static final double NANOS_PER_MICRO = 1e3;
+
+    /**
+     * Nanoseconds in a millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    /**
+     * Numbers of sentences in the generated long documents.
+     */
+    private static final int[] DOCUMENT_SENTENCES = {1000, 10000, 100000};
+
+    /**
+     * Sentence the generated long documents are made of.
+     */
+    private static final String STREAM_SENTENCE = "Officials say the "
+            + "plane that left before noon was not found near the coast. ";
+
+    /**
+     * Numbers of posts joined into one long document.
+     */
+    private static final int[] DOCUMENT_POSTS = {5, 20, 100, 500};
+
+    /**
+     * Number of written sentences after which the used
+     * memory is checked again.
+     */
+    private static final int MEMORY_SAMPLE = 1000;
+
+    /**
+     * Bytes in a megabyte.
+     */
+    private static final double BYTES_PER_MEGA = 1024 * 1024;
+
+    /**
+     * Comment added to the posts to make retweets of them.
+     */
+    private static final String RETWEET_COMMENT = "Worth reading. ";
+
+    /**
+     * Argument letting the skip benchmark save the optimized
+     * order of the rules into the order file.
+     */
+    private static final String SAVE = "save";
+
+    /**
+     * Empty private constructor for preventing
+     * public or default constructor.
+     */
+    private Benchmark() {
+    }
+
+    /**
+     * Runs the benchmarks given as arguments, or all of
+     * them if there are no arguments other than "save".
+     * @param args - names of the benchmarks to run, and
+     *             "save" for saving the optimized order
+     *             of the skip rules
+     */
+    public static void main(final String[] args) {
+        List<String> names = new ArrayList<>(Arrays.asList(args));
+        boolean save = names.removeIf(SAVE::equals);
+
+        Map<String, Runnable> benchmarks = new LinkedHashMap<>();
+        benchmarks.put("formatter", Benchmark::formatter);
+        benchmarks.put("inversion", Benchmark::inversion);
+        benchmarks.put("sentences", Benchmark::sentences);
+        benchmarks.put("cache", Benchmark::cache);
+        benchmarks.put("skip", () -> skip(save));
+        benchmarks.put("stream", Benchmark::stream);
+        benchmarks.put("document", Benchmark::document);
+        benchmarks.put("trace", Benchmark::trace);
+
+        if (names.isEmpty()) {
+            benchmarks.values().forEach(Runnable::run);
+            return;
+        }
+
+        for (String name : names) {
+            Runnable benchmark = benchmarks.get(name);
+            if (benchmark == null) {
+                System.out.println("Unknown benchmark: " + name
+                        + ", available: " + benchmarks.keySet());
+            } else {
+                benchmark.run();
+            }
+        }
+    }
+
+    /**
+     * Formats adversarial posts of growing length and shows
+     * that the time per char stays the same, and that a post
+     * which does not fit in the time budget is given back
+     * unformatted and counted as a fallback.
+     */
+    private static void formatter() {
+        Map<String, String> patterns = new LinkedHashMap<>();
+        patterns.put("quotes", "\"a \" ");
+        patterns.put("whitespace", " \t ");
+        patterns.put("spaced quotes", "\"x   \"");
+        patterns.put("special chars", ". ( [ - ! ");
+        patterns.put("leading specials", "-");
+        patterns.put("dots", ".");
+        patterns.put("upper case", "ab. ß");
+        patterns.put("numbers", "1, 5. 3 ");
+        patterns.put("prose", "U.S. says Russia's \"deal\" is off... "
+                + "Moscow (RIA) denies it - see https://t.co/x ! ");
+
+        long budget = PostFormatter.getTimeBudget(TimeUnit.MILLISECONDS);
+        PostFormatter.setTimeBudget(0, TimeUnit.MILLISECONDS);
+
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            for (String pattern : patterns.values()) {
+                PostFormatter.format(repeat(pattern, WARMUP_LENGTH));
+            }
+        }
+
+        System.out.println("FORMATTER");
+        System.out.printf("%-18s%10s%14s%14s%n",
+                "input", "length", "ms", "ns per char");
+
+        for (Map.Entry<String, String> pattern : patterns.entrySet()) {
+            for (int length : POST_LENGTHS) {
+                String post = repeat(pattern.getValue(), length);
+                long best = Long.MAX_VALUE;
+
+                for (int run = 0; run < RUNS; run++) {
+                    long start = System.nanoTime();
+                    PostFormatter.format(post);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+
+                System.out.printf("%-18s%10d%14.3f%14.1f%n",
+                        pattern.getKey(), length,
+                        best / NANOS_PER_MILLI, (double) best / length);
+            }
+        }
+
+        PostFormatter.setTimeBudget(TEST_BUDGET, TimeUnit.MILLISECONDS);
+        long fallbacks = PostFormatter.getFallbackCount();
+        String longest = repeat(patterns.get("prose"),
+                POST_LENGTHS[POST_LENGTHS.length - 1]);
+        boolean unformatted = PostFormatter.formatWithinBudget(longest) == null;
+
+        System.out.println("Budget of " + TEST_BUDGET + " ms: longest post "
+                + (unformatted ? "given back unformatted" : "formatted")
+                + ", fallbacks counted: "
+                + (PostFormatter.getFallbackCount() - fallbacks));
+        System.out.println();
+
+        PostFormatter.setTimeBudget(budget, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Inverts all the posts from the corpora one by one and
+     * as a parallel batch, and checks that every batch gives
+     * back exactly the sequential results in the same order.
+     */
+    private static void inversion() {
+        List<String> posts = readCorpora();
+        List<String> expected = new ArrayList<>(posts.size());
+        long sequential = Long.MAX_VALUE;
+        long parallel = Long.MAX_VALUE;
+        int mismatches = 0;
+
+        int[] capacities = setCacheCapacities(0, 0);
+        InversionService.createInverseVersions(posts);
+
+        for (int run = 0; run < RUNS; run++) {
+            expected.clear();
+            long start = System.nanoTime();
+            for (String post : posts) {
+                expected.add(InversionService.createInverseVersion(post));
+            }
+            sequential = Math.min(sequential, System.nanoTime() - start);
+        }
+
+        for (int run = 0; run < RUNS; run++) {
+            long start = System.nanoTime();
+            List<String> results = InversionService.createInverseVersions(posts);
+            parallel = Math.min(parallel, System.nanoTime() - start);
+
+            for (int i = 0; i < posts.size(); i++) {
+                if (!expected.get(i).equals(results.get(i))) {
+                    mismatches++;
+                }
+            }
+        }
+
+        System.out.println("INVERSION");
+        System.out.printf("%d posts, %d cores%n", posts.size(),
+                Runtime.getRuntime().availableProcessors());
+        System.out.printf("sequential %10.1f ms%n", sequential / NANOS_PER_MILLI);
+        System.out.printf("batch      %10.1f ms (%.1fx)%n",
+                parallel / NANOS_PER_MILLI, (double) sequential / parallel);
+        System.out.println("Results differing from the sequential ones in "
+                + RUNS + " batches: " + mismatches);
+        System.out.println();
+
+        setCacheCapacities(capacities[0], capacities[1]);
+    }
+
+    /**
+     * Inverts all the posts from the corpora with the skip
+     * rules in their original order, profiles the rules on
+     * the same posts and inverts them again in the optimized
+     * order. Shows both times and the profile, and checks
+     * that the order gives back exactly the same results.
+     * If it does and saving is asked for, the order is
+     * saved, so the application uses it from its next start.
+     * @param save - true if the order should be saved
+     */
+    private static void skip(final boolean save) {
+        List<String> posts = readCorpora();
+        int[] capacities = setCacheCapacities(0, 0);
+        SkipHelper.resetOrder();
+
+        List<String> expected = new ArrayList<>(posts.size());
+        long original = timeInversion(posts, expected);
+
+        InversionService.trainSkipRules(posts);
+
+        List<String> results = new ArrayList<>(posts.size());
+        long optimized = timeInversion(posts, results);
+
+        int mismatches = 0;
+        for (int i = 0; i < posts.size(); i++) {
+            if (!expected.get(i).equals(results.get(i))) {
+                mismatches++;
+            }
+        }
+
+        System.out.println("SKIP RULES");
+        System.out.print(SkipHelper.report());
+        System.out.printf("original order  %10.1f ms%n",
+                original / NANOS_PER_MILLI);
+        System.out.printf("optimized order %10.1f ms (%.2fx)%n",
+                optimized / NANOS_PER_MILLI, (double) original / optimized);
+        System.out.println("Results differing from the original order: "
+                + mismatches);
+        if (save && mismatches == 0) {
+            try {
+                SkipHelper.saveOrder();
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            System.out.println("Optimized order saved.");
+        }
+        System.out.println();
+
+        setCacheCapacities(capacities[0], capacities[1]);
+    }
+
+    /**
+     * Inverts the posts one by one a few times and keeps
+     * the results of the last run.
+     * @param posts - posts to invert
+     * @param results - list the results are added to
+     * @return time of the fastest run, in nanoseconds
+     */
+    private static long timeInversion(final List<String> posts,
+                                      final List<String> results) {
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < RUNS; run++) {
+            results.clear();
+            long start = System.nanoTime();
+            for (String post : posts) {
+                results.add(InversionService.createInverseVersion(post));
+            }
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return best;
+    }
+
+    /**
+     * Inverts generated documents of growing length as
+     * streams, which are never held in memory as a whole,
+     * and shows that the time per sentence and the used
+     * memory stay the same. The caches keep their capacities,
+     * so the memory is measured as the application uses it.
+     */
+    private static void stream() {
+        System.out.println("STREAM");
+        System.out.printf("%10s%12s%16s%12s%n",
+                "sentences", "ms", "us/sentence", "max MB");
+
+        for (int sentences : DOCUMENT_SENTENCES) {
+            Reader document = new RepeatingReader(
+                    STREAM_SENTENCE, sentences);
+            long[] maxUsed = new long[1];
+            Writer output = new Writer() {
+                private int writes;
+
+                @Override
+                public void write(final char[] chars, final int offset,
+                                  final int length) {
+                    if (++writes % MEMORY_SAMPLE == 0) {
+                        Runtime runtime = Runtime.getRuntime();
+                        maxUsed[0] = Math.max(maxUsed[0],
+                                runtime.totalMemory() - runtime.freeMemory());
+                    }
+                }
+
+                @Override
+                public void flush() {
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+
+            long start = System.nanoTime();
+            try {
+                InversionService.createInverseVersion(document, output);
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+            long time = System.nanoTime() - start;
+
+            System.out.printf("%10d%12.1f%16.2f%12.1f%n", sentences,
+                    time / NANOS_PER_MILLI,
+                    time / NANOS_PER_MICRO / sentences,
+                    maxUsed[0] / BYTES_PER_MEGA);
+        }
+        System.out.println();
+    }
+
+    /**
+     * Inverts long documents, made of the posts from the
+     * corpora, with their sentences inverted one after the
+     * other and in parallel, and checks that both give back
+     * the same result.
+     */
+    private static void document() {
+        List<String> posts = readCorpora();
+        int[] capacities = setCacheCapacities(0, 0);
+        int threshold = InversionService.getParallelThreshold();
+
+        System.out.println("DOCUMENT");
+        System.out.printf("%8s%10s%16s%16s%n",
+                "posts", "chars", "sequential ms", "parallel ms");
+
+        int mismatches = 0;
+        for (int count : DOCUMENT_POSTS) {
+            String document = String.join(" ",
+                    posts.subList(0, Math.min(count, posts.size())));
+
+            InversionService.setParallelThreshold(Integer.MAX_VALUE);
+            long sequential = Long.MAX_VALUE;
+            String expected = null;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                expected = InversionService.createInverseVersion(document);
+                sequential = Math.min(sequential, System.nanoTime() - start);
+            }
+
+            InversionService.setParallelThreshold(0);
+            long parallel = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long start = System.nanoTime();
+                String result = InversionService.createInverseVersion(document);
+                parallel = Math.min(parallel, System.nanoTime() - start);
+                if (!result.equals(expected)) {
+                    mismatches++;
+                }
+            }
+
+            System.out.printf("%8d%10d%16.2f%16.2f%n", count,
+                    document.length(), sequential / NANOS_PER_MILLI,
+                    parallel / NANOS_PER_MILLI);
+        }
+
+        System.out.println("Parallel results differing from the "
+                + "sequential ones: " + mismatches);
+        System.out.println();
+
+        InversionService.setParallelThreshold(threshold);
+        setCacheCapacities(capacities[0], capacities[1]);
+    }
+
+    /**
+     * Reader of a text that is repeated the given number
+     * of times, without building the whole repeated text.
+     */
+    private static final class RepeatingReader extends Reader {
+
+        /**
+         * The repeated text.
+         */
+        private final String text;
+
+        /**
+         * Number of repetitions left, including the current.
+         */
+        private int left;
+
+        /**
+         * Position within the current repetition.
+         */
+        private int position;
+
+        /**
+         * Creates the reader.
+         * @param text - the repeated text
+         * @param times - number of repetitions
+         */
+        RepeatingReader(final String text, final int times) {
+            this.text = text;
+            this.left = times;
+        }
+
+        @Override
+        public int read(final char[] chars, final int offset,
+                        final int length) {
+            if (left == 0) {
+                return -1;
+            }
+            int read = Math.min(length, text.length() - position);
+            text.getChars(position, position + read, chars, offset);
+            position += read;
+            if (position == text.length()) {
+                position = 0;
+                left--;
+            }
+            return read;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Inverts the posts of the corpora once, with the caches
+     * turned off, and shows the counters of the inversion
+     * rules. The rules are only counted when the JVM is
+     * started with -Dinversion.trace=true.
+     */
+    private static void trace() {
+        System.out.println("TRACE");
+        if (!InversionTrace.isEnabled()) {
+            System.out.println("Run with -Dinversion.trace=true"
+                    + " to count the rules.");
+            System.out.println();
+            return;
+        }
+
+        List<String> posts = readCorpora();
+        int[] capacities = setCacheCapacities(0, 0);
+
+        InversionTrace.reset();
+        for (String post : posts) {
+            InversionService.createInverseVersion(post);
+        }
+
+        System.out.printf("%d posts%n", posts.size());
+        System.out.print(InversionTrace.report());
+        System.out.println();
+
+        setCacheCapacities(capacities[0], capacities[1]);
+    }
+
+    /**
+     * Inverts generated sentences of growing length, with no
+     * sentence end inside them, and shows how the time per
+     * word changes with the length of the sentence.
+     */
+    private static void sentences() {
+        Map<String, String> patterns = new LinkedHashMap<>();
+        patterns.put("conjunctions", "dogs and cats and ");
+        patterns.put("before", "before the long rainy day ");
+        patterns.put("not but", "it is not red but blue ");
+        patterns.put("clauses", "we like dogs, and they like cats ");
+        patterns.put("prose", "officials say the plane was not found, "
+                + "but the search near the coast that started "
+                + "before noon is going on and ");
+
+        long budget = PostFormatter.getTimeBudget(TimeUnit.MILLISECONDS);
+        PostFormatter.setTimeBudget(0, TimeUnit.MILLISECONDS);
+        int[] capacities = setCacheCapacities(0, 0);
+
+        for (int run = 0; run < WARMUP_RUNS; run++) {
+            for (String pattern : patterns.values()) {
+                InversionService.createInverseVersion(
+                        repeatWords(pattern, WARMUP_WORDS));
+            }
+        }
+
+        System.out.println("SENTENCES");
+        System.out.printf("%-18s%10s%14s%14s%n",
+                "input", "words", "ms", "us per word");
+
+        for (Map.Entry<String, String> pattern : patterns.entrySet()) {
+            for (int words : SENTENCE_WORDS) {
+                String post = repeatWords(pattern.getValue(), words);
+                long best = Long.MAX_VALUE;
+
+                for (int run = 0; run < RUNS; run++) {
+                    long start = System.nanoTime();
+                    InversionService.createInverseVersion(post);
+                    best = Math.min(best, System.nanoTime() - start);
+                }
+
+                System.out.printf("%-18s%10d%14.3f%14.2f%n",
+                        pattern.getKey(), words, best / NANOS_PER_MILLI,
+                        best / NANOS_PER_MICRO / words);
+            }
+        }
+        System.out.println();
+
+        PostFormatter.setTimeBudget(budget, TimeUnit.MILLISECONDS);
+        setCacheCapacities(capacities[0], capacities[1]);
+    }
+
+    /**
+     * Inverts all the posts from the corpora three times:
+     * with empty caches, once again, and as retweets with
+     * a comment added. Shows the time and the cache
+     * statistics of every pass, and checks that the cached
+     * results are the ones computed without the caches.
+     */
+    private static void cache() {
+        List<String> posts = readCorpora();
+        List<String> retweets = new ArrayList<>(posts.size());
+        for (String post : posts) {
+            retweets.add(RETWEET_COMMENT + post);
+        }
+
+        int[] capacities = setCacheCapacities(0, 0);
+        List<String> expected = InversionService.createInverseVersions(posts);
+        setCacheCapacities(capacities[0], capacities[1]);
+
+        InversionService.getTweetCache().clear();
+        InversionService.getSentenceCache().clear();
+
+        System.out.println("CACHE");
+        System.out.printf("%-10s%10s  %s%n",
+                "pass", "ms", "tweets / sentences");
+
+        int mismatches = 0;
+        for (String pass : new String[] {"cold", "repeated", "retweets"}) {
+            List<String> input = pass.equals("retweets") ? retweets : posts;
+
+            long start = System.nanoTime();
+            List<String> results = new ArrayList<>(input.size());
+            for (String post : input) {
+                results.add(InversionService.createInverseVersion(post));
+            }
+            long time = System.nanoTime() - start;
+
+            if (input == posts) {
+                for (int i = 0; i < posts.size(); i++) {
+                    if (!expected.get(i).equals(results.get(i))) {
+                        mismatches++;
+                    }
+                }
+            }
+
+            System.out.printf("%-10s%10.1f  %s / %s%n", pass,
+                    time / NANOS_PER_MILLI,
+                    InversionService.getTweetCache(),
+                    InversionService.getSentenceCache());
+        }
+
+        System.out.println("Cached results differing from the uncached "
+                + "ones: " + mismatches);
+        System.out.println();
+    }
+
+    /**
+     * Sets the capacities of the inversion caches.
+     * @param tweets - capacity of the tweet cache
+     * @param sentences - capacity of the sentence cache
+     * @return the previous capacities of the tweet and
+     *         sentence caches
+     */
+    private static int[] setCacheCapacities(final int tweets,
+                                            final int sentences) {
+        InversionCache<String> tweetCache = InversionService.getTweetCache();
+        InversionCache<EditList> sentenceCache
+                = InversionService.getSentenceCache();
+
+        int[] previous = {tweetCache.getCapacity(),
+                sentenceCache.getCapacity()};
+        tweetCache.setCapacity(tweets);
+        sentenceCache.setCapacity(sentences);
+        return previous;
+    }
+
+    /**
+     * Reads all the posts from the corpora, in the order of
+     * their paths.
+     * @return the posts
+     */
+    private static List<String> readCorpora() {
+        try {
+            return Corpus.readPosts(Corpus.TRAINING_DATA, Corpus.TEST_DATA);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    /**
+     * Repeats the words of the pattern until the given number
+     * of words is reached.
+     * @param pattern - space separated words to be repeated
+     * @param words - number of words in the result
+     * @return the repeated words
+     */
+    private static String repeatWords(final String pattern,
+                                      final int words) {
+        String[] patternWords = pattern.trim().split(" ");
+        StringBuilder result = new StringBuilder();
+
+        for (int word = 0; word < words; word++) {
+            if (word > 0) {
+                result.append(' ');
+            }
+            result.append(patternWords[word % patternWords.length]);
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Repeats the pattern until the given length is reached.
+     * @param pattern - pattern to be repeated
+     * @param length - length of the result
+     * @return the repeated pattern
+     */
+    private static String repeat(final String pattern, final int length) {
+        StringBuilder result = new StringBuilder(length);
+        while (result.length() < length) {
+            result.append(pattern);
+        }
+        result.setLength(length);
+        return result.toString();
+    }
+
+}
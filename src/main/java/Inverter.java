@@ -0,0 +1,149 @@
+import service.formatter.PostFormatter;
+import service.inversion.InversionService;
+import service.util.Corpus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Class for running the inversion of a whole corpus,
+ * without the user interface. Every tweet under the input
+ * directory is inverted, and the result is written to the
+ * same relative path under the output directory.
+ */
+public final class Inverter {
+
+    /**
+     * Directory with the tweets, if none is given.
+     */
+    private static final String DEFAULT_INPUT = Corpus.TRAINING_DATA;
+
+    /**
+     * Directory for the inverted tweets, if none is given.
+     */
+    private static final String DEFAULT_OUTPUT
+            = "src/main/resources/TrainingDataInverted";
+
+    /**
+     * Nanoseconds in a millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    /**
+     * Nanoseconds in a second.
+     */
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    /**
+     * Median.
+     */
+    private static final double P50 = 0.50;
+
+    /**
+     * 99th percentile.
+     */
+    private static final double P99 = 0.99;
+
+    /**
+     * Latency of a tweet that was not read.
+     */
+    private static final long NOT_MEASURED = -1;
+
+    /**
+     * Empty private constructor for preventing
+     * public or default constructor.
+     */
+    private Inverter() {
+    }
+
+    /**
+     * Inverts all the tweets under the input directory in
+     * parallel and reports the throughput, the latency per
+     * tweet and the number of tweets that were not inverted
+     * or not formatted. The latencies are those of the tweets
+     * that were read, so the tweets that failed before their
+     * inversion do not count as instant ones.
+     * @param args - input and output directory, optional
+     */
+    public static void main(final String[] args) {
+        Path input = Paths.get(args.length > 0 ? args[0] : DEFAULT_INPUT);
+        Path output = Paths.get(args.length > 1 ? args[1] : DEFAULT_OUTPUT);
+
+        List<Path> files;
+        try {
+            files = Corpus.listFiles(input);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        long[] latencies = new long[files.size()];
+        Arrays.fill(latencies, NOT_MEASURED);
+        AtomicInteger unreadable = new AtomicInteger();
+        long fallbacks = InversionService.getFallbackCount();
+        long formatterFallbacks = PostFormatter.getFallbackCount();
+
+        long start = System.nanoTime();
+        IntStream.range(0, files.size()).parallel().forEach(i -> {
+            Path file = files.get(i);
+            try {
+                String original = Corpus.readPost(file);
+
+                long tweetStart = System.nanoTime();
+                String inverted = InversionService
+                        .createInverseVersion(original);
+                latencies[i] = System.nanoTime() - tweetStart;
+
+                Path target = output.resolve(input.relativize(file));
+                Files.createDirectories(target.getParent());
+                Files.write(target, inverted.getBytes(StandardCharsets.UTF_8));
+            } catch (IOException exception) {
+                unreadable.incrementAndGet();
+            }
+        });
+        long time = System.nanoTime() - start;
+
+        long[] measured = Arrays.stream(latencies)
+                .filter(latency -> latency != NOT_MEASURED)
+                .sorted().toArray();
+
+        System.out.println("INVERSION OF " + input);
+        System.out.printf("%d tweets in %.1f s, %.0f tweets/s%n",
+                files.size(), time / NANOS_PER_SECOND,
+                files.size() * NANOS_PER_SECOND / Math.max(time, 1));
+        System.out.printf("latency p50 %.3f ms, p99 %.3f ms"
+                        + " (%d tweets measured)%n",
+                percentile(measured, P50) / NANOS_PER_MILLI,
+                percentile(measured, P99) / NANOS_PER_MILLI,
+                measured.length);
+        System.out.println("Not inverted (fallbacks): "
+                + (InversionService.getFallbackCount() - fallbacks)
+                + ", not formatted (formatter fallbacks): "
+                + (PostFormatter.getFallbackCount() - formatterFallbacks)
+                + ", not read or written: " + unreadable.get());
+        System.out.println("Results written to " + output);
+    }
+
+    /**
+     * Gives back the percentile of the sorted values.
+     * @param sorted - values in increasing order
+     * @param percentile - the percentile, between 0 and 1
+     * @return the value, 0 if there are no values
+     */
+    private static long percentile(final long[] sorted,
+                                   final double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+}
@@ -1,6 +1,6 @@
 package dm.dao;
 
-import static dm.data.Adjectives.getAdjectives;
+import static dm.data.WordFlags.ADJECTIVE;
 
 /**
  * Methods for operations on data structures
@@ -15,8 +15,7 @@ public class AdjectiveUtility extends Utility {
      *         false otherwise
      */
     public static boolean isAdjective(final String word) {
-        String cleanCopy = clean(word);
-        return getAdjectives().contains(cleanCopy);
+        return hasFlag(word, ADJECTIVE);
     }
 
 }
@@ -1,10 +1,13 @@
 package dm.dao;
 
-import static dm.data.Chars.getCharsWithSpaceAfter;
-import static dm.data.Chars.getCharsWithSpaceBefore;
-import static dm.data.Chars.getCharsWithSpacesAround;
-import static dm.data.Chars.getPunctuation;
-import static dm.data.Chars.getQuotes;
+import static dm.data.Chars.PUNCTUATION;
+import static dm.data.Chars.QUOTE;
+import static dm.data.Chars.SPACES_AROUND;
+import static dm.data.Chars.SPACE_AFTER;
+import static dm.data.Chars.SPACE_BEFORE;
+import static dm.data.Chars.SPECIAL;
+import static dm.data.Chars.WHITESPACE;
+import static dm.data.Chars.getCharClass;
 
 /**
  * Methods for operations on data structures
@@ -12,6 +15,11 @@ import static dm.data.Chars.getQuotes;
  */
 public class CharUtility extends Utility {
 
+    /**
+     * Characters below this value are ASCII.
+     */
+    private static final char ASCII_LIMIT = 128;
+
     /**
      * Checks if a character is a number.
      * @param character - char to be checked
@@ -30,10 +38,7 @@ public class CharUtility extends Utility {
      *         used special characters, false otherwise
      */
     public static boolean isSpecialChar(final char toCheck) {
-        return isCharWithSpacesAround(toCheck)
-                || isCharWithSpaceBefore(toCheck)
-                || isCharWithSpaceAfter(toCheck)
-                || isQuote(toCheck);
+        return (getCharClass(toCheck) & SPECIAL) != 0;
     }
 
     /**
@@ -43,7 +48,7 @@ public class CharUtility extends Utility {
      *         false otherwise
      */
     public static boolean isPunctuation(final char toCheck) {
-        return getPunctuation().contains(toCheck);
+        return (getCharClass(toCheck) & PUNCTUATION) != 0;
     }
 
     /**
@@ -53,7 +58,7 @@ public class CharUtility extends Utility {
      *         around, false otherwise
      */
     public static boolean isCharWithSpacesAround(final char toCheck) {
-        return getCharsWithSpacesAround().contains(toCheck);
+        return (getCharClass(toCheck) & SPACES_AROUND) != 0;
     }
 
     /**
@@ -63,7 +68,7 @@ public class CharUtility extends Utility {
      *         before, false otherwise
      */
     public static boolean isCharWithSpaceBefore(final char toCheck) {
-        return getCharsWithSpaceBefore().contains(toCheck);
+        return (getCharClass(toCheck) & SPACE_BEFORE) != 0;
     }
 
     /**
@@ -73,7 +78,7 @@ public class CharUtility extends Utility {
      *         after, false otherwise
      */
     public static boolean isCharWithSpaceAfter(final char toCheck) {
-        return getCharsWithSpaceAfter().contains(toCheck);
+        return (getCharClass(toCheck) & SPACE_AFTER) != 0;
     }
 
     /**
@@ -83,7 +88,7 @@ public class CharUtility extends Utility {
      *         false otherwise
      */
     public static boolean isQuote(final char toCheck) {
-        return getQuotes().contains(toCheck);
+        return (getCharClass(toCheck) & QUOTE) != 0;
     }
 
     /**
@@ -93,9 +98,26 @@ public class CharUtility extends Utility {
      *         false otherwise
      */
     public static boolean isWhitespace(final char toCheck) {
+        if (toCheck < ASCII_LIMIT) {
+            return (getCharClass(toCheck) & WHITESPACE) != 0;
+        }
         return Character.isWhitespace(toCheck);
     }
 
+    /**
+     * Checks if a char is a whitespace matched by "\\s" in
+     * regular expressions (space, tab, new line, vertical
+     * tab, form feed or carriage return).
+     * @param toCheck - char to be checked
+     * @return true if the char is matched by "\\s",
+     *         false otherwise
+     */
+    public static boolean isRegexWhitespace(final char toCheck) {
+        return toCheck == ' ' || toCheck == '\t' || toCheck == '\n'
+                || toCheck == '\u000B' || toCheck == '\f'
+                || toCheck == '\r';
+    }
+
     /**
      * Checks if a char is a letter or a digit.
      * @param toCheck - char to be checked
@@ -1,7 +1,7 @@
 package dm.dao;
 
-import static dm.data.Conjunctions.getOtherConjunctions;
-import static dm.data.Conjunctions.getSentenceConjunctions;
+import static dm.data.WordFlags.CONJUNCTION;
+import static dm.data.WordFlags.SENTENCE_CONJUNCTION;
 
 /**
  * Methods for operations on data structures
@@ -16,8 +16,7 @@ public class ConjunctionUtility extends Utility {
      *         false otherwise
      */
     public static boolean isSentenceConjunction(final String word) {
-        String cleanWord = clean(word);
-        return getSentenceConjunctions().contains(cleanWord);
+        return hasFlag(word, SENTENCE_CONJUNCTION);
     }
 
     /**
@@ -27,9 +26,7 @@ public class ConjunctionUtility extends Utility {
      *         false otherwise
      */
     public static boolean isConjunction(final String word) {
-        String cleanWord = clean(word);
-        return getSentenceConjunctions().contains(cleanWord)
-                || getOtherConjunctions().contains(cleanWord);
+        return hasFlag(word, CONJUNCTION);
     }
 
 }
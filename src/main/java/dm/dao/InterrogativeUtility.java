@@ -1,8 +1,9 @@
 package dm.dao;
 
-import static dm.data.Interrogatives.getNegateInterrogatives;
-import static dm.data.Interrogatives.getPushInterrogatives;
-import static dm.data.Interrogatives.getSkipInterrogatives;
+import static dm.data.WordFlags.NEGATE_QUESTION_WORD;
+import static dm.data.WordFlags.PUSH_QUESTION_WORD;
+import static dm.data.WordFlags.QUESTION_WORD;
+import static dm.data.WordFlags.SKIP_QUESTION_WORD;
 
 /**
  * Methods for operations on data structures
@@ -17,8 +18,7 @@ public class InterrogativeUtility extends Utility {
      *         false otherwise
      */
     public static boolean isPushQuestionWord(final String word) {
-        String cleanCopy = clean(word);
-        return getPushInterrogatives().contains(cleanCopy);
+        return hasFlag(word, PUSH_QUESTION_WORD);
     }
 
     /**
@@ -28,8 +28,7 @@ public class InterrogativeUtility extends Utility {
      *         false otherwise
      */
     public static boolean isSkipQuestionWord(final String word) {
-        String cleanCopy = clean(word);
-        return getSkipInterrogatives().contains(cleanCopy);
+        return hasFlag(word, SKIP_QUESTION_WORD);
     }
 
     /**
@@ -39,8 +38,7 @@ public class InterrogativeUtility extends Utility {
      *         false otherwise
      */
     public static boolean isNegateQuestionWord(final String word) {
-        String cleanCopy = clean(word);
-        return getNegateInterrogatives().contains(cleanCopy);
+        return hasFlag(word, NEGATE_QUESTION_WORD);
     }
 
     /**
@@ -50,8 +48,7 @@ public class InterrogativeUtility extends Utility {
      *         false otherwise
      */
     public static boolean isQuestionWord(final String word) {
-        return isPushQuestionWord(word) || isNegateQuestionWord(word)
-                || isSkipQuestionWord(word);
+        return hasFlag(word, QUESTION_WORD);
     }
 
 }
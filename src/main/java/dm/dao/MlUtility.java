@@ -1,12 +1,7 @@
 package dm.dao;
 
-import java.util.HashSet;
+import java.util.Set;
 
-import static dm.data.MlData.getAbbreviations;
-import static dm.data.MlData.getIgnoreWords;
-import static dm.data.MlData.getRussiaKeywords;
-import static dm.data.MlData.getTestingWords;
-import static dm.data.MlData.getTrainingWords;
 import static service.formatter.Pipe.stemWord;
 
 /**
@@ -20,7 +15,7 @@ public class MlUtility extends Utility {
      * @return the abbreviations array
      */
     public static String[] abbreviations() {
-        return getAbbreviations();
+        return LEXICON.getAbbreviations();
     }
 
     /**
@@ -33,7 +28,7 @@ public class MlUtility extends Utility {
      */
     public static boolean isAboutRussia(final String token) {
         String copy = clean(token);
-        HashSet<String> russiaKeywords = getRussiaKeywords();
+        Set<String> russiaKeywords = LEXICON.getRussiaKeywords();
         for (String keyword : russiaKeywords) {
             if (copy.contains(keyword)) {
                 return true;
@@ -52,7 +47,7 @@ public class MlUtility extends Utility {
      */
     public static boolean shouldIgnore(final String token) {
         String copy = clean(token);
-        HashSet<String> ignoreWords = getIgnoreWords();
+        Set<String> ignoreWords = LEXICON.getIgnoreWords();
         for (String word : ignoreWords) {
             if (copy.contains(word)) {
                 return true;
@@ -68,8 +63,8 @@ public class MlUtility extends Utility {
      *         list, false otherwise
      */
     public static boolean isTestingWord(final String word) {
-        return getTestingWords().contains(word)
-                || getTestingWords().contains(stemWord(word));
+        return LEXICON.getTestingWords().contains(word)
+                || LEXICON.getTestingWords().contains(stemWord(word));
     }
 
     /**
@@ -79,8 +74,8 @@ public class MlUtility extends Utility {
      *         list, false otherwise
      */
     public static boolean isTrainingWord(final String word) {
-        return getTrainingWords().contains(word)
-                || getTrainingWords().contains(stemWord(word));
+        return LEXICON.getTrainingWords().contains(word)
+                || LEXICON.getTrainingWords().contains(stemWord(word));
     }
 
 }
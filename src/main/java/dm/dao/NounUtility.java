@@ -1,11 +1,10 @@
 package dm.dao;
 
-import static dm.data.Nouns.getArticles;
-import static dm.data.Nouns.getFemaleNames;
-import static dm.data.Nouns.getLastNames;
-import static dm.data.Nouns.getMaleNames;
-import static dm.data.Nouns.getPluralNouns;
-import static dm.data.Nouns.getSingularNouns;
+import static dm.data.WordFlags.ARTICLE;
+import static dm.data.WordFlags.NAME;
+import static dm.data.WordFlags.NOUN;
+import static dm.data.WordFlags.PLURAL;
+import static dm.data.WordFlags.SINGULAR;
 
 /**
  * Methods for operations on data structures
@@ -21,9 +20,7 @@ public class NounUtility extends Utility {
      *         otherwise
      */
     public static boolean isNoun(final String word) {
-        String cleanCopy = clean(word);
-        return getSingularNouns().contains(cleanCopy)
-                || getPluralNouns().contains(cleanCopy);
+        return hasFlag(word, NOUN);
     }
 
     /**
@@ -33,10 +30,7 @@ public class NounUtility extends Utility {
      *         otherwise
      */
     public static boolean isName(final String word) {
-        String cleanCopy = clean(word);
-        return getLastNames().contains(cleanCopy)
-                || getMaleNames().contains(cleanCopy)
-                || getFemaleNames().contains(cleanCopy);
+        return hasFlag(word, NAME);
     }
 
     /**
@@ -46,8 +40,7 @@ public class NounUtility extends Utility {
      *         otherwise
      */
     public static boolean isArticle(final String word) {
-        String cleanCopy = clean(word);
-        return getArticles().contains(cleanCopy);
+        return hasFlag(word, ARTICLE);
     }
 
     /**
@@ -57,8 +50,7 @@ public class NounUtility extends Utility {
      *         false otherwise
      */
     public static boolean isSingular(final String word) {
-        String cleanCopy = clean(word);
-        return getSingularNouns().contains(cleanCopy);
+        return hasFlag(word, SINGULAR);
     }
 
     /**
@@ -68,8 +60,7 @@ public class NounUtility extends Utility {
      *         false otherwise
      */
     public static boolean isPlural(final String word) {
-        String cleanCopy = clean(word);
-        return getPluralNouns().contains(cleanCopy);
+        return hasFlag(word, PLURAL);
     }
 
 }
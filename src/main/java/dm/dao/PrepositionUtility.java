@@ -1,6 +1,6 @@
 package dm.dao;
 
-import static dm.data.Prepositions.getPrepositions;
+import static dm.data.WordFlags.PREPOSITION;
 
 /**
  * Methods for operations on data structures
@@ -15,8 +15,7 @@ public class PrepositionUtility extends Utility {
      *         false otherwise
      */
     public static boolean isPreposition(final String word) {
-        String cleanCopy = clean(word);
-        return getPrepositions().contains(cleanCopy);
+        return hasFlag(word, PREPOSITION);
     }
 
 }
@@ -1,12 +1,12 @@
 package dm.dao;
 
-import static dm.data.Pronouns.getBasicPronouns;
-import static dm.data.Pronouns.getOtherPronouns;
-import static dm.data.Pronouns.getPossessivePronouns;
-import static dm.data.Pronouns.getPluralPronouns;
-import static dm.data.Pronouns.getSingularPronouns;
-import static dm.data.Pronouns.getIndefinitePronouns;
-import static dm.data.Pronouns.getNegIndefinitePronouns;
+import static dm.data.WordFlags.BASIC_PRONOUN;
+import static dm.data.WordFlags.INDEFINITE_PRONOUN;
+import static dm.data.WordFlags.NEG_INDEFINITE_PRONOUN;
+import static dm.data.WordFlags.OTHER_PRONOUN;
+import static dm.data.WordFlags.PLURAL_PRONOUN;
+import static dm.data.WordFlags.POSSESSIVE_PRONOUN;
+import static dm.data.WordFlags.SINGULAR_PRONOUN;
 
 /**
  * Methods for operations on data structures
@@ -21,8 +21,7 @@ public class PronounUtility extends Utility {
      *         false otherwise
      */
     public static boolean isSingularPronoun(final String word) {
-        String cleanCopy = clean(word);
-        return getSingularPronouns().contains(cleanCopy);
+        return hasFlag(word, SINGULAR_PRONOUN);
     }
 
     /**
@@ -32,8 +31,7 @@ public class PronounUtility extends Utility {
      *         false otherwise
      */
     public static boolean isPluralPronoun(final String word) {
-        String cleanCopy = clean(word);
-        return getPluralPronouns().contains(cleanCopy);
+        return hasFlag(word, PLURAL_PRONOUN);
     }
 
     /**
@@ -43,8 +41,7 @@ public class PronounUtility extends Utility {
      *         false otherwise
      */
     public static boolean isBasicPronoun(final String word) {
-        String cleanCopy = clean(word);
-        return getBasicPronouns().contains(cleanCopy);
+        return hasFlag(word, BASIC_PRONOUN);
     }
 
     /**
@@ -54,8 +51,7 @@ public class PronounUtility extends Utility {
      *         false otherwise
      */
     public static boolean isPossessivePronoun(final String word) {
-        String cleanCopy = clean(word);
-        return getPossessivePronouns().contains(cleanCopy);
+        return hasFlag(word, POSSESSIVE_PRONOUN);
     }
 
     /**
@@ -65,8 +61,7 @@ public class PronounUtility extends Utility {
      *         false otherwise
      */
     public static boolean isOtherPronoun(final String word) {
-        String cleanCopy = clean(word);
-        return getOtherPronouns().contains(cleanCopy);
+        return hasFlag(word, OTHER_PRONOUN);
     }
 
     /**
@@ -76,8 +71,7 @@ public class PronounUtility extends Utility {
      *         pronoun, false otherwise
      */
     public static boolean isIndefinitePronoun(final String word) {
-        String cleanCopy = clean(word);
-        return getIndefinitePronouns().containsKey(cleanCopy);
+        return hasFlag(word, INDEFINITE_PRONOUN);
     }
 
     /**
@@ -87,7 +81,7 @@ public class PronounUtility extends Utility {
      */
     public static String getOppositePronoun(final String word) {
         String cleanCopy = clean(word);
-        return getIndefinitePronouns().get(cleanCopy);
+        return LEXICON.getIndefinitePronouns().get(cleanCopy);
     }
 
     /**
@@ -98,8 +92,7 @@ public class PronounUtility extends Utility {
      *         indefinite pronoun, false otherwise
      */
     public static boolean isNegIndefinitePronoun(final String word) {
-        String cleanCopy = clean(word);
-        return getNegIndefinitePronouns().containsKey(cleanCopy);
+        return hasFlag(word, NEG_INDEFINITE_PRONOUN);
     }
 
     /**
@@ -111,7 +104,7 @@ public class PronounUtility extends Utility {
      */
     public static String getOppositeNegPronoun(final String word) {
         String cleanCopy = clean(word);
-        return getNegIndefinitePronouns().get(cleanCopy);
+        return LEXICON.getNegIndefinitePronouns().get(cleanCopy);
     }
 
 }
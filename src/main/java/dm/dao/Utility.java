@@ -1,6 +1,8 @@
 package dm.dao;
 
-import static dm.dao.CharUtility.isWhitespace;
+import dm.data.Lexicon;
+
+import static dm.data.Chars.isKept;
 
 /**
  * Class containing methods used by all other
@@ -8,8 +10,95 @@ import static dm.dao.CharUtility.isWhitespace;
  */
 public abstract class Utility {
 
+    /**
+     * Snapshot of all the word collections, read by all
+     * the utility classes. It's loaded together with the
+     * class, which the JVM does only once and before any
+     * thread can use the snapshot.
+     */
+    protected static final Lexicon LEXICON = Lexicon.load();
+
+    /**
+     * Gives back the snapshot of all the word collections.
+     * Calling it at startup loads the collections before
+     * they are needed.
+     * @return the snapshot of all the word collections
+     */
+    public static Lexicon getLexicon() {
+        return LEXICON;
+    }
+
+    /**
+     * Gives back all the word class flags of the word. The
+     * flags are defined in WordFlags. The word is looked up
+     * without being cleaned into a copy.
+     * @param word - word whose flags we need
+     * @return the flags of the clean word, 0 if the word is
+     *         not in any collection
+     */
+    public static long getWordFlags(final String word) {
+        return LEXICON.getVocabulary().getFlags(getWordId(word));
+    }
+
+    /**
+     * Gives back all the word class flags of the word in the
+     * part of the text, without copying it.
+     * @param text - text with the word
+     * @param offset - position of the first char of the word
+     * @param length - number of the chars of the word
+     * @return the flags of the clean word, 0 if the word is
+     *         not in any collection
+     */
+    public static long getWordFlags(final CharSequence text,
+                                    final int offset,
+                                    final int length) {
+        return LEXICON.getVocabulary().getFlags(
+                getWordId(text, offset, length));
+    }
+
+    /**
+     * Gives back the id of the word in the vocabulary of
+     * the lexicon.
+     * @param word - word whose id we need
+     * @return the id of the clean word, Vocabulary.UNKNOWN
+     *         if the word is not in the vocabulary
+     */
+    public static int getWordId(final String word) {
+        if (word == null) {
+            return LEXICON.getVocabulary().getId("");
+        }
+        return LEXICON.getVocabulary().getId(word);
+    }
+
+    /**
+     * Gives back the id of the word in the part of the text,
+     * without copying it.
+     * @param text - text with the word
+     * @param offset - position of the first char of the word
+     * @param length - number of the chars of the word
+     * @return the id of the clean word, Vocabulary.UNKNOWN
+     *         if the word is not in the vocabulary
+     */
+    public static int getWordId(final CharSequence text,
+                                final int offset,
+                                final int length) {
+        return LEXICON.getVocabulary().getId(text, offset, length);
+    }
+
+    /**
+     * Checks if the word has any of the flags.
+     * @param word - word to be checked
+     * @param mask - one or more flags from WordFlags
+     * @return true if the word has any of the flags,
+     *         false otherwise
+     */
+    protected static boolean hasFlag(final String word, final long mask) {
+        return (getWordFlags(word) & mask) != 0L;
+    }
+
     /**
      * Returns the word in lower case without special characters.
+     * If the word is already clean, it is given back as it is.
      * @param word - word to be cleaned
      * @return the word in lower case without special characters
      */
@@ -21,23 +110,33 @@ public abstract class Utility {
     }
 
     /**
-     * Cleans all the special characters from the word.
+     * Cleans all the special characters from the word. If there
+     * are no special characters, the word is given back as it is.
      * @param word - original word with special characters
      * @return - clean word without special characters
      */
     public static String clearSpecChars(final String word) {
-        StringBuilder result = new StringBuilder();
-        for (int i = 0; i < word.length(); ++i) {
-            if ((word.charAt(i) >= 'a' && word.charAt(i) <= 'z')
-                    || (word.charAt(i) >= 'A' && word.charAt(i) <= 'Z')
-                    || (word.charAt(i) >= '0' && word.charAt(i) <= '9')
-                    || (word.charAt(i) == '\'') || (word.charAt(i) == '-')
-                    || isWhitespace(word.charAt(i))) {
-
-                result.append(word.charAt(i));
+        int length = word.length();
+
+        int kept = 0;
+        while (kept < length && isKept(word.charAt(kept))) {
+            kept++;
+        }
+
+        if (kept == length) {
+            return word;
+        }
+
+        char[] result = new char[length];
+        word.getChars(0, kept, result, 0);
+
+        for (int i = kept + 1; i < length; ++i) {
+            char c = word.charAt(i);
+            if (isKept(c)) {
+                result[kept++] = c;
             }
         }
-        return result.toString();
+        return new String(result, 0, kept);
     }
 
 }
@@ -1,20 +1,26 @@
 package dm.dao;
 
-import static dm.data.Modals.getPositiveBe;
-import static dm.data.Modals.getNegativeModalVerbs;
-import static dm.data.Modals.getNegativeBe;
-import static dm.data.Modals.getNegativeDo;
-import static dm.data.Modals.getNegativeHave;
-import static dm.data.Modals.getPositiveDo;
-import static dm.data.Modals.getPositiveHave;
-import static dm.data.Modals.getPositiveModalVerbs;
-import static dm.data.Verbs.getInfinitivePerfectMapping;
-import static dm.data.Verbs.getInfinitiveThirdPersonMapping;
-import static dm.data.Verbs.getNewSentenceVerbs;
-import static dm.data.Verbs.getStartStopMapping;
-import static dm.data.Verbs.getTwoPartVerbs;
-import static dm.data.Verbs.getVerbs;
-import static dm.data.Verbs.getVerbTenses;
+import static dm.data.WordFlags.FORM_OF_BE;
+import static dm.data.WordFlags.FORM_OF_DO;
+import static dm.data.WordFlags.FORM_OF_HAVE;
+import static dm.data.WordFlags.GERUND;
+import static dm.data.WordFlags.INFINITIVE;
+import static dm.data.WordFlags.MODAL;
+import static dm.data.WordFlags.NEGATIVE_BE;
+import static dm.data.WordFlags.NEGATIVE_DO;
+import static dm.data.WordFlags.NEGATIVE_HAVE;
+import static dm.data.WordFlags.NEGATIVE_MODAL;
+import static dm.data.WordFlags.NEW_SUB_SENTENCE_VERB;
+import static dm.data.WordFlags.PAST_PARTICIPLE;
+import static dm.data.WordFlags.PERFECT;
+import static dm.data.WordFlags.POSITIVE_BE;
+import static dm.data.WordFlags.POSITIVE_DO;
+import static dm.data.WordFlags.POSITIVE_HAVE;
+import static dm.data.WordFlags.POSITIVE_MODAL;
+import static dm.data.WordFlags.START_OR_STOP;
+import static dm.data.WordFlags.TENSE;
+import static dm.data.WordFlags.THIRD_PERSON;
+import static dm.data.WordFlags.VERB;
 
 /**
  * Methods for operations on data structures
@@ -22,26 +28,6 @@ import static dm.data.Verbs.getVerbTenses;
  */
 public class VerbUtility extends Utility {
 
-    /**
-     * Mapping for perfect.
-     */
-    private static final int PERFECT_POS = 1;
-
-    /**
-     * Mapping for past participle.
-     */
-    private static final int PARTICIPLE_POS = 2;
-
-    /**
-     * Mapping for third person.
-     */
-    private static final int THIRD_PERS_POS = 3;
-
-    /**
-     * Mapping for gerund.
-     */
-    private static final int GERUND_POS = 4;
-
     /**
      * Checks if the word is in infinitive form of the verb.
      * @param word - the word to be checked
@@ -49,14 +35,7 @@ public class VerbUtility extends Utility {
      *         verb, false otherwise
      */
     public static boolean isInfinitive(final String word) {
-        String cleanCopy = clean(word);
-
-        if (cleanCopy.equals("be")) {
-            return true;
-        }
-
-        return getTense(cleanCopy) != null
-                && getTense(cleanCopy) == 0;
+        return hasFlag(word, INFINITIVE);
     }
 
     /**
@@ -66,17 +45,7 @@ public class VerbUtility extends Utility {
      *         verb, false otherwise
      */
     public static boolean isPerfect(final String word) {
-        String cleanCopy = clean(word);
-
-        if (cleanCopy.equals("was")
-                || cleanCopy.equals("were")) {
-            return true;
-        }
-
-        return (getTense(cleanCopy) != null
-                && getTense(cleanCopy) == PERFECT_POS)
-                || (getTense(cleanCopy + PERFECT_POS) != null
-                && getTense(cleanCopy + PERFECT_POS) == PERFECT_POS);
+        return hasFlag(word, PERFECT);
     }
 
     /**
@@ -87,16 +56,7 @@ public class VerbUtility extends Utility {
      *         the verb, false otherwise
      */
     public static boolean isPastParticiple(final String word) {
-        String cleanCopy = clean(word);
-
-        if (cleanCopy.equals("been")) {
-            return true;
-        }
-
-        return (getTense(cleanCopy) != null
-                && getTense(cleanCopy) == PARTICIPLE_POS)
-                || (getTense(cleanCopy + PARTICIPLE_POS) != null
-                && getTense(cleanCopy + PARTICIPLE_POS) == PARTICIPLE_POS);
+        return hasFlag(word, PAST_PARTICIPLE);
     }
 
     /**
@@ -107,16 +67,7 @@ public class VerbUtility extends Utility {
      *         the verb, false otherwise
      */
     public static boolean isThirdPerson(final String word) {
-        String cleanCopy = clean(word);
-
-        if (cleanCopy.equals("is")) {
-            return true;
-        }
-
-        return (getTense(cleanCopy) != null
-                && getTense(cleanCopy) == THIRD_PERS_POS)
-                || (getTense(cleanCopy + THIRD_PERS_POS) != null
-                && getTense(cleanCopy + THIRD_PERS_POS) == THIRD_PERS_POS);
+        return hasFlag(word, THIRD_PERSON);
     }
 
     /**
@@ -126,16 +77,7 @@ public class VerbUtility extends Utility {
      *         the verb, false otherwise
      */
     public static boolean isGerund(final String word) {
-        String cleanCopy = clean(word);
-
-        if (cleanCopy.equals("being")) {
-            return true;
-        }
-
-        return (getTense(cleanCopy) != null
-                && getTense(cleanCopy) == GERUND_POS)
-                || (getTense(cleanCopy + GERUND_POS) != null
-                && getTense(cleanCopy + GERUND_POS) == GERUND_POS);
+        return hasFlag(word, GERUND);
     }
 
     /**
@@ -145,9 +87,7 @@ public class VerbUtility extends Utility {
      *         "to do", false otherwise
      */
     public static boolean isFormOfDo(final String word) {
-        String cleanCopy = clean(word);
-        return getPositiveDo().containsKey(cleanCopy)
-                || getNegativeDo().containsKey(cleanCopy);
+        return hasFlag(word, FORM_OF_DO);
     }
 
     /**
@@ -157,9 +97,7 @@ public class VerbUtility extends Utility {
      *         "to be", false otherwise
      */
     public static boolean isFormOfBe(final String word) {
-        String cleanCopy = clean(word);
-        return getPositiveBe().containsKey(cleanCopy)
-                || getNegativeBe().containsKey(cleanCopy);
+        return hasFlag(word, FORM_OF_BE);
     }
 
     /**
@@ -170,8 +108,7 @@ public class VerbUtility extends Utility {
      *         verb "to be", false otherwise
      */
     public static boolean isPositiveBe(final String word) {
-        String cleanCopy = clean(word);
-        return getPositiveBe().containsKey(cleanCopy);
+        return hasFlag(word, POSITIVE_BE);
     }
 
     /**
@@ -182,8 +119,7 @@ public class VerbUtility extends Utility {
      *         verb "to have", false otherwise
      */
     public static boolean isPositiveHave(final String word) {
-        String cleanCopy = clean(word);
-        return getPositiveHave().containsKey(cleanCopy);
+        return hasFlag(word, POSITIVE_HAVE);
     }
 
     /**
@@ -194,8 +130,7 @@ public class VerbUtility extends Utility {
      *         verb "to be", false otherwise
      */
     public static boolean isNegativeBe(final String word) {
-        String cleanCopy = clean(word);
-        return getNegativeBe().containsKey(cleanCopy);
+        return hasFlag(word, NEGATIVE_BE);
     }
 
     /**
@@ -206,8 +141,7 @@ public class VerbUtility extends Utility {
      *         verb "to have", false otherwise
      */
     public static boolean isNegativeHave(final String word) {
-        String cleanCopy = clean(word);
-        return getNegativeHave().containsKey(cleanCopy);
+        return hasFlag(word, NEGATIVE_HAVE);
     }
 
     /**
@@ -218,8 +152,7 @@ public class VerbUtility extends Utility {
      *         verb "to do", false otherwise
      */
     public static boolean isPositiveDo(final String word) {
-        String cleanCopy = clean(word);
-        return getPositiveDo().containsKey(cleanCopy);
+        return hasFlag(word, POSITIVE_DO);
     }
 
     /**
@@ -229,9 +162,7 @@ public class VerbUtility extends Utility {
      *         "to have", false otherwise
      */
     public static boolean isFormOfHave(final String word) {
-        String cleanCopy = clean(word);
-        return getPositiveHave().containsKey(cleanCopy)
-                || getNegativeHave().containsKey(cleanCopy);
+        return hasFlag(word, FORM_OF_HAVE);
     }
 
     /**
@@ -241,9 +172,7 @@ public class VerbUtility extends Utility {
      *         false otherwise
      */
     public static boolean isModal(final String word) {
-        String cleanCopy = clean(word);
-        return getPositiveModalVerbs().containsKey(cleanCopy)
-                || getNegativeModalVerbs().containsKey(cleanCopy);
+        return hasFlag(word, MODAL);
     }
 
     /**
@@ -253,10 +182,7 @@ public class VerbUtility extends Utility {
      *           false otherwise
      */
     public static boolean isVerb(final String word) {
-        String cleanCopy = clean(word);
-        return isModal(cleanCopy) || getVerbs().containsKey(cleanCopy)
-                || isFormOfBe(cleanCopy) || isFormOfDo(cleanCopy)
-                || isFormOfHave(cleanCopy);
+        return hasFlag(word, VERB);
     }
 
     /**
@@ -267,8 +193,7 @@ public class VerbUtility extends Utility {
      *         verb "to do", false otherwise
      */
     public static boolean isNegativeFormOfDo(final String word) {
-        String cleanCopy = clean(word);
-        return getNegativeDo().containsKey(cleanCopy);
+        return hasFlag(word, NEGATIVE_DO);
     }
 
     /**
@@ -280,7 +205,7 @@ public class VerbUtility extends Utility {
      */
     public static String getThirdPerson(final String infinitive) {
         String cleanCopy = clean(infinitive);
-        return getInfinitiveThirdPersonMapping().get(cleanCopy);
+        return LEXICON.getVerbTable().getThirdPerson(cleanCopy);
     }
 
     /**
@@ -292,7 +217,7 @@ public class VerbUtility extends Utility {
      */
     public static String getPerfect(final String infinitive) {
         String cleanCopy = clean(infinitive);
-        return getInfinitivePerfectMapping().get(cleanCopy);
+        return LEXICON.getVerbTable().getPerfect(cleanCopy);
     }
 
     /**
@@ -303,16 +228,17 @@ public class VerbUtility extends Utility {
      */
     public static String getInfinitive(final String verb) {
         String cleanCopy = clean(verb);
+        long flags = getWordFlags(cleanCopy);
 
-        if (isModal(cleanCopy)) {
+        if ((flags & MODAL) != 0L) {
             return cleanCopy;
         }
 
-        if (isFormOfBe(cleanCopy)) {
+        if ((flags & FORM_OF_BE) != 0L) {
             return "be";
         }
 
-        return getVerbs().get(cleanCopy);
+        return LEXICON.getVerbTable().getInfinitive(cleanCopy);
     }
 
     /**
@@ -324,18 +250,7 @@ public class VerbUtility extends Utility {
      */
     public static boolean sameTense(final String verb1,
                                     final String verb2) {
-        String cleanCopy1 = clean(verb1);
-        String cleanCopy2 = clean(verb2);
-        return (isInfinitive(cleanCopy1)
-                && isInfinitive(cleanCopy2))
-                || (isPerfect(cleanCopy1)
-                && isPerfect(cleanCopy2))
-                || (isPastParticiple(cleanCopy1)
-                && isPastParticiple(cleanCopy2))
-                || (isThirdPerson(cleanCopy1)
-                && isThirdPerson(cleanCopy2))
-                || (isGerund(cleanCopy1)
-                && isGerund(cleanCopy2));
+        return (getWordFlags(verb1) & getWordFlags(verb2) & TENSE) != 0L;
     }
 
     /**
@@ -345,8 +260,7 @@ public class VerbUtility extends Utility {
      *         false otherwise
      */
     public static boolean isPositiveModal(final String word) {
-        String cleanCopy = clean(word);
-        return getPositiveModalVerbs().containsKey(cleanCopy);
+        return hasFlag(word, POSITIVE_MODAL);
     }
 
     /**
@@ -356,8 +270,7 @@ public class VerbUtility extends Utility {
      *         false otherwise
      */
     public static boolean isNegativeModal(final String word) {
-        String cleanCopy = clean(word);
-        return getNegativeModalVerbs().containsKey(cleanCopy);
+        return hasFlag(word, NEGATIVE_MODAL);
     }
 
     /**
@@ -368,18 +281,19 @@ public class VerbUtility extends Utility {
      *         "start" or "stop", false otherwise
      */
     public static boolean isStartOrStop(final String word) {
-        String cleanCopy = clean(word);
-        return getStartStopMapping().containsKey(cleanCopy);
+        return hasFlag(word, START_OR_STOP);
     }
 
     /**
-     * Gets the tense of the given word, if it's a verb.
-     * @param word - verb whose tense we need
-     * @return tense if the word is a verb, null otherwise
+     * Gets the tenses of the given word, if it's a verb.
+     * @param word - verb whose tenses we need
+     * @return mask with the bit (1 &lt;&lt; tense number) set
+     *         for every tense of the verb, 0 if the word is
+     *         not a verb
      */
-    public static Integer getTense(final String word) {
+    public static int getTenses(final String word) {
         String cleanCopy = clean(word);
-        return getVerbTenses().get(cleanCopy);
+        return LEXICON.getVerbTable().getTenses(cleanCopy);
     }
 
     /**
@@ -391,7 +305,7 @@ public class VerbUtility extends Utility {
      */
     public static String getStartStop(final String word) {
         String cleanCopy = clean(word);
-        return getStartStopMapping().get(cleanCopy);
+        return LEXICON.getStartStopMapping().get(cleanCopy);
     }
 
     /**
@@ -408,8 +322,9 @@ public class VerbUtility extends Utility {
 
         if (position > 0) {
             String previous = clean(words[position - 1]);
-            if (getTwoPartVerbs().containsKey(previous + " " + mainVerb)) {
-                return getTwoPartVerbs().get(previous + " " + mainVerb);
+            String phrase = previous + " " + mainVerb;
+            if (LEXICON.getTwoPartVerbs().containsKey(phrase)) {
+                return LEXICON.getTwoPartVerbs().get(phrase);
             }
         }
 
@@ -423,8 +338,7 @@ public class VerbUtility extends Utility {
      *         verb, false otherwise
      */
     public static boolean isNewSubSentenceVerb(final String word) {
-        String cleanCopy = clean(word);
-        return getNewSentenceVerbs().contains(cleanCopy);
+        return hasFlag(word, NEW_SUB_SENTENCE_VERB);
     }
 
     /**
@@ -451,9 +365,9 @@ public class VerbUtility extends Utility {
         String cleanCopy = clean(word);
 
         if (isPositiveModal(cleanCopy)) {
-            return getPositiveModalVerbs().get(cleanCopy);
+            return LEXICON.getPositiveModalVerbs().get(cleanCopy);
         } else {
-            return getNegativeModalVerbs().get(cleanCopy);
+            return LEXICON.getNegativeModalVerbs().get(cleanCopy);
         }
     }
 
@@ -466,9 +380,9 @@ public class VerbUtility extends Utility {
         String cleanCopy = clean(word);
 
         if (isPositiveBe(cleanCopy)) {
-            return getPositiveBe().get(cleanCopy);
+            return LEXICON.getPositiveBe().get(cleanCopy);
         } else {
-            return getNegativeBe().get(cleanCopy);
+            return LEXICON.getNegativeBe().get(cleanCopy);
         }
     }
 
@@ -481,9 +395,9 @@ public class VerbUtility extends Utility {
         String cleanCopy = clean(word);
 
         if (isPositiveHave(cleanCopy)) {
-            return getPositiveHave().get(cleanCopy);
+            return LEXICON.getPositiveHave().get(cleanCopy);
         } else {
-            return getNegativeHave().get(cleanCopy);
+            return LEXICON.getNegativeHave().get(cleanCopy);
         }
     }
 
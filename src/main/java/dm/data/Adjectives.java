@@ -16,11 +16,6 @@ import static dm.data.DataUtil.readFileToStringArray;
  */
 public final class Adjectives {
 
-    /**
-     * Set for adjectives.
-     */
-    private static HashSet<String> adjectives;
-
     /**
      * Empty private constructor for preventing
      * public or default constructor.
@@ -31,27 +26,17 @@ public final class Adjectives {
     /**
      * Reads the adjectives from the file and
      * stores them in a HashSet.
+     * @return the adjectives HashSet
      */
-    private static void setAdjectives() {
-        adjectives = new HashSet<>();
+    static HashSet<String> createAdjectives() {
+        HashSet<String> adjectives = new HashSet<>();
         String[] words = readFileToStringArray(
                 "Adjectives.txt");
         assert words != null;
         for (String word : words) {
             adjectives.add(word.toLowerCase());
         }
-    }
-
-    /**
-     * Gives back the adjectives HashSet.
-     * If it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the adjectives HashSet
-     */
-    public static HashSet<String> getAdjectives() {
-        if (adjectives == null) {
-            setAdjectives();
-        }
         return adjectives;
     }
+
 }
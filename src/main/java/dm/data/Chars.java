@@ -14,32 +14,61 @@ import java.util.HashSet;
 public final class Chars {
 
     /**
-     * Set for storing characters that should have a space
+     * Class flag for characters that should have a space
      * behind them.
      */
-    private static HashSet<Character> charsWithSpaceAfter;
+    public static final int SPACE_AFTER = 1;
 
     /**
-     * Set for storing characters that should have a space
+     * Class flag for characters that should have a space
      * before them.
      */
-    private static HashSet<Character> charsWithSpaceBefore;
+    public static final int SPACE_BEFORE = 1 << 1;
 
     /**
-     * Set for storing characters that should have a spaces
+     * Class flag for characters that should have spaces
      * around them.
      */
-    private static HashSet<Character> charsWithSpacesAround;
+    public static final int SPACES_AROUND = 1 << 2;
 
     /**
-     * Set for storing punctuation characters.
+     * Class flag for quote characters.
      */
-    private static HashSet<Character> punctuation;
+    public static final int QUOTE = 1 << 3;
 
     /**
-     * Set for storing quote characters.
+     * Class flag for punctuation characters.
      */
-    private static HashSet<Character> quotes;
+    public static final int PUNCTUATION = 1 << 4;
+
+    /**
+     * Class flag for characters that are kept in a clean
+     * word (letters, digits, apostrophe and hyphen).
+     */
+    public static final int WORD = 1 << 5;
+
+    /**
+     * Class flag for whitespace characters.
+     */
+    public static final int WHITESPACE = 1 << 6;
+
+    /**
+     * All the flags of the special characters.
+     */
+    public static final int SPECIAL
+            = SPACE_AFTER | SPACE_BEFORE | SPACES_AROUND | QUOTE;
+
+    /**
+     * Number of characters covered by the class table.
+     * All the special characters are ASCII.
+     */
+    private static final int TABLE_SIZE = 128;
+
+    /**
+     * Class flags of every ASCII character, built from
+     * the sets of characters below.
+     */
+    private static final int[] CHAR_CLASSES = buildCharClasses();
 
     /**
      * Empty private constructor for preventing
@@ -51,9 +80,14 @@ public final class Chars {
     /**
      * Stores the characters with a space behind them
      * in a HashSet.
+     * @param punctuation - the punctuation characters, which
+     *                    also have a space behind them
+     * @return the chars with space after HashSet
      */
-    private static void setCharsWithSpaceAfter() {
-        charsWithSpaceAfter = new HashSet<>();
+    private static HashSet<Character> createCharsWithSpaceAfter(
+            final HashSet<Character> punctuation) {
+
+        HashSet<Character> charsWithSpaceAfter = new HashSet<>();
         charsWithSpaceAfter.add(',');
         charsWithSpaceAfter.add(';');
         charsWithSpaceAfter.add(':');
@@ -61,120 +95,123 @@ public final class Chars {
         charsWithSpaceAfter.add(']');
         charsWithSpaceAfter.add('}');
         charsWithSpaceAfter.add('%');
-
-        if (punctuation == null) {
-            setPunctuation();
-        }
-
         charsWithSpaceAfter.addAll(punctuation);
+        return charsWithSpaceAfter;
     }
 
     /**
      * Stores the characters with a space before them
      * in a HashSet.
+     * @return the chars with space before HashSet
      */
-    private static void setCharsWithSpaceBefore() {
-        charsWithSpaceBefore = new HashSet<>();
+    private static HashSet<Character> createCharsWithSpaceBefore() {
+        HashSet<Character> charsWithSpaceBefore = new HashSet<>();
         charsWithSpaceBefore.add('{');
         charsWithSpaceBefore.add('(');
         charsWithSpaceBefore.add('[');
+        return charsWithSpaceBefore;
     }
 
     /**
      * Stores the characters with a spaces around them
      * in a HashSet.
+     * @return the chars with spaces around HashSet
      */
-    private static void setCharsWithSpacesAround() {
-        charsWithSpacesAround = new HashSet<>();
+    private static HashSet<Character> createCharsWithSpacesAround() {
+        HashSet<Character> charsWithSpacesAround = new HashSet<>();
         charsWithSpacesAround.add('&');
         charsWithSpacesAround.add('+');
         charsWithSpacesAround.add('*');
         charsWithSpacesAround.add('-');
         charsWithSpacesAround.add('/');
+        return charsWithSpacesAround;
     }
 
     /**
      * Stores the quote characters in a HashSet.
+     * @return the quotes HashSet
      */
-    private static void setQuotes() {
-        quotes = new HashSet<>();
+    private static HashSet<Character> createQuotes() {
+        HashSet<Character> quotes = new HashSet<>();
         quotes.add('\'');
         quotes.add('\"');
+        return quotes;
     }
 
     /**
      * Stores the punctuation characters in a HashSet.
+     * @return the punctuation HashSet
      */
-    private static void setPunctuation() {
-        punctuation = new HashSet<>();
+    private static HashSet<Character> createPunctuation() {
+        HashSet<Character> punctuation = new HashSet<>();
         punctuation.add('.');
         punctuation.add('!');
         punctuation.add('?');
+        return punctuation;
     }
 
     /**
-     * Gives back chars-with-space-after HashSet. If
-     * it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the chars-with-space-after HashSet
+     * Builds the table with the class flags of every
+     * ASCII character.
+     * @return the class table
      */
-    public static HashSet<Character> getCharsWithSpaceAfter() {
-        if (charsWithSpaceAfter == null) {
-            setCharsWithSpaceAfter();
-        }
-        return charsWithSpaceAfter;
-    }
+    private static int[] buildCharClasses() {
+        int[] classes = new int[TABLE_SIZE];
 
-    /**
-     * Gives back chars-with-space-before HashSet. If
-     * it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the chars-with-space-before HashSet
-     */
-    public static HashSet<Character> getCharsWithSpaceBefore() {
-        if (charsWithSpaceBefore == null) {
-            setCharsWithSpaceBefore();
+        HashSet<Character> punctuation = createPunctuation();
+
+        addFlag(classes, createCharsWithSpaceAfter(punctuation), SPACE_AFTER);
+        addFlag(classes, createCharsWithSpaceBefore(), SPACE_BEFORE);
+        addFlag(classes, createCharsWithSpacesAround(), SPACES_AROUND);
+        addFlag(classes, createQuotes(), QUOTE);
+        addFlag(classes, punctuation, PUNCTUATION);
+
+        for (char c = 0; c < TABLE_SIZE; c++) {
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+                    || (c >= '0' && c <= '9') || c == '\'' || c == '-') {
+                classes[c] |= WORD;
+            }
+            if (Character.isWhitespace(c)) {
+                classes[c] |= WHITESPACE;
+            }
         }
-        return charsWithSpaceBefore;
+
+        return classes;
     }
 
     /**
-     * Gives back chars-with-spaces-around HashSet. If
-     * it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the chars-with-spaces-around HashSet
+     * Adds the flag to all the characters from the set.
+     * @param classes - the class table
+     * @param chars - characters that get the flag
+     * @param flag - the flag to be added
      */
-    public static HashSet<Character> getCharsWithSpacesAround() {
-        if (charsWithSpacesAround == null) {
-            setCharsWithSpacesAround();
+    private static void addFlag(final int[] classes,
+                                final HashSet<Character> chars,
+                                final int flag) {
+        for (char c : chars) {
+            classes[c] |= flag;
         }
-        return charsWithSpacesAround;
     }
 
     /**
-     * Gives back punctuation-chars HashSet. If
-     * it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the punctuation-chars HashSet
+     * Gives back the class flags of the character. Characters
+     * outside of ASCII have no flags.
+     * @param c - the character
+     * @return the class flags
      */
-    public static HashSet<Character> getPunctuation() {
-        if (punctuation == null) {
-            setPunctuation();
-        }
-        return punctuation;
+    public static int getCharClass(final char c) {
+        return c < TABLE_SIZE ? CHAR_CLASSES[c] : 0;
     }
 
     /**
-     * Gives back quote-chars HashSet. If
-     * it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the quote-chars HashSet
+     * Checks if the character is kept in a clean word.
+     * @param c - the character
+     * @return true if the character is a letter, a digit, an
+     *         apostrophe, a hyphen or a whitespace
      */
-    public static HashSet<Character> getQuotes() {
-        if (quotes == null) {
-            setQuotes();
-        }
-        return quotes;
+    public static boolean isKept(final char c) {
+        return (getCharClass(c) & (WORD | WHITESPACE)) != 0
+                || (c >= TABLE_SIZE && Character.isWhitespace(c));
     }
 
 }
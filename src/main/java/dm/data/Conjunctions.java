@@ -11,17 +11,6 @@ import java.util.HashSet;
  */
 public final class Conjunctions {
 
-    /**
-     * Set for storing only sentence conjunction words
-     * (and, or, nor, but).
-     */
-    private static HashSet<String> sentenceConjunctions;
-
-    /**
-     * Set for storing other conjunction words.
-     */
-    private static HashSet<String> otherConjunctions;
-
     /**
      * Empty private constructor for preventing
      * public or default constructor.
@@ -31,49 +20,27 @@ public final class Conjunctions {
 
     /**
      * Stores the sentence conjunction words in a HashSet.
+     * @return the sentence-conjunction-words HashSet
      */
-    private static void setSentenceConjunctions() {
-        sentenceConjunctions = new HashSet<>();
+    static HashSet<String> createSentenceConjunctions() {
+        HashSet<String> sentenceConjunctions = new HashSet<>();
         sentenceConjunctions.add("and");
         sentenceConjunctions.add("or");
         sentenceConjunctions.add("but");
         sentenceConjunctions.add("nor");
+        return sentenceConjunctions;
     }
 
     /**
      * Stores the other conjunction words in a HashSet.
+     * @return the all-conjunction-words HashSet
      */
-    private static void setOtherConjunctions() {
-        otherConjunctions = new HashSet<>();
+    static HashSet<String> createOtherConjunctions() {
+        HashSet<String> otherConjunctions = new HashSet<>();
         otherConjunctions.add("yet");
         otherConjunctions.add("so");
         otherConjunctions.add("for");
         otherConjunctions.add("off");
-    }
-
-    /**
-     * Gives back sentence-conjunction-words HashSet. If
-     * it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the sentence-conjunction-words HashSet
-     */
-    public static HashSet<String> getSentenceConjunctions() {
-        if (sentenceConjunctions == null) {
-            setSentenceConjunctions();
-        }
-        return sentenceConjunctions;
-    }
-
-    /**
-     * Gives back other-conjunction-words HashSet. If
-     * it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the all-conjunction-words HashSet
-     */
-    public static HashSet<String> getOtherConjunctions() {
-        if (otherConjunctions == null) {
-            setOtherConjunctions();
-        }
         return otherConjunctions;
     }
 
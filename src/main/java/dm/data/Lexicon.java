@@ -0,0 +1,731 @@
+package dm.data;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+/**
+ * Immutable snapshot of all the word collections. It's built
+ * at once by load(), where the collections read from files are
+ * built in parallel and the rest is built meanwhile. None of
+ * the collections can be changed afterwards and all the fields
+ * are final, so one snapshot can be shared by any number of
+ * threads without synchronization.
+ */
+public final class Lexicon {
+
+    /**
+     * Set of the adjectives.
+     */
+    private final Set<String> adjectives;
+
+    /**
+     * Set of the sentence conjunction words (and, or, nor, but).
+     */
+    private final Set<String> sentenceConjunctions;
+
+    /**
+     * Set of the other conjunction words.
+     */
+    private final Set<String> otherConjunctions;
+
+    /**
+     * Set of the skip interrogative words.
+     */
+    private final Set<String> skipInterrogatives;
+
+    /**
+     * Set of the push interrogative words.
+     */
+    private final Set<String> pushInterrogatives;
+
+    /**
+     * Set of the negate interrogative words.
+     */
+    private final Set<String> negateInterrogatives;
+
+    /**
+     * Set of the words considered while training the Naive Bayes.
+     */
+    private final Set<String> trainingWords;
+
+    /**
+     * Set of the words considered in the execution of the Naive Bayes.
+     */
+    private final Set<String> testingWords;
+
+    /**
+     * Set of the Russia keywords.
+     */
+    private final Set<String> russiaKeywords;
+
+    /**
+     * Set of the words ignored while processing.
+     */
+    private final Set<String> ignoreWords;
+
+    /**
+     * Map of the positive modal verbs mapped to their negative forms.
+     */
+    private final Map<String, String> positiveModalVerbs;
+
+    /**
+     * Map of the negative modal verbs mapped to their positive forms.
+     */
+    private final Map<String, String> negativeModalVerbs;
+
+    /**
+     * Map of the positive forms of the verb "to do" mapped to the
+     * negative ones.
+     */
+    private final Map<String, String> positiveDo;
+
+    /**
+     * Map of the negative forms of the verb "to do" mapped to the
+     * positive ones.
+     */
+    private final Map<String, String> negativeDo;
+
+    /**
+     * Map of the positive forms of the verb "to be" mapped to the
+     * negative ones.
+     */
+    private final Map<String, String> positiveBe;
+
+    /**
+     * Map of the negative forms of the verb "to be" mapped to the
+     * positive ones.
+     */
+    private final Map<String, String> negativeBe;
+
+    /**
+     * Map of the positive forms of the verb "to have" mapped to the
+     * negative ones.
+     */
+    private final Map<String, String> positiveHave;
+
+    /**
+     * Map of the negative forms of the verb "to have" mapped to the
+     * positive ones.
+     */
+    private final Map<String, String> negativeHave;
+
+    /**
+     * Set of the nouns in singular form.
+     */
+    private final Set<String> singularNouns;
+
+    /**
+     * Set of the nouns in plural form.
+     */
+    private final Set<String> pluralNouns;
+
+    /**
+     * Set of the English male first names.
+     */
+    private final Set<String> maleNames;
+
+    /**
+     * Set of the English female first names.
+     */
+    private final Set<String> femaleNames;
+
+    /**
+     * Set of the English last names.
+     */
+    private final Set<String> lastNames;
+
+    /**
+     * Set of the articles.
+     */
+    private final Set<String> articles;
+
+    /**
+     * Set of the skip phrases checked on the current and the next
+     * position.
+     */
+    private final Set<String> currentNextSkipPhrases;
+
+    /**
+     * Set of the skip phrases checked on the previous and the current
+     * position.
+     */
+    private final Set<String> previousCurrentSkipPhrases;
+
+    /**
+     * Set of the skip phrases checked on the before previous and the
+     * previous position.
+     */
+    private final Set<String> beforePreviousPreviousSkipPhrases;
+
+    /**
+     * Set of the sub-sentence phrases.
+     */
+    private final Set<String> subSentencePhrases;
+
+    /**
+     * Set of the prepositions.
+     */
+    private final Set<String> prepositions;
+
+    /**
+     * Set of the singular pronouns.
+     */
+    private final Set<String> singularPronouns;
+
+    /**
+     * Set of the plural pronouns.
+     */
+    private final Set<String> pluralPronouns;
+
+    /**
+     * Set of the basic pronouns.
+     */
+    private final Set<String> basicPronouns;
+
+    /**
+     * Set of the possessive pronouns.
+     */
+    private final Set<String> possessivePronouns;
+
+    /**
+     * Set of the all other pronouns.
+     */
+    private final Set<String> otherPronouns;
+
+    /**
+     * Map of the indefinite pronouns mapped to their negative forms.
+     */
+    private final Map<String, String> indefinitePronouns;
+
+    /**
+     * Map of the negative indefinite pronouns mapped to their positive
+     * forms.
+     */
+    private final Map<String, String> negIndefinitePronouns;
+
+    /**
+     * Morphology table of the non-modal verbs.
+     */
+    private final VerbTable verbTable;
+
+    /**
+     * Map of the two-part verbs mapped to their noun part.
+     */
+    private final Map<String, String> twoPartVerbs;
+
+    /**
+     * Map of the forms of the verb "start" mapped to the same forms of
+     * "stop" and vice versa.
+     */
+    private final Map<String, String> startStopMapping;
+
+    /**
+     * Set of the verbs usually starting a new sub-sentence.
+     */
+    private final Set<String> newSentenceVerbs;
+
+    /**
+     * Slash abbreviations.
+     */
+    private final String[] abbreviations;
+
+    /**
+     * Map of all the words from the collections above mapped
+     * to their word class flags.
+     */
+    private final Map<String, Long> wordFlags;
+
+    /**
+     * Ids of all the words of the word flags and the phrases.
+     */
+    private final Vocabulary vocabulary;
+
+    /**
+     * Index of the phrases from all the phrase sets above.
+     */
+    private final PhraseIndex phraseIndex;
+
+    /**
+     * Builds all the collections. The constructor waits until
+     * the collections read from files are built. The word flags,
+     * the vocabulary and the phrase index are compiled last, from
+     * all the other collections.
+     */
+    private Lexicon() {
+        CompletableFuture<VerbTable> verbTableTask
+                = supplyAsync(Verbs::createVerbTable);
+        CompletableFuture<HashSet<String>> adjectivesTask
+                = supplyAsync(Adjectives::createAdjectives);
+        CompletableFuture<HashSet<String>> trainingWordsTask
+                = supplyAsync(MlData::createTrainingWords);
+        CompletableFuture<HashSet<String>> testingWordsTask
+                = supplyAsync(MlData::createTestingWords);
+        CompletableFuture<HashSet<String>> singularNounsTask
+                = supplyAsync(Nouns::createSingularNouns);
+        CompletableFuture<HashSet<String>> pluralNounsTask
+                = supplyAsync(Nouns::createPluralNouns);
+        CompletableFuture<HashSet<String>> maleNamesTask
+                = supplyAsync(Nouns::createMaleNames);
+        CompletableFuture<HashSet<String>> femaleNamesTask
+                = supplyAsync(Nouns::createFemaleNames);
+        CompletableFuture<HashSet<String>> lastNamesTask
+                = supplyAsync(Nouns::createLastNames);
+        CompletableFuture<HashSet<String>> newSentenceVerbsTask
+                = supplyAsync(Verbs::createNewSentenceVerbs);
+        CompletableFuture<String[]> abbreviationsTask
+                = supplyAsync(MlData::createAbbreviations);
+
+        sentenceConjunctions = unmodifiableSet(
+                Conjunctions.createSentenceConjunctions());
+        otherConjunctions = unmodifiableSet(
+                Conjunctions.createOtherConjunctions());
+        skipInterrogatives = unmodifiableSet(
+                Interrogatives.createSkipInterrogatives());
+        pushInterrogatives = unmodifiableSet(
+                Interrogatives.createPushInterrogatives());
+        negateInterrogatives = unmodifiableSet(
+                Interrogatives.createNegateInterrogatives());
+        russiaKeywords = unmodifiableSet(MlData.createRussiaKeywords());
+        ignoreWords = unmodifiableSet(MlData.createIgnoreWords());
+        positiveModalVerbs = unmodifiableMap(Modals.createPositiveModalVerbs());
+        negativeModalVerbs = unmodifiableMap(Modals.createNegativeModalVerbs());
+        positiveDo = unmodifiableMap(Modals.createPositiveDo());
+        negativeDo = unmodifiableMap(Modals.createNegativeDo());
+        positiveBe = unmodifiableMap(Modals.createPositiveBe());
+        negativeBe = unmodifiableMap(Modals.createNegativeBe());
+        positiveHave = unmodifiableMap(Modals.createPositiveHave());
+        negativeHave = unmodifiableMap(Modals.createNegativeHave());
+        articles = unmodifiableSet(Nouns.createArticles());
+        currentNextSkipPhrases = unmodifiableSet(
+                Phrase.createCurrentNextSkipPhrases());
+        previousCurrentSkipPhrases = unmodifiableSet(
+                Phrase.createPreviousCurrentSkipPhrases());
+        beforePreviousPreviousSkipPhrases = unmodifiableSet(
+                Phrase.createBeforePreviousPreviousSkipPhrases());
+        subSentencePhrases = unmodifiableSet(Phrase.createSubSentencePhrases());
+        prepositions = unmodifiableSet(Prepositions.createPrepositions());
+        possessivePronouns = unmodifiableSet(
+                Pronouns.createPossessivePronouns());
+        otherPronouns = unmodifiableSet(Pronouns.createOtherPronouns());
+        indefinitePronouns = unmodifiableMap(
+                Pronouns.createIndefinitePronouns());
+        negIndefinitePronouns = unmodifiableMap(
+                Pronouns.createNegIndefinitePronouns());
+        twoPartVerbs = unmodifiableMap(Verbs.createTwoPartVerbs());
+        startStopMapping = unmodifiableMap(Verbs.createStartStopMapping());
+
+        HashSet<String> singular = Pronouns.createSingularPronouns();
+        HashSet<String> plural = Pronouns.createPluralPronouns();
+        singularPronouns = unmodifiableSet(singular);
+        pluralPronouns = unmodifiableSet(plural);
+        basicPronouns = unmodifiableSet(
+                Pronouns.createBasicPronouns(singular, plural));
+
+        adjectives = unmodifiableSet(adjectivesTask.join());
+        trainingWords = unmodifiableSet(trainingWordsTask.join());
+        testingWords = unmodifiableSet(testingWordsTask.join());
+        singularNouns = unmodifiableSet(singularNounsTask.join());
+        pluralNouns = unmodifiableSet(pluralNounsTask.join());
+        maleNames = unmodifiableSet(maleNamesTask.join());
+        femaleNames = unmodifiableSet(femaleNamesTask.join());
+        lastNames = unmodifiableSet(lastNamesTask.join());
+        newSentenceVerbs = unmodifiableSet(newSentenceVerbsTask.join());
+
+        verbTable = verbTableTask.join();
+
+        abbreviations = abbreviationsTask.join();
+
+        wordFlags = unmodifiableMap(WordFlags.createWordFlags(this));
+        vocabulary = new Vocabulary(this);
+        phraseIndex = new PhraseIndex(this);
+    }
+
+    /**
+     * Builds a new snapshot of all the word collections.
+     * @return the new snapshot
+     */
+    public static Lexicon load() {
+        return new Lexicon();
+    }
+
+    /**
+     * Gives back the set of the adjectives.
+     * @return the unmodifiable set
+     */
+    public Set<String> getAdjectives() {
+        return adjectives;
+    }
+
+    /**
+     * Gives back the set of the sentence conjunction words (and, or,
+     * nor, but).
+     * @return the unmodifiable set
+     */
+    public Set<String> getSentenceConjunctions() {
+        return sentenceConjunctions;
+    }
+
+    /**
+     * Gives back the set of the other conjunction words.
+     * @return the unmodifiable set
+     */
+    public Set<String> getOtherConjunctions() {
+        return otherConjunctions;
+    }
+
+    /**
+     * Gives back the set of the skip interrogative words.
+     * @return the unmodifiable set
+     */
+    public Set<String> getSkipInterrogatives() {
+        return skipInterrogatives;
+    }
+
+    /**
+     * Gives back the set of the push interrogative words.
+     * @return the unmodifiable set
+     */
+    public Set<String> getPushInterrogatives() {
+        return pushInterrogatives;
+    }
+
+    /**
+     * Gives back the set of the negate interrogative words.
+     * @return the unmodifiable set
+     */
+    public Set<String> getNegateInterrogatives() {
+        return negateInterrogatives;
+    }
+
+    /**
+     * Gives back the set of the words considered while training the
+     * Naive Bayes.
+     * @return the unmodifiable set
+     */
+    public Set<String> getTrainingWords() {
+        return trainingWords;
+    }
+
+    /**
+     * Gives back the set of the words considered in the execution of
+     * the Naive Bayes.
+     * @return the unmodifiable set
+     */
+    public Set<String> getTestingWords() {
+        return testingWords;
+    }
+
+    /**
+     * Gives back the set of the Russia keywords.
+     * @return the unmodifiable set
+     */
+    public Set<String> getRussiaKeywords() {
+        return russiaKeywords;
+    }
+
+    /**
+     * Gives back the set of the words ignored while processing.
+     * @return the unmodifiable set
+     */
+    public Set<String> getIgnoreWords() {
+        return ignoreWords;
+    }
+
+    /**
+     * Gives back the map of the positive modal verbs mapped to their
+     * negative forms.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getPositiveModalVerbs() {
+        return positiveModalVerbs;
+    }
+
+    /**
+     * Gives back the map of the negative modal verbs mapped to their
+     * positive forms.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getNegativeModalVerbs() {
+        return negativeModalVerbs;
+    }
+
+    /**
+     * Gives back the map of the positive forms of the verb "to do"
+     * mapped to the negative ones.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getPositiveDo() {
+        return positiveDo;
+    }
+
+    /**
+     * Gives back the map of the negative forms of the verb "to do"
+     * mapped to the positive ones.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getNegativeDo() {
+        return negativeDo;
+    }
+
+    /**
+     * Gives back the map of the positive forms of the verb "to be"
+     * mapped to the negative ones.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getPositiveBe() {
+        return positiveBe;
+    }
+
+    /**
+     * Gives back the map of the negative forms of the verb "to be"
+     * mapped to the positive ones.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getNegativeBe() {
+        return negativeBe;
+    }
+
+    /**
+     * Gives back the map of the positive forms of the verb "to have"
+     * mapped to the negative ones.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getPositiveHave() {
+        return positiveHave;
+    }
+
+    /**
+     * Gives back the map of the negative forms of the verb "to have"
+     * mapped to the positive ones.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getNegativeHave() {
+        return negativeHave;
+    }
+
+    /**
+     * Gives back the set of the nouns in singular form.
+     * @return the unmodifiable set
+     */
+    public Set<String> getSingularNouns() {
+        return singularNouns;
+    }
+
+    /**
+     * Gives back the set of the nouns in plural form.
+     * @return the unmodifiable set
+     */
+    public Set<String> getPluralNouns() {
+        return pluralNouns;
+    }
+
+    /**
+     * Gives back the set of the English male first names.
+     * @return the unmodifiable set
+     */
+    public Set<String> getMaleNames() {
+        return maleNames;
+    }
+
+    /**
+     * Gives back the set of the English female first names.
+     * @return the unmodifiable set
+     */
+    public Set<String> getFemaleNames() {
+        return femaleNames;
+    }
+
+    /**
+     * Gives back the set of the English last names.
+     * @return the unmodifiable set
+     */
+    public Set<String> getLastNames() {
+        return lastNames;
+    }
+
+    /**
+     * Gives back the set of the articles.
+     * @return the unmodifiable set
+     */
+    public Set<String> getArticles() {
+        return articles;
+    }
+
+    /**
+     * Gives back the set of the skip phrases checked on the current
+     * and the next position.
+     * @return the unmodifiable set
+     */
+    public Set<String> getCurrentNextSkipPhrases() {
+        return currentNextSkipPhrases;
+    }
+
+    /**
+     * Gives back the set of the skip phrases checked on the previous
+     * and the current position.
+     * @return the unmodifiable set
+     */
+    public Set<String> getPreviousCurrentSkipPhrases() {
+        return previousCurrentSkipPhrases;
+    }
+
+    /**
+     * Gives back the set of the skip phrases checked on the before
+     * previous and the previous position.
+     * @return the unmodifiable set
+     */
+    public Set<String> getBeforePreviousPreviousSkipPhrases() {
+        return beforePreviousPreviousSkipPhrases;
+    }
+
+    /**
+     * Gives back the set of the sub-sentence phrases.
+     * @return the unmodifiable set
+     */
+    public Set<String> getSubSentencePhrases() {
+        return subSentencePhrases;
+    }
+
+    /**
+     * Gives back the set of the prepositions.
+     * @return the unmodifiable set
+     */
+    public Set<String> getPrepositions() {
+        return prepositions;
+    }
+
+    /**
+     * Gives back the set of the singular pronouns.
+     * @return the unmodifiable set
+     */
+    public Set<String> getSingularPronouns() {
+        return singularPronouns;
+    }
+
+    /**
+     * Gives back the set of the plural pronouns.
+     * @return the unmodifiable set
+     */
+    public Set<String> getPluralPronouns() {
+        return pluralPronouns;
+    }
+
+    /**
+     * Gives back the set of the basic pronouns.
+     * @return the unmodifiable set
+     */
+    public Set<String> getBasicPronouns() {
+        return basicPronouns;
+    }
+
+    /**
+     * Gives back the set of the possessive pronouns.
+     * @return the unmodifiable set
+     */
+    public Set<String> getPossessivePronouns() {
+        return possessivePronouns;
+    }
+
+    /**
+     * Gives back the set of the all other pronouns.
+     * @return the unmodifiable set
+     */
+    public Set<String> getOtherPronouns() {
+        return otherPronouns;
+    }
+
+    /**
+     * Gives back the map of the indefinite pronouns mapped to their
+     * negative forms.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getIndefinitePronouns() {
+        return indefinitePronouns;
+    }
+
+    /**
+     * Gives back the map of the negative indefinite pronouns mapped to
+     * their positive forms.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getNegIndefinitePronouns() {
+        return negIndefinitePronouns;
+    }
+
+    /**
+     * Gives back the morphology table of the non-modal verbs.
+     * @return the immutable table
+     */
+    public VerbTable getVerbTable() {
+        return verbTable;
+    }
+
+    /**
+     * Gives back the map of the two-part verbs mapped to their noun
+     * part.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getTwoPartVerbs() {
+        return twoPartVerbs;
+    }
+
+    /**
+     * Gives back the map of the forms of the verb "start" mapped to
+     * the same forms of "stop" and vice versa.
+     * @return the unmodifiable map
+     */
+    public Map<String, String> getStartStopMapping() {
+        return startStopMapping;
+    }
+
+    /**
+     * Gives back the set of the verbs usually starting a new sub-
+     * sentence.
+     * @return the unmodifiable set
+     */
+    public Set<String> getNewSentenceVerbs() {
+        return newSentenceVerbs;
+    }
+
+    /**
+     * Gives back the map of the words mapped to their word class
+     * flags. The flags are defined in WordFlags.
+     * @return the unmodifiable map
+     */
+    public Map<String, Long> getWordFlags() {
+        return wordFlags;
+    }
+
+    /**
+     * Gives back the ids of all the words of the word flags
+     * and the phrases.
+     * @return the vocabulary
+     */
+    public Vocabulary getVocabulary() {
+        return vocabulary;
+    }
+
+    /**
+     * Gives back the index of all the phrases.
+     * @return the phrase index
+     */
+    public PhraseIndex getPhraseIndex() {
+        return phraseIndex;
+    }
+
+    /**
+     * Gives back the slash abbreviations. The array is a
+     * copy, so the snapshot stays unchanged.
+     * @return the slash abbreviations array
+     */
+    public String[] getAbbreviations() {
+        return abbreviations.clone();
+    }
+
+}
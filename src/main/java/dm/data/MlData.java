@@ -14,35 +14,6 @@ import static dm.data.DataUtil.readFileToStringArray;
  */
 public final class MlData {
 
-    /**
-     * Set for storing words that are being
-     * considered while training the Naive Bayes.
-     */
-    private static HashSet<String> trainingWords;
-
-    /**
-     * Set for storing words that are being
-     * considered in the execution of the Naive
-     * Bayes.
-     */
-    private static HashSet<String> testingWords;
-
-    /**
-     * Set for storing Russia keywords.
-     */
-    private static HashSet<String> russiaKeywords;
-
-    /**
-     * Set for words that should be ignored while
-     * processing.
-     */
-    private static HashSet<String> ignoreWords;
-
-    /**
-     * Array that stores slash abbreviations.
-     */
-    private static String[] abbreviations;
-
     /**
      * Empty private constructor for preventing
      * public or default constructor.
@@ -53,9 +24,10 @@ public final class MlData {
     /**
      * Reads the training words from the file and
      * stores them in a HashSet.
+     * @return the training words HashSet
      */
-    private static void setTrainingWords() {
-        trainingWords = new HashSet<>();
+    static HashSet<String> createTrainingWords() {
+        HashSet<String> trainingWords = new HashSet<>();
         String[] words = readFileToStringArray(
                 "RelevantTraining.txt");
 
@@ -63,14 +35,16 @@ public final class MlData {
         for (String word : words) {
             trainingWords.add(word);
         }
+        return trainingWords;
     }
 
     /**
      * Reads the testing words from the file and
      * stores them in a HashSet.
+     * @return the testing words HashSet
      */
-    private static void setTestingWords() {
-        testingWords = new HashSet<>();
+    static HashSet<String> createTestingWords() {
+        HashSet<String> testingWords = new HashSet<>();
         String[] words = readFileToStringArray(
                 "RelevantTesting.txt");
 
@@ -78,13 +52,15 @@ public final class MlData {
         for (String word : words) {
             testingWords.add(word);
         }
+        return testingWords;
     }
 
     /**
      * Sets the Russia keywords HashSet.
+     * @return the Russia keyword HashSet
      */
-    private static void setRussiaKeywords() {
-        russiaKeywords = new HashSet<>();
+    static HashSet<String> createRussiaKeywords() {
+        HashSet<String> russiaKeywords = new HashSet<>();
         russiaKeywords.add("russia");
         russiaKeywords.add("putin");
         russiaKeywords.add("vladimir");
@@ -93,97 +69,35 @@ public final class MlData {
         russiaKeywords.add("lavrov");
         russiaKeywords.add("russia");
         russiaKeywords.add("moscow");
+        return russiaKeywords;
     }
 
     /**
      * Sets the ignore words HashSet.
+     * @return the ignore words HashSet
      */
-    private static void setIgnoreWords() {
-        ignoreWords = new HashSet<>();
+    static HashSet<String> createIgnoreWords() {
+        HashSet<String> ignoreWords = new HashSet<>();
         ignoreWords.add("youtub");
         ignoreWords.add("http");
         ignoreWords.add("exxon");
+        return ignoreWords;
     }
 
-
     /**
      * Reads the slash abbreviations from the file and
      * stores them in an array.
+     * @return the slash abbreviations array, empty if
+     *         the file cannot be read
      */
-    private static void setAbbreviations() {
+    static String[] createAbbreviations() {
         try {
             File abbrev = new File("Abbreviations.txt");
             String allAbbr = Files.readFromFile(abbrev, "UTF-8");
-            abbreviations = allAbbr.split("\\s+");
+            return allAbbr.split("\\s+");
         } catch (IOException e) {
-            abbreviations = new String[0];
-        }
-    }
-
-    /**
-     * Gives back the training words HashSet. If it's not
-     * set at the moment of the method call, it will be
-     * set and then returned.
-     * @return the singular nouns HashSet
-     */
-    public static HashSet<String> getTrainingWords() {
-        if (trainingWords == null) {
-            setTrainingWords();
-        }
-        return trainingWords;
-    }
-
-    /**
-     * Gives back the testing words HashSet. If it's not
-     * set at the moment of the method call, it will be
-     * set and then returned.
-     * @return the plural nouns HashSet
-     */
-    public static HashSet<String> getTestingWords() {
-        if (testingWords == null) {
-            setTestingWords();
-        }
-        return testingWords;
-    }
-
-    /**
-     * Gives back the Russia keyword HashSet. If it's not
-     * set at the moment of the method call, it will be
-     * set and then returned.
-     * @return the Russia keyword HashSet
-     */
-    public static HashSet<String> getRussiaKeywords() {
-        if (russiaKeywords == null) {
-            setRussiaKeywords();
-        }
-        return russiaKeywords;
-    }
-
-    /**
-     * Gives back the ignore words HashSet. If it's not
-     * set at the moment of the method call, it will be
-     * set and then returned.
-     * @return the ignore words HashSet
-     */
-    public static HashSet<String> getIgnoreWords() {
-        if (ignoreWords == null) {
-            setIgnoreWords();
-        }
-        return ignoreWords;
-    }
-
-    /**
-     * Gives back the slash abbreviations array. If it's not
-     * set at the moment of the method call, it will be
-     * set and then returned.
-     * @return the slash abbreviations array
-     */
-    public static String[] getAbbreviations() {
-        if (abbreviations == null
-                || abbreviations.length == 0) {
-            setAbbreviations();
+            return new String[0];
         }
-        return abbreviations;
     }
 
 }
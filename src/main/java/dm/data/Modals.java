@@ -12,62 +12,6 @@ import java.util.HashMap;
  */
 public final class Modals {
 
-    /**
-     * HashMap for storing positive forms of modal verbs
-     * in all tenses. Key is a positive form and the value
-     * is a negative form of the verb in the same tense.
-     */
-    private static HashMap<String, String> positiveModalVerbs;
-
-    /**
-     * HashMap for storing negative forms of modal verbs
-     * in all tenses. Key is a negative form and the value
-     * is a positive form of the verb in the same tense.
-     */
-    private static HashMap<String, String> negativeModalVerbs;
-
-    /**
-     * HashMap for storing positive forms of the verb "to do"
-     * in all tenses. Key is a positive form and the value
-     * is a negative form of the verb in the same tense.
-     */
-    private static HashMap<String, String> positiveDo;
-
-    /**
-     * HashMap for storing negative forms of the verb "to do"
-     * in all tenses. Key is a negative form and the value
-     * is a positive form of the verb in the same tense.
-     */
-    private static HashMap<String, String> negativeDo;
-
-    /**
-     * HashMap for storing positive forms of the verb "to be"
-     * in all tenses. Key is a positive form and the value
-     * is a negative form of the verb in the same tense.
-     */
-    private static HashMap<String, String> positiveBe;
-
-    /**
-     * HashMap for storing negative forms of the verb "to be"
-     * in all tenses. Key is a negative form and the value
-     * is a positive form of the verb in the same tense.
-     */
-    private static HashMap<String, String> negativeBe;
-
-    /**
-     * HashMap for storing positive forms of the verb "to have"
-     * in all tenses. Key is a positive form and the value
-     * is a negative form of the verb in the same tense.
-     */
-    private static HashMap<String, String> positiveHave;
-
-    /**
-     * HashMap for storing negative forms of the verb "to have"
-     * in all tenses. Key is a negative form and the value
-     * is a positive form of the verb in the same tense.
-     */
-    private static HashMap<String, String> negativeHave;
-
     /**
      * Empty private constructor for preventing
      * public or default constructor.
@@ -77,9 +21,10 @@ public final class Modals {
 
     /**
      * Stores the positive modal verbs in a HashMap.
+     * @return the positive modal verbs HashMap
      */
-    private static void setPositiveModalVerbs() {
-        positiveModalVerbs = new HashMap<>();
+    static HashMap<String, String> createPositiveModalVerbs() {
+        HashMap<String, String> positiveModalVerbs = new HashMap<>();
         positiveModalVerbs.put("will", "won't");
         positiveModalVerbs.put("would", "wouldn't");
         positiveModalVerbs.put("can", "can't");
@@ -90,199 +35,104 @@ public final class Modals {
         positiveModalVerbs.put("ought", "ought not");
         positiveModalVerbs.put("may", "may not");
         positiveModalVerbs.put("might", "might not");
+        return positiveModalVerbs;
     }
 
     /**
      * Stores the negative modal verbs in a HashMap.
+     * @return the negative modal verbs HashMap
      */
-    private static void setNegativeModalVerbs() {
-        negativeModalVerbs = new HashMap<>();
+    static HashMap<String, String> createNegativeModalVerbs() {
+        HashMap<String, String> negativeModalVerbs = new HashMap<>();
         negativeModalVerbs.put("can't", "can");
         negativeModalVerbs.put("couldn't", "could");
         negativeModalVerbs.put("shouldn't", "should");
         negativeModalVerbs.put("won't", "will");
-        positiveModalVerbs.put("cannot", "can");
+        negativeModalVerbs.put("cannot", "can");
         negativeModalVerbs.put("wouldn't", "would");
+        return negativeModalVerbs;
     }
 
     /**
      * Stores the positive forms of the verb "to do"
      * in a HashMap.
+     * @return the positive forms of the verb "to do"
      */
-    private static void setPositiveDo() {
-        positiveDo = new HashMap<>();
+    static HashMap<String, String> createPositiveDo() {
+        HashMap<String, String> positiveDo = new HashMap<>();
         positiveDo.put("do", "don't");
         positiveDo.put("did", "didn't");
         positiveDo.put("does", "doesn't");
         positiveDo.put("done", "not done");
+        return positiveDo;
     }
 
     /**
      * Stores the negative forms of the verb "to do"
      * in a HashMap.
+     * @return the negative forms of the verb "to do"
      */
-    private static void setNegativeDo() {
-        negativeDo = new HashMap<>();
+    static HashMap<String, String> createNegativeDo() {
+        HashMap<String, String> negativeDo = new HashMap<>();
         negativeDo.put("don't", "do");
         negativeDo.put("didn't", "did");
         negativeDo.put("doesn't", "does");
+        return negativeDo;
     }
 
     /**
      * Stores the positive forms of the verb "to be"
      * in a HashMap.
+     * @return the positive forms of the verb "to be"
      */
-    private static void setPositiveBe() {
-        positiveBe = new HashMap<>();
+    static HashMap<String, String> createPositiveBe() {
+        HashMap<String, String> positiveBe = new HashMap<>();
         positiveBe.put("be", "not be");
         positiveBe.put("am", "am not");
         positiveBe.put("is", "isn't");
         positiveBe.put("are", "aren't");
         positiveBe.put("was", "wasn't");
         positiveBe.put("were", "weren't");
+        return positiveBe;
     }
 
     /**
      * Stores the negative forms of the verb "to be"
      * in a HashMap.
+     * @return the negative forms of the verb "to be"
      */
-    private static void setNegativeBe() {
-        negativeBe = new HashMap<>();
+    static HashMap<String, String> createNegativeBe() {
+        HashMap<String, String> negativeBe = new HashMap<>();
         negativeBe.put("isn't", "is");
         negativeBe.put("aren't", "are");
         negativeBe.put("wasn't", "was");
         negativeBe.put("weren't", "were");
+        return negativeBe;
     }
 
     /**
      * Stores the positive forms of the verb "to have"
      * in a HashMap.
+     * @return the positive forms of the verb "to have"
      */
-    private static void setPositiveHave() {
-        positiveHave = new HashMap<>();
+    static HashMap<String, String> createPositiveHave() {
+        HashMap<String, String> positiveHave = new HashMap<>();
         positiveHave.put("have", "haven't");
         positiveHave.put("has", "hasn't");
         positiveHave.put("had", "hadn't");
+        return positiveHave;
     }
 
     /**
      * Stores the negative forms of the verb "to have"
      * in a HashMap.
+     * @return the negative forms of the verb "to have"
      */
-    private static void setNegativeHave() {
-        negativeHave = new HashMap<>();
+    static HashMap<String, String> createNegativeHave() {
+        HashMap<String, String> negativeHave = new HashMap<>();
         negativeHave.put("haven't", "have");
         negativeHave.put("hasn't", "has");
         negativeHave.put("hadn't", "had");
-    }
-
-    /**
-     * Gives back the positive modal verbs HashMap. If
-     * it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the positive modal verbs HashMap
-     */
-    public static HashMap<String, String> getPositiveModalVerbs() {
-        if (positiveModalVerbs == null) {
-            setPositiveModalVerbs();
-        }
-        return positiveModalVerbs;
-    }
-
-    /**
-     * Gives back the negative modal verbs HashMap. If
-     * it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the negative modal verbs HashMap
-     */
-    public static HashMap<String, String> getNegativeModalVerbs() {
-        if (negativeModalVerbs == null) {
-            setNegativeModalVerbs();
-        }
-        return negativeModalVerbs;
-    }
-
-    /**
-     * Gives back the positive forms of the verb "to
-     * do" HashMap. If it's not set at the moment of
-     * the method call, it will be set and then returned.
-     * @return the positive forms of the verb "to do"
-     *         HashMap
-     */
-    public static HashMap<String, String> getPositiveDo() {
-        if (positiveDo == null) {
-            setPositiveDo();
-        }
-        return positiveDo;
-    }
-
-    /**
-     * Gives back the negative forms of the verb "to
-     * do" HashMap. If it's not set at the moment of
-     * the method call, it will be set and then returned.
-     * @return the negative forms of the verb "to do"
-     *         HashMap
-     */
-    public static HashMap<String, String> getNegativeDo() {
-        if (negativeDo == null) {
-            setNegativeDo();
-        }
-        return negativeDo;
-    }
-
-    /**
-     * Gives back the positive forms of the verb "to
-     * be" HashMap. If it's not set at the moment of
-     * the method call, it will be set and then returned.
-     * @return the positive forms of the verb "to be"
-     *         HashMap
-     */
-    public static HashMap<String, String> getPositiveBe() {
-        if (positiveBe == null) {
-            setPositiveBe();
-        }
-        return positiveBe;
-    }
-
-    /**
-     * Gives back the negative forms of the verb "to
-     * be" HashMap. If it's not set at the moment of
-     * the method call, it will be set and then returned.
-     * @return the negative forms of the verb "to be"
-     *         HashMap
-     */
-    public static HashMap<String, String> getNegativeBe() {
-        if (negativeBe == null) {
-            setNegativeBe();
-        }
-        return negativeBe;
-    }
-
-    /**
-     * Gives back the positive forms of the verb "to
-     * have" HashMap. If it's not set at the moment of
-     * the method call, it will be set and then returned.
-     * @return the positive forms of the verb "to have"
-     *         HashMap
-     */
-    public static HashMap<String, String> getPositiveHave() {
-        if (positiveHave == null) {
-            setPositiveHave();
-        }
-        return positiveHave;
-    }
-
-    /**
-     * Gives back the negative forms of the verb "to
-     * have" HashMap. If it's not set at the moment of
-     * the method call, it will be set and then returned.
-     * @return the negative forms of the verb "to have"
-     *         HashMap
-     */
-    public static HashMap<String, String> getNegativeHave() {
-        if (negativeHave == null) {
-            setNegativeHave();
-        }
         return negativeHave;
     }
 
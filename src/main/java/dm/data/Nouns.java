@@ -13,40 +13,6 @@ import static dm.data.DataUtil.readFileToStringArray;
  */
 public final class Nouns {
 
-    /**
-     * Set for storing nouns in singular form.
-     */
-    private static HashSet<String> singularNouns;
-
-    /**
-     * Set for storing nouns in plural form.
-     * Due the large number of nouns, we used an
-     * algorithm for automatically turning the
-     * singular to plural, meaning that not all
-     * plural nouns are necessarily correct.
-     */
-    private static HashSet<String> pluralNouns;
-
-    /**
-     * Set for storing English male first names.
-     */
-    private static HashSet<String> maleNames;
-
-    /**
-     * Set for storing English female first names.
-     */
-    private static HashSet<String> femaleNames;
-
-    /**
-     * Set for storing English last names.
-     */
-    private static HashSet<String> lastNames;
-
-    /**
-     * Set for storing articles.
-     */
-    private static HashSet<String> articles;
-
     /**
      * Empty private constructor for preventing
      * public or default constructor.
@@ -57,153 +23,88 @@ public final class Nouns {
     /**
      * Reads the singular nouns from the file and
      * stores them in a HashSet.
+     * @return the singular nouns HashSet
      */
-    private static void setSingularNouns() {
-        singularNouns = new HashSet<>();
+    static HashSet<String> createSingularNouns() {
+        HashSet<String> singularNouns = new HashSet<>();
         String[] words = readFileToStringArray("SingularNouns.txt");
         assert words != null;
         for (String word : words) {
             singularNouns.add(word);
         }
+        return singularNouns;
     }
 
     /**
      * Reads the plural nouns from the file and
      * stores them in a HashSet.
+     * @return the plural nouns HashSet
      */
-    private static void setPluralNouns() {
-        pluralNouns = new HashSet<>();
+    static HashSet<String> createPluralNouns() {
+        HashSet<String> pluralNouns = new HashSet<>();
         String[] words = readFileToStringArray("PluralNouns.txt");
         assert words != null;
         for (String word : words) {
             pluralNouns.add(word);
         }
+        return pluralNouns;
     }
 
     /**
      * Reads the English male first names from the file and
      * stores them in a HashSet.
+     * @return the English male first names HashSet
      */
-    private static void setMaleNames() {
-        maleNames = new HashSet<>();
+    static HashSet<String> createMaleNames() {
+        HashSet<String> maleNames = new HashSet<>();
         String[] words = readFileToStringArray("MaleNames.txt");
         assert words != null;
         for (String word : words) {
             maleNames.add(word.toLowerCase());
         }
+        return maleNames;
     }
 
     /**
      * Reads the English female first names from the file and
      * stores them in a HashSet.
+     * @return the English female first names HashSet
      */
-    private static void setFemaleNames() {
-        femaleNames = new HashSet<>();
+    static HashSet<String> createFemaleNames() {
+        HashSet<String> femaleNames = new HashSet<>();
         String[] words = readFileToStringArray("FemaleNames.txt");
         assert words != null;
         for (String word : words) {
             femaleNames.add(word.toLowerCase());
         }
+        return femaleNames;
     }
 
     /**
      * Reads the English last names from the file and
      * stores them in a HashSet.
+     * @return the English last names HashSet
      */
-    private static void setLastNames() {
-        lastNames = new HashSet<>();
+    static HashSet<String> createLastNames() {
+        HashSet<String> lastNames = new HashSet<>();
         String[] words = readFileToStringArray("LastNames.txt");
         assert words != null;
         for (String word : words) {
             lastNames.add(word.toLowerCase());
         }
+        return lastNames;
     }
 
     /**
      * Stores the sentence articles in a HashSet.
+     * @return the articles HashSet
      */
-    private static void setArticles() {
-        articles = new HashSet<>();
+    static HashSet<String> createArticles() {
+        HashSet<String> articles = new HashSet<>();
         articles.add("a");
         articles.add("an");
         articles.add("the");
-    }
-
-    /**
-     * Gives back the singular nouns HashSet. If it's not
-     * set at the moment of the method call, it will be
-     * set and then returned.
-     * @return the singular nouns HashSet
-     */
-    public static HashSet<String> getSingularNouns() {
-        if (singularNouns == null) {
-            setSingularNouns();
-        }
-        return singularNouns;
-    }
-
-    /**
-     * Gives back the plural nouns HashSet. If it's not
-     * set at the moment of the method call, it will be
-     * set and then returned.
-     * @return the plural nouns HashSet
-     */
-    public static HashSet<String> getPluralNouns() {
-        if (pluralNouns == null) {
-            setPluralNouns();
-        }
-        return pluralNouns;
-    }
-
-    /**
-     * Gives back the English male first names HashSet.
-     * If it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the English male first names HashSet
-     */
-    public static HashSet<String> getMaleNames() {
-        if (maleNames == null) {
-            setMaleNames();
-        }
-        return maleNames;
-    }
-
-    /**
-     * Gives back the English female first names HashSet.
-     * If it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the English female first names HashSet
-     */
-    public static HashSet<String> getFemaleNames() {
-        if (femaleNames == null) {
-            setFemaleNames();
-        }
-        return femaleNames;
-    }
-
-    /**
-     * Gives back the English last names HashSet.
-     * If it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the English last names HashSet
-     */
-    public static HashSet<String> getLastNames() {
-        if (lastNames == null) {
-            setLastNames();
-        }
-        return lastNames;
-    }
-
-    /**
-     * Gives back the articles HashSet.
-     * If it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the articles HashSet
-     */
-    public static HashSet<String> getArticles() {
-        if (articles == null) {
-            setArticles();
-        }
         return articles;
     }
+
 }
@@ -8,32 +8,6 @@ import java.util.HashSet;
  */
 public final class Phrase {
 
-    /**
-     * Set for storing skip phrases.
-     * For these set, we have to check current
-     * and next position.
-     */
-    private static HashSet<String> currentNextSkipPhrases;
-
-    /**
-     * Set for storing skip phrases.
-     * For these set, we have to check previous
-     * and current position.
-     */
-    private static HashSet<String> previousCurrentSkipPhrases;
-
-    /**
-     * Set for storing skip phrases.
-     * For these set, we have to check before previous
-     * and previous position.
-     */
-    private static HashSet<String> beforePreviousPreviousSkipPhrases;
-
-    /**
-     * Set for sub-sentence phrases.
-     */
-    private static HashSet<String> subSentencePhrases;
-
     /**
      * Empty private constructor for preventing
      * public or default constructor.
@@ -43,9 +17,10 @@ public final class Phrase {
 
     /**
      * Stores the current-next skip phrases.
+     * @return the current-next skip phrase HashSet
      */
-    private static void setCurrentNextSkipPhrases() {
-        currentNextSkipPhrases = new HashSet<>();
+    static HashSet<String> createCurrentNextSkipPhrases() {
+        HashSet<String> currentNextSkipPhrases = new HashSet<>();
         currentNextSkipPhrases.add("last year");
         currentNextSkipPhrases.add("last night");
         currentNextSkipPhrases.add("deal on");
@@ -56,86 +31,39 @@ public final class Phrase {
         currentNextSkipPhrases.add("post editorial");
         currentNextSkipPhrases.add("support for");
         currentNextSkipPhrases.add("made in");
+        return currentNextSkipPhrases;
     }
 
     /**
      * Stores the previous-current skip phrases.
+     * @return the previous-current skip phrase HashSet
      */
-    private static void setPreviousCurrentSkipPhrases() {
-        previousCurrentSkipPhrases = new HashSet<>();
+    static HashSet<String> createPreviousCurrentSkipPhrases() {
+        HashSet<String> previousCurrentSkipPhrases = new HashSet<>();
         previousCurrentSkipPhrases.add("for fear");
         previousCurrentSkipPhrases.add("- called");
         previousCurrentSkipPhrases.add("here is");
         previousCurrentSkipPhrases.add("here are");
-    }
-
-    /**
-     * Stores the before-previous-previous skip phrases.
-     */
-    private static void setBeforePreviousPreviousSkipPhrases() {
-        beforePreviousPreviousSkipPhrases = new HashSet<>();
-        beforePreviousPreviousSkipPhrases.add("according to");
-    }
-
-    /**
-     * Stores the sub-sentence phrases.
-     */
-    private static void setSubSentencePhrases() {
-        subSentencePhrases = new HashSet<>();
-        subSentencePhrases.add("is that");
-    }
-
-    /**
-     * Gives back the current-next skip phrase HashSet.
-     * If it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the current-next skip phrase HashSet
-     */
-    public static HashSet<String> getCurrentNextSkipPhrases() {
-        if (currentNextSkipPhrases == null) {
-            setCurrentNextSkipPhrases();
-        }
-        return currentNextSkipPhrases;
-    }
-
-    /**
-     * Gives back the previous-current skip phrase HashSet.
-     * If it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the previous-current skip phrase HashSet
-     */
-    public static HashSet<String> getPreviousCurrentSkipPhrases() {
-        if (previousCurrentSkipPhrases == null) {
-            setPreviousCurrentSkipPhrases();
-        }
         return previousCurrentSkipPhrases;
     }
 
     /**
-     * Gives back the before-previous-previous skip
-     * phrase HashSet. If it's not set at the moment
-     * of the method call, it will be set and then
-     * returned.
+     * Stores the before-previous-previous skip phrases.
      * @return the before-previous-previous skip
-     *         phrase HashSet
      */
-    public static HashSet<String> getBeforePreviousPreviousSkipPhrases() {
-        if (beforePreviousPreviousSkipPhrases == null) {
-            setBeforePreviousPreviousSkipPhrases();
-        }
+    static HashSet<String> createBeforePreviousPreviousSkipPhrases() {
+        HashSet<String> beforePreviousPreviousSkipPhrases = new HashSet<>();
+        beforePreviousPreviousSkipPhrases.add("according to");
         return beforePreviousPreviousSkipPhrases;
     }
 
     /**
-     * Gives back the sub-sentence phrase HashSet.
-     * If it's not set at the moment of the method call,
-     * it will be set and then returned.
+     * Stores the sub-sentence phrases.
      * @return the sub-sentence phrase HashSet
      */
-    public static HashSet<String> getSubSentencePhrases() {
-        if (subSentencePhrases == null) {
-            setSubSentencePhrases();
-        }
+    static HashSet<String> createSubSentencePhrases() {
+        HashSet<String> subSentencePhrases = new HashSet<>();
+        subSentencePhrases.add("is that");
         return subSentencePhrases;
     }
 
@@ -0,0 +1,147 @@
+package dm.data;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Index of the two-word phrases. Every phrase is split once,
+ * when the index is built, and stored under the ids of its
+ * first and second word together with the flags of the lists
+ * it comes from. Checking a pair of words against all the
+ * phrases of a list is then one binary search in a sorted
+ * array, however many phrases there are.
+ * The index can't be changed after it's built.
+ */
+public final class PhraseIndex {
+
+    /**
+     * Flag for the skip phrases checked on the current and
+     * the next position.
+     */
+    public static final int CURRENT_NEXT_SKIP = 1;
+
+    /**
+     * Flag for the skip phrases checked on the previous and
+     * the current position.
+     */
+    public static final int PREVIOUS_CURRENT_SKIP = 1 << 1;
+
+    /**
+     * Flag for the skip phrases checked on the before previous
+     * and the previous position.
+     */
+    public static final int BEFORE_PREVIOUS_PREVIOUS_SKIP = 1 << 2;
+
+    /**
+     * Flag for the phrases starting a new sub-sentence.
+     */
+    public static final int SUB_SENTENCE = 1 << 3;
+
+    /**
+     * Ids of the first and second word of every phrase, packed
+     * into one key, in increasing order.
+     */
+    private final long[] keys;
+
+    /**
+     * Flags of the phrase under every key.
+     */
+    private final int[] flags;
+
+    /**
+     * Builds the index of all the phrase lists of the lexicon.
+     * @param lexicon - lexicon with the phrase lists and the
+     *                vocabulary built
+     */
+    PhraseIndex(final Lexicon lexicon) {
+        Vocabulary vocabulary = lexicon.getVocabulary();
+        TreeMap<Long, Integer> bigrams = new TreeMap<>();
+
+        add(bigrams, vocabulary, lexicon.getCurrentNextSkipPhrases(),
+                CURRENT_NEXT_SKIP);
+        add(bigrams, vocabulary, lexicon.getPreviousCurrentSkipPhrases(),
+                PREVIOUS_CURRENT_SKIP);
+        add(bigrams, vocabulary,
+                lexicon.getBeforePreviousPreviousSkipPhrases(),
+                BEFORE_PREVIOUS_PREVIOUS_SKIP);
+        add(bigrams, vocabulary, lexicon.getSubSentencePhrases(),
+                SUB_SENTENCE);
+
+        keys = new long[bigrams.size()];
+        flags = new int[bigrams.size()];
+        int index = 0;
+        for (Map.Entry<Long, Integer> bigram : bigrams.entrySet()) {
+            keys[index] = bigram.getKey();
+            flags[index] = bigram.getValue();
+            index++;
+        }
+    }
+
+    /**
+     * Adds the flag to all the phrases from the set. Only the
+     * first two words of a phrase are used, and a phrase with
+     * less than two words is left out.
+     * @param bigrams - keys of the phrases mapped to their flags
+     * @param vocabulary - vocabulary with the words of the phrases
+     * @param phrases - phrases that get the flag
+     * @param flag - the flag to be added
+     */
+    private static void add(final TreeMap<Long, Integer> bigrams,
+                            final Vocabulary vocabulary,
+                            final Set<String> phrases,
+                            final int flag) {
+        for (String phrase : phrases) {
+            String[] words = phrase.split("\\s+");
+            if (words.length < 2) {
+                continue;
+            }
+
+            bigrams.merge(key(vocabulary.getId(words[0]),
+                    vocabulary.getId(words[1])), flag,
+                    (old, added) -> old | added);
+        }
+    }
+
+    /**
+     * Gives back the flags of the phrase made of the two words.
+     * @param first - id of the first clean word
+     * @param second - id of the second clean word
+     * @return the flags of the phrase, 0 if the words are not
+     *         a phrase
+     */
+    public int getFlags(final int first, final int second) {
+        if (first == Vocabulary.UNKNOWN || second == Vocabulary.UNKNOWN) {
+            return 0;
+        }
+
+        int index = Arrays.binarySearch(keys, key(first, second));
+        return index < 0 ? 0 : flags[index];
+    }
+
+    /**
+     * Checks if the two words are a phrase from the list.
+     * @param first - id of the first clean word
+     * @param second - id of the second clean word
+     * @param flag - flag of the phrase list
+     * @return true if the words are a phrase from the list,
+     *         false otherwise
+     */
+    public boolean contains(final int first,
+                            final int second,
+                            final int flag) {
+        return (getFlags(first, second) & flag) != 0;
+    }
+
+    /**
+     * Packs the ids of the two words into one key.
+     * @param first - id of the first word
+     * @param second - id of the second word
+     * @return the key
+     */
+    private static long key(final int first, final int second) {
+        return ((long) first << Integer.SIZE) | second;
+    }
+
+}
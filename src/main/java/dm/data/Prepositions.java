@@ -11,11 +11,6 @@ import java.util.HashSet;
  */
 public final class Prepositions {
 
-    /**
-     * Set for prepositions.
-     */
-    private static HashSet<String> prepositions;
-
     /**
      * Empty private constructor for preventing
      * public or default constructor.
@@ -26,27 +21,16 @@ public final class Prepositions {
     /**
      * Reads the prepositions from the file and
      * stores them in a HashSet.
+     * @return the prepositions HashSet
      */
-    private static void setPrepositions() {
-        prepositions = new HashSet<>();
+    static HashSet<String> createPrepositions() {
+        HashSet<String> prepositions = new HashSet<>();
         prepositions.add("in");
         prepositions.add("no");
         prepositions.add("on");
         prepositions.add("at");
         prepositions.add("from");
         prepositions.add("of");
-    }
-
-    /**
-     * Gives back the prepositions HashSet.
-     * If it's not set at the moment of the method call,
-     * it will be set and then returned.
-     * @return the prepositions HashSet
-     */
-    public static HashSet<String> getPrepositions() {
-        if (prepositions == null) {
-            setPrepositions();
-        }
         return prepositions;
     }
 
@@ -0,0 +1,229 @@
+package dm.data;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Set;
+
+/**
+ * Morphology table of the verbs. Every verb (lemma) has an id
+ * and its five forms are kept in parallel arrays, one array
+ * per tense. All the forms are indexed, so one lookup gives
+ * back both the lemma of the form and all the tenses the form
+ * belongs to (i.e. "read" is infinitive, perfect and past
+ * participle). The table can't be changed after it's built.
+ */
+public final class VerbTable {
+
+    /**
+     * Number of the verb forms, and therefore the tenses.
+     */
+    public static final int NUM_OF_TENSES = 5;
+
+    /**
+     * Tense number of infinitive.
+     */
+    public static final int INFINITIVE = 0;
+
+    /**
+     * Tense number of perfect.
+     */
+    public static final int PERFECT = 1;
+
+    /**
+     * Tense number of past participle.
+     */
+    public static final int PAST_PARTICIPLE = 2;
+
+    /**
+     * Tense number of third person.
+     */
+    public static final int THIRD_PERSON = 3;
+
+    /**
+     * Tense number of gerund.
+     */
+    public static final int GERUND = 4;
+
+    /**
+     * Number of the bits of the entry holding the tense mask.
+     */
+    private static final int TENSE_BITS = 8;
+
+    /**
+     * Mask for the tense mask of the entry.
+     */
+    private static final long TENSE_MASK = (1L << TENSE_BITS) - 1;
+
+    /**
+     * Number of the bits of the entry holding one lemma id.
+     */
+    private static final int LEMMA_BITS = 24;
+
+    /**
+     * Mask for one lemma id of the entry.
+     */
+    private static final long LEMMA_MASK = (1L << LEMMA_BITS) - 1;
+
+    /**
+     * Position of the lemma in which the form is infinitive.
+     */
+    private static final int INFINITIVE_LEMMA_SHIFT = TENSE_BITS + LEMMA_BITS;
+
+    /**
+     * Forms of every lemma, indexed by the tense number and
+     * the lemma id.
+     */
+    private final String[][] forms;
+
+    /**
+     * All the forms mapped to their entry. The entry holds the
+     * mask of the tenses of the form, the id of the first lemma
+     * the form belongs to and, if the form is an infinitive,
+     * the id of its lemma increased by one.
+     */
+    private final HashMap<String, Long> index = new HashMap<>();
+
+    /**
+     * Builds the table from the forms of the verbs, listed
+     * lemma by lemma in the order of the tense numbers.
+     * If an infinitive is listed more than once, the last
+     * lemma is the one used for it.
+     * @param words - the forms of all the verbs
+     */
+    VerbTable(final String[] words) {
+        int lemmas = words.length / NUM_OF_TENSES;
+        forms = new String[NUM_OF_TENSES][lemmas];
+
+        for (int lemma = 0; lemma < lemmas; lemma++) {
+            for (int tense = 0; tense < NUM_OF_TENSES; tense++) {
+                String form = words[lemma * NUM_OF_TENSES + tense];
+                forms[tense][lemma] = form;
+                addForm(form, lemma, tense);
+            }
+        }
+    }
+
+    /**
+     * Adds the tense of the form to the index. The first
+     * lemma of the form is kept. A form that is listed in
+     * another tense first (i.e. "found", the perfect of
+     * "find") is mostly used in that tense, so it is not
+     * taken as an infinitive, but its own forms can still
+     * be found through it.
+     * @param form - the form of the verb
+     * @param lemma - id of the lemma
+     * @param tense - tense number of the form
+     */
+    private void addForm(final String form,
+                         final int lemma,
+                         final int tense) {
+        Long entry = index.get(form);
+        long updated = entry == null ? (long) lemma << TENSE_BITS : entry;
+
+        if (tense != INFINITIVE || entry == null
+                || (entry & (1L << INFINITIVE)) != 0) {
+            updated |= 1L << tense;
+        }
+        if (tense == INFINITIVE) {
+            updated &= ~(LEMMA_MASK << INFINITIVE_LEMMA_SHIFT);
+            updated |= (lemma + 1L) << INFINITIVE_LEMMA_SHIFT;
+        }
+
+        index.put(form, updated);
+    }
+
+    /**
+     * Checks if the word is a form of any verb.
+     * @param word - the clean word
+     * @return true if the word is a form of a verb,
+     *         false otherwise
+     */
+    public boolean contains(final String word) {
+        return index.containsKey(word);
+    }
+
+    /**
+     * Gives back all the forms of the verbs.
+     * @return the unmodifiable set of the forms
+     */
+    public Set<String> getForms() {
+        return Collections.unmodifiableSet(index.keySet());
+    }
+
+    /**
+     * Gives back the tenses the form belongs to.
+     * @param word - the clean word
+     * @return mask with the bit (1 &lt;&lt; tense number) set
+     *         for every tense of the form, 0 if the word is
+     *         not a form of any verb
+     */
+    public int getTenses(final String word) {
+        Long entry = index.get(word);
+        return entry == null ? 0 : (int) (entry & TENSE_MASK);
+    }
+
+    /**
+     * Gives back the infinitive of the form. If the form
+     * belongs to several verbs, the first one is used.
+     * @param word - the clean word
+     * @return the infinitive, null if the word is not a form
+     *         of any verb
+     */
+    public String getInfinitive(final String word) {
+        Long entry = index.get(word);
+        if (entry == null) {
+            return null;
+        }
+        return forms[INFINITIVE][(int) ((entry >>> TENSE_BITS) & LEMMA_MASK)];
+    }
+
+    /**
+     * Gives back the perfect form of the infinitive.
+     * @param infinitive - the clean infinitive
+     * @return the perfect form, null if the word is not
+     *         an infinitive
+     */
+    public String getPerfect(final String infinitive) {
+        return getForm(infinitive, PERFECT);
+    }
+
+    /**
+     * Gives back the third person form of the infinitive.
+     * @param infinitive - the clean infinitive
+     * @return the third person form, null if the word is
+     *         not an infinitive
+     */
+    public String getThirdPerson(final String infinitive) {
+        if (infinitive.equals("be")) {
+            return "is";
+        }
+        return getForm(infinitive, THIRD_PERSON);
+    }
+
+    /**
+     * Gives back the number of the verbs.
+     * @return the number of the lemmas
+     */
+    public int size() {
+        return forms[INFINITIVE].length;
+    }
+
+    /**
+     * Gives back the form of the verb whose infinitive
+     * is given.
+     * @param infinitive - the clean infinitive
+     * @param tense - tense number of the wanted form
+     * @return the form, null if the word is not an
+     *         infinitive
+     */
+    private String getForm(final String infinitive, final int tense) {
+        Long entry = index.get(infinitive);
+        if (entry == null) {
+            return null;
+        }
+
+        long lemma = (entry >>> INFINITIVE_LEMMA_SHIFT) & LEMMA_MASK;
+        return lemma == 0 ? null : forms[tense][(int) lemma - 1];
+    }
+
+}
@@ -0,0 +1,379 @@
+package dm.data;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import static dm.data.Chars.isKept;
+
+/**
+ * Every distinct clean word of the lexicon, mapped to an int
+ * id. The ids are given once, when the lexicon is built, so a
+ * sentence can be turned into ids when it's split into words,
+ * and the rules of the inversion then compare and look up the
+ * ids instead of the strings. The words the rules compare with
+ * come first, so they have the same ids in every vocabulary and
+ * can be used as constants. A word that is not in the lexicon
+ * has the id UNKNOWN. The vocabulary can't be changed after
+ * it's built.
+ * The ids are kept in an open addressing table whose hash
+ * and equality skip the chars a clean word doesn't have and
+ * fold the rest to lower case, so any part of a text can be
+ * looked up as it is, without cleaning it into a new string
+ * first. A lookup gives the same id as the lookup of the
+ * clean word would, and allocates nothing.
+ */
+public final class Vocabulary {
+
+    /**
+     * Id of the words that are not in the vocabulary.
+     */
+    public static final int UNKNOWN = 0;
+
+    /**
+     * Id of the word "by".
+     */
+    public static final int BY = 1;
+
+    /**
+     * Id of the word "of".
+     */
+    public static final int OF = 2;
+
+    /**
+     * Id of the word "not".
+     */
+    public static final int NOT = 3;
+
+    /**
+     * Id of the word "but".
+     */
+    public static final int BUT = 4;
+
+    /**
+     * Id of the word "some".
+     */
+    public static final int SOME = 5;
+
+    /**
+     * Id of the word "any".
+     */
+    public static final int ANY = 6;
+
+    /**
+     * Id of the word "to".
+     */
+    public static final int TO = 7;
+
+    /**
+     * Id of the word "after".
+     */
+    public static final int AFTER = 8;
+
+    /**
+     * Id of the word "before".
+     */
+    public static final int BEFORE = 9;
+
+    /**
+     * Id of the word "just".
+     */
+    public static final int JUST = 10;
+
+    /**
+     * Id of the word "already".
+     */
+    public static final int ALREADY = 11;
+
+    /**
+     * Id of the word "always".
+     */
+    public static final int ALWAYS = 12;
+
+    /**
+     * Id of the word "now".
+     */
+    public static final int NOW = 13;
+
+    /**
+     * Id of the word "no".
+     */
+    public static final int NO = 14;
+
+    /**
+     * Id of the word "never".
+     */
+    public static final int NEVER = 15;
+
+    /**
+     * Id of the word "one".
+     */
+    public static final int ONE = 16;
+
+    /**
+     * Words the rules compare with, in the order of their ids.
+     * The first entry stands for the unknown words.
+     */
+    private static final String[] RULE_WORDS = {
+        null, "by", "of", "not", "but", "some", "any", "to", "after",
+        "before", "just", "already", "always", "now", "no", "never", "one"
+    };
+
+    /**
+     * Initial number of ids the arrays can hold.
+     */
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Ids of the words, placed by their hashes. An empty
+     * slot holds UNKNOWN. The table is at most half full.
+     */
+    private int[] table;
+
+    /**
+     * Word of every id.
+     */
+    private String[] words;
+
+    /**
+     * Hash of the word of every id.
+     */
+    private int[] hashes;
+
+    /**
+     * Number of ids, UNKNOWN included.
+     */
+    private int size;
+
+    /**
+     * Word class flags of every id, as defined in WordFlags.
+     */
+    private long[] flags;
+
+    /**
+     * Gives ids to the rule words, to all the words with
+     * word class flags and to the words of the phrases.
+     * @param lexicon - lexicon with the word flags and the
+     *                phrase sets built
+     */
+    Vocabulary(final Lexicon lexicon) {
+        Map<String, Long> wordFlags = lexicon.getWordFlags();
+        int capacity = Math.max(INITIAL_CAPACITY,
+                RULE_WORDS.length + wordFlags.size());
+        words = new String[capacity];
+        hashes = new int[capacity];
+        flags = new long[capacity];
+        table = new int[Integer.highestOneBit(capacity) * 4];
+        words[UNKNOWN] = "";
+        size = 1;
+
+        for (int id = 1; id < RULE_WORDS.length; id++) {
+            add(RULE_WORDS[id]);
+        }
+        for (Map.Entry<String, Long> word : wordFlags.entrySet()) {
+            int id = add(word.getKey());
+            flags[id] = word.getValue();
+        }
+
+        addPhraseWords(lexicon.getCurrentNextSkipPhrases());
+        addPhraseWords(lexicon.getPreviousCurrentSkipPhrases());
+        addPhraseWords(lexicon.getBeforePreviousPreviousSkipPhrases());
+        addPhraseWords(lexicon.getSubSentencePhrases());
+
+        words = Arrays.copyOf(words, size);
+        hashes = Arrays.copyOf(hashes, size);
+        flags = Arrays.copyOf(flags, size);
+    }
+
+    /**
+     * Gives back the id of the word. The word doesn't have
+     * to be clean.
+     * @param word - the word
+     * @return the id of the clean word, UNKNOWN if it's not
+     *         in the vocabulary
+     */
+    public int getId(final CharSequence word) {
+        return getId(word, 0, word.length());
+    }
+
+    /**
+     * Gives back the id of the word in the part of the text.
+     * The chars a clean word doesn't have are skipped and
+     * the rest are compared in lower case, so the part of
+     * the text is neither copied nor cleaned.
+     * @param text - text with the word
+     * @param offset - position of the first char of the word
+     * @param length - number of the chars of the word
+     * @return the id of the clean word, UNKNOWN if it's not
+     *         in the vocabulary
+     */
+    public int getId(final CharSequence text,
+                     final int offset,
+                     final int length) {
+        int end = offset + length;
+        int hash = 0;
+        int cleanLength = 0;
+        for (int i = offset; i < end; i++) {
+            char c = text.charAt(i);
+            if (isKept(c)) {
+                hash = 31 * hash + Character.toLowerCase(c);
+                cleanLength++;
+            }
+        }
+
+        int mask = table.length - 1;
+        for (int slot = spread(hash) & mask; table[slot] != UNKNOWN;
+             slot = (slot + 1) & mask) {
+            int id = table[slot];
+            if (hashes[id] == hash
+                    && words[id].length() == cleanLength
+                    && matches(words[id], text, offset, end)) {
+                return id;
+            }
+        }
+        return UNKNOWN;
+    }
+
+    /**
+     * Gives back the word with the id.
+     * @param id - id of the word
+     * @return the clean word, empty for UNKNOWN
+     */
+    public String getWord(final int id) {
+        return words[id];
+    }
+
+    /**
+     * Gives back the word class flags of the word with the id.
+     * @param id - id of the word
+     * @return the flags, 0 for UNKNOWN
+     */
+    public long getFlags(final int id) {
+        return flags[id];
+    }
+
+    /**
+     * Gives back the number of ids, UNKNOWN included.
+     * @return the number of ids
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gives the first two words of every phrase an id. The
+     * phrase index only uses these two.
+     * @param phrases - the phrases
+     */
+    private void addPhraseWords(final Set<String> phrases) {
+        for (String phrase : phrases) {
+            String[] phraseWords = phrase.split("\\s+");
+            for (int i = 0; i < Math.min(2, phraseWords.length); i++) {
+                add(phraseWords[i]);
+            }
+        }
+    }
+
+    /**
+     * Gives the word the next id, if it has none yet. The word
+     * is stored as it is, so a word that is not clean gets an
+     * id, but no lookup can find it, the same way as no clean
+     * word is equal to it.
+     * @param word - the word from the lexicon
+     * @return the id of the word
+     */
+    private int add(final String word) {
+        int hash = hash(word);
+        int mask = table.length - 1;
+        int slot = spread(hash) & mask;
+        for (; table[slot] != UNKNOWN; slot = (slot + 1) & mask) {
+            if (words[table[slot]].equals(word)) {
+                return table[slot];
+            }
+        }
+
+        if (size == words.length) {
+            words = Arrays.copyOf(words, size * 2);
+            hashes = Arrays.copyOf(hashes, size * 2);
+            flags = Arrays.copyOf(flags, size * 2);
+        }
+
+        int id = size++;
+        words[id] = word;
+        hashes[id] = hash;
+        table[slot] = id;
+        if (size * 2 > table.length) {
+            rehash();
+        }
+        return id;
+    }
+
+    /**
+     * Doubles the table and places all the ids again.
+     */
+    private void rehash() {
+        table = new int[table.length * 2];
+        int mask = table.length - 1;
+        for (int id = 1; id < size; id++) {
+            int slot = spread(hashes[id]) & mask;
+            while (table[slot] != UNKNOWN) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id;
+        }
+    }
+
+    /**
+     * Checks if the part of the text is the word, once the
+     * chars a clean word doesn't have are skipped and the
+     * rest are in lower case.
+     * @param word - the word from the vocabulary
+     * @param text - text with the other word
+     * @param offset - position of the first char in the text
+     * @param end - position after the last char in the text
+     * @return true if the clean part of the text is the word,
+     *         false otherwise
+     */
+    private static boolean matches(final String word,
+                                   final CharSequence text,
+                                   final int offset,
+                                   final int end) {
+        int position = 0;
+        for (int i = offset; i < end; i++) {
+            char c = text.charAt(i);
+            if (isKept(c)
+                    && Character.toLowerCase(c) != word.charAt(position++)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the hash of the word the same way the lookups
+     * do, which for a clean word is its String hash code.
+     * @param word - the word
+     * @return the hash of the word
+     */
+    private static int hash(final String word) {
+        int hash = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (isKept(c)) {
+                hash = 31 * hash + Character.toLowerCase(c);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Spreads the higher bits of the hash to the lower ones,
+     * which pick the slot of the table.
+     * @param hash - the hash
+     * @return the spread hash
+     */
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+}
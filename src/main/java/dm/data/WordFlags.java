@@ -0,0 +1,360 @@
+package dm.data;
+
+import java.util.HashMap;
+import java.util.Set;
+
+import static dm.data.VerbTable.NUM_OF_TENSES;
+
+/**
+ * Flags of the word classes. Every word collection of the
+ * lexicon has its own flag, so one lookup in the table built
+ * by createWordFlags() tells all the classes of a word. The
+ * flags of the collections that are usually asked together
+ * are also combined into masks.
+ */
+public final class WordFlags {
+
+    /**
+     * Flag for the positive modal verbs.
+     */
+    public static final long POSITIVE_MODAL = 1L;
+
+    /**
+     * Flag for the negative modal verbs.
+     */
+    public static final long NEGATIVE_MODAL = 1L << 1;
+
+    /**
+     * Flag for the positive forms of the verb "to do".
+     */
+    public static final long POSITIVE_DO = 1L << 2;
+
+    /**
+     * Flag for the negative forms of the verb "to do".
+     */
+    public static final long NEGATIVE_DO = 1L << 3;
+
+    /**
+     * Flag for the positive forms of the verb "to be".
+     */
+    public static final long POSITIVE_BE = 1L << 4;
+
+    /**
+     * Flag for the negative forms of the verb "to be".
+     */
+    public static final long NEGATIVE_BE = 1L << 5;
+
+    /**
+     * Flag for the positive forms of the verb "to have".
+     */
+    public static final long POSITIVE_HAVE = 1L << 6;
+
+    /**
+     * Flag for the negative forms of the verb "to have".
+     */
+    public static final long NEGATIVE_HAVE = 1L << 7;
+
+    /**
+     * Flag for the non-modal verb forms.
+     */
+    public static final long VERB_FORM = 1L << 8;
+
+    /**
+     * Flag for verbs in infinitive.
+     */
+    public static final long INFINITIVE = 1L << 9;
+
+    /**
+     * Flag for verbs in perfect.
+     */
+    public static final long PERFECT = 1L << 10;
+
+    /**
+     * Flag for verbs in past participle.
+     */
+    public static final long PAST_PARTICIPLE = 1L << 11;
+
+    /**
+     * Flag for verbs in third person.
+     */
+    public static final long THIRD_PERSON = 1L << 12;
+
+    /**
+     * Flag for verbs in gerund.
+     */
+    public static final long GERUND = 1L << 13;
+
+    /**
+     * Flag for the forms of the verbs "start" and "stop".
+     */
+    public static final long START_OR_STOP = 1L << 14;
+
+    /**
+     * Flag for verbs usually starting a new sub-sentence.
+     */
+    public static final long NEW_SUB_SENTENCE_VERB = 1L << 15;
+
+    /**
+     * Flag for nouns in singular.
+     */
+    public static final long SINGULAR = 1L << 16;
+
+    /**
+     * Flag for nouns in plural.
+     */
+    public static final long PLURAL = 1L << 17;
+
+    /**
+     * Flag for first and last names.
+     */
+    public static final long NAME = 1L << 18;
+
+    /**
+     * Flag for articles.
+     */
+    public static final long ARTICLE = 1L << 19;
+
+    /**
+     * Flag for singular pronouns.
+     */
+    public static final long SINGULAR_PRONOUN = 1L << 20;
+
+    /**
+     * Flag for plural pronouns.
+     */
+    public static final long PLURAL_PRONOUN = 1L << 21;
+
+    /**
+     * Flag for basic pronouns.
+     */
+    public static final long BASIC_PRONOUN = 1L << 22;
+
+    /**
+     * Flag for possessive pronouns.
+     */
+    public static final long POSSESSIVE_PRONOUN = 1L << 23;
+
+    /**
+     * Flag for other pronouns.
+     */
+    public static final long OTHER_PRONOUN = 1L << 24;
+
+    /**
+     * Flag for indefinite pronouns.
+     */
+    public static final long INDEFINITE_PRONOUN = 1L << 25;
+
+    /**
+     * Flag for negative indefinite pronouns.
+     */
+    public static final long NEG_INDEFINITE_PRONOUN = 1L << 26;
+
+    /**
+     * Flag for sentence conjunctions (and, or, nor, but).
+     */
+    public static final long SENTENCE_CONJUNCTION = 1L << 27;
+
+    /**
+     * Flag for the other conjunctions.
+     */
+    public static final long OTHER_CONJUNCTION = 1L << 28;
+
+    /**
+     * Flag for push interrogative words.
+     */
+    public static final long PUSH_QUESTION_WORD = 1L << 29;
+
+    /**
+     * Flag for skip interrogative words.
+     */
+    public static final long SKIP_QUESTION_WORD = 1L << 30;
+
+    /**
+     * Flag for negate interrogative words.
+     */
+    public static final long NEGATE_QUESTION_WORD = 1L << 31;
+
+    /**
+     * Flag for prepositions.
+     */
+    public static final long PREPOSITION = 1L << 32;
+
+    /**
+     * Flag for adjectives.
+     */
+    public static final long ADJECTIVE = 1L << 33;
+
+    /**
+     * Mask for modal verbs.
+     */
+    public static final long MODAL = POSITIVE_MODAL | NEGATIVE_MODAL;
+
+    /**
+     * Mask for the forms of the verb "to do".
+     */
+    public static final long FORM_OF_DO = POSITIVE_DO | NEGATIVE_DO;
+
+    /**
+     * Mask for the forms of the verb "to be".
+     */
+    public static final long FORM_OF_BE = POSITIVE_BE | NEGATIVE_BE;
+
+    /**
+     * Mask for the forms of the verb "to have".
+     */
+    public static final long FORM_OF_HAVE = POSITIVE_HAVE | NEGATIVE_HAVE;
+
+    /**
+     * Mask for any form of a verb, modal verbs included.
+     */
+    public static final long VERB
+            = MODAL | FORM_OF_DO | FORM_OF_BE | FORM_OF_HAVE | VERB_FORM;
+
+    /**
+     * Mask for all the tenses of the verbs.
+     */
+    public static final long TENSE
+            = INFINITIVE | PERFECT | PAST_PARTICIPLE | THIRD_PERSON | GERUND;
+
+    /**
+     * Mask for nouns. Names are not included.
+     */
+    public static final long NOUN = SINGULAR | PLURAL;
+
+    /**
+     * Mask for conjunctions.
+     */
+    public static final long CONJUNCTION
+            = SENTENCE_CONJUNCTION | OTHER_CONJUNCTION;
+
+    /**
+     * Mask for interrogative words.
+     */
+    public static final long QUESTION_WORD
+            = PUSH_QUESTION_WORD | SKIP_QUESTION_WORD | NEGATE_QUESTION_WORD;
+
+    /**
+     * Flags of the tenses, indexed by the tense number used
+     * in the verb table.
+     */
+    private static final long[] TENSE_FLAGS = {
+            INFINITIVE, PERFECT, PAST_PARTICIPLE, THIRD_PERSON, GERUND
+    };
+
+    /**
+     * Empty private constructor for preventing
+     * public or default constructor.
+     */
+    private WordFlags() {
+    }
+
+    /**
+     * Compiles all the word collections of the lexicon into
+     * one HashMap of the words mapped to their flags.
+     * @param lexicon - lexicon with all the collections built
+     * @return the word flags HashMap
+     */
+    static HashMap<String, Long> createWordFlags(final Lexicon lexicon) {
+        HashMap<String, Long> flags = new HashMap<>();
+
+        addFlag(flags, lexicon.getPositiveModalVerbs().keySet(),
+                POSITIVE_MODAL);
+        addFlag(flags, lexicon.getNegativeModalVerbs().keySet(),
+                NEGATIVE_MODAL);
+        addFlag(flags, lexicon.getPositiveDo().keySet(), POSITIVE_DO);
+        addFlag(flags, lexicon.getNegativeDo().keySet(), NEGATIVE_DO);
+        addFlag(flags, lexicon.getPositiveBe().keySet(), POSITIVE_BE);
+        addFlag(flags, lexicon.getNegativeBe().keySet(), NEGATIVE_BE);
+        addFlag(flags, lexicon.getPositiveHave().keySet(), POSITIVE_HAVE);
+        addFlag(flags, lexicon.getNegativeHave().keySet(), NEGATIVE_HAVE);
+        addVerbFlags(flags, lexicon.getVerbTable());
+        addFlag(flags, lexicon.getStartStopMapping().keySet(),
+                START_OR_STOP);
+        addFlag(flags, lexicon.getNewSentenceVerbs(),
+                NEW_SUB_SENTENCE_VERB);
+        addFlag(flags, lexicon.getSingularNouns(), SINGULAR);
+        addFlag(flags, lexicon.getPluralNouns(), PLURAL);
+        addFlag(flags, lexicon.getMaleNames(), NAME);
+        addFlag(flags, lexicon.getFemaleNames(), NAME);
+        addFlag(flags, lexicon.getLastNames(), NAME);
+        addFlag(flags, lexicon.getArticles(), ARTICLE);
+        addFlag(flags, lexicon.getSingularPronouns(), SINGULAR_PRONOUN);
+        addFlag(flags, lexicon.getPluralPronouns(), PLURAL_PRONOUN);
+        addFlag(flags, lexicon.getBasicPronouns(), BASIC_PRONOUN);
+        addFlag(flags, lexicon.getPossessivePronouns(), POSSESSIVE_PRONOUN);
+        addFlag(flags, lexicon.getOtherPronouns(), OTHER_PRONOUN);
+        addFlag(flags, lexicon.getIndefinitePronouns().keySet(),
+                INDEFINITE_PRONOUN);
+        addFlag(flags, lexicon.getNegIndefinitePronouns().keySet(),
+                NEG_INDEFINITE_PRONOUN);
+        addFlag(flags, lexicon.getSentenceConjunctions(),
+                SENTENCE_CONJUNCTION);
+        addFlag(flags, lexicon.getOtherConjunctions(), OTHER_CONJUNCTION);
+        addFlag(flags, lexicon.getPushInterrogatives(), PUSH_QUESTION_WORD);
+        addFlag(flags, lexicon.getSkipInterrogatives(), SKIP_QUESTION_WORD);
+        addFlag(flags, lexicon.getNegateInterrogatives(),
+                NEGATE_QUESTION_WORD);
+        addFlag(flags, lexicon.getPrepositions(), PREPOSITION);
+        addFlag(flags, lexicon.getAdjectives(), ADJECTIVE);
+
+        return flags;
+    }
+
+    /**
+     * Adds the verb form flag and the tense flags to all the
+     * forms of the verbs. A form shared by several tenses gets
+     * the flags of all of them. The forms of the verb "to be"
+     * are not in the verb table, so their tenses are added here.
+     * @param flags - the word flags HashMap
+     * @param verbTable - the verb table
+     */
+    private static void addVerbFlags(final HashMap<String, Long> flags,
+                                     final VerbTable verbTable) {
+        for (String form : verbTable.getForms()) {
+            long flag = VERB_FORM;
+            int tenses = verbTable.getTenses(form);
+
+            for (int tense = 0; tense < NUM_OF_TENSES; tense++) {
+                if ((tenses & (1 << tense)) != 0) {
+                    flag |= TENSE_FLAGS[tense];
+                }
+            }
+
+            addFlag(flags, form, flag);
+        }
+
+        addFlag(flags, "be", INFINITIVE);
+        addFlag(flags, "was", PERFECT);
+        addFlag(flags, "were", PERFECT);
+        addFlag(flags, "been", PAST_PARTICIPLE);
+        addFlag(flags, "is", THIRD_PERSON);
+        addFlag(flags, "being", GERUND);
+    }
+
+    /**
+     * Adds the flag to all the words from the set.
+     * @param flags - the word flags HashMap
+     * @param words - words that get the flag
+     * @param flag - the flag to be added
+     */
+    private static void addFlag(final HashMap<String, Long> flags,
+                                final Set<String> words,
+                                final long flag) {
+        for (String word : words) {
+            addFlag(flags, word, flag);
+        }
+    }
+
+    /**
+     * Adds the flag to the word.
+     * @param flags - the word flags HashMap
+     * @param word - word that gets the flag
+     * @param flag - the flag to be added
+     */
+    private static void addFlag(final HashMap<String, Long> flags,
+                                final String word,
+                                final long flag) {
+        flags.merge(word, flag, (old, added) -> old | added);
+    }
+
+}
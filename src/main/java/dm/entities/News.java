@@ -1,5 +1,7 @@
 package dm.entities;
 
+import service.util.TextDiff;
+
 import java.util.Date;
 
 /**
@@ -24,10 +26,16 @@ public class News {
     private String original;
 
     /**
-     * Inverted post.
+     * Inverted post, if it's not kept as a diff.
      */
     private String opposite;
 
+    /**
+     * Edits that turn the original post into the
+     * inverted one, if it's kept as a diff.
+     */
+    private TextDiff oppositeDiff;
+
     /**
      * Constructor.
      * @param newPosition - number that says which
@@ -49,6 +57,29 @@ public class News {
         this.opposite = oppositeTweet;
     }
 
+    /**
+     * Constructor that keeps only the differences between
+     * the original and the opposite version, which is
+     * rendered whenever it's needed.
+     * @param newPosition - number that says which
+     *                 position the news have
+     * @param newDate - publish date
+     * @param originalTweet - original tweet
+     * @param oppositeEdits - edits that turn the original
+     *                      tweet into its opposite version
+     */
+    public News(
+            final Integer newPosition,
+            final Date newDate,
+            final String originalTweet,
+            final TextDiff oppositeEdits) {
+
+        this.position = newPosition;
+        this.date = newDate;
+        this.original = originalTweet;
+        this.oppositeDiff = oppositeEdits;
+    }
+
     /**
      * Getter for original post.
      * @return original post
@@ -58,18 +89,42 @@ public class News {
     }
 
     /**
-     * Getter for inverted post.
+     * Getter for inverted post. If the post is kept
+     * as a diff, it's rendered from the original on
+     * every call and the result is not kept, which
+     * trades the time of applying the few edits for
+     * the memory of a second copy of the post. Callers
+     * that read it often should keep the result.
      * @return inverted post
      */
     public String getOpposite() {
+        if (oppositeDiff != null) {
+            return oppositeDiff.apply(original);
+        }
         return opposite;
     }
 
+    /**
+     * Getter for the edits that turn the original post
+     * into the inverted one.
+     * @return the edits against the original post
+     */
+    public TextDiff getOppositeDiff() {
+        if (oppositeDiff == null) {
+            return TextDiff.compute(original, opposite);
+        }
+        return oppositeDiff;
+    }
+
     /**
      * Setter for original post.
      * @param originalTweet - original post
      */
     public void setOriginal(final String originalTweet) {
+        if (oppositeDiff != null) {
+            opposite = oppositeDiff.apply(original);
+            oppositeDiff = null;
+        }
         this.original = originalTweet;
     }
 
@@ -79,6 +134,7 @@ public class News {
      */
     public void setOpposite(final String oppositeTweet) {
         this.opposite = oppositeTweet;
+        this.oppositeDiff = null;
     }
 
     /**
@@ -9,8 +9,9 @@ import javafx.collections.ObservableList;
 import service.ml.MachineLearning;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
-import service.formatter.Pipe;
-import service.formatter.PipeMode;
+import service.analysis.Segmentation;
+import service.analysis.TweetAnalysis;
+import service.formatter.PipedBuffer;
 import service.inversion.InversionService;
 import service.twitter.TwitterService;
 import twitter4j.Status;
@@ -54,17 +55,20 @@ public final class Service {
 
         ObservableList<News> news = FXCollections.observableArrayList();
 
+        PipedBuffer piped = new PipedBuffer();
+
         int counter = 1;
         for (Status status : statuses) {
 
-            String str = Pipe.pipe(status.getText(), PipeMode.TESTING);
+            TweetAnalysis analysis
+                    = new TweetAnalysis(status.getText(), piped);
 
-            if (MachineLearning.classifyTweet(str)) {
+            if (MachineLearning.classifyTweet(analysis.getPiped())) {
 
+                String original = removeNewlines(status.getText());
                 news.add(new News(counter++, status.getCreatedAt(),
-                        removeNewlines(status.getText()),
-                        InversionService.createInverseVersion(
-                                status.getText())));
+                        original, InversionService
+                        .createInverseDiff(original, analysis)));
             }
         }
 
@@ -104,11 +108,12 @@ public final class Service {
             final String original) {
 
         StringBuilder resultingStatus = new StringBuilder();
-        String[] sentences = original.split(
-                "(?<=[.?!;])\\s+(?=\\p{Lu})");
+        Segmentation segmentation = Segmentation.segment(original);
 
-        for (String sentence : sentences) {
-            resultingStatus.append(sentence).append("\n");
+        for (int i = 0; i < segmentation.sentenceCount(); i++) {
+            resultingStatus.append(original,
+                    segmentation.getSentenceStart(i),
+                    segmentation.getSentenceEnd(i)).append("\n");
         }
 
         return resultingStatus.toString();
@@ -0,0 +1,107 @@
+package service.analysis;
+
+import dm.data.Vocabulary;
+
+import static dm.dao.Utility.getLexicon;
+
+/**
+ * Words of a single sentence, together with their
+ * vocabulary ids, which are looked up once, when the
+ * sentence is created.
+ */
+public final class AnalyzedSentence {
+
+    /**
+     * Vocabulary of the lexicon, giving the ids of the words.
+     */
+    private static final Vocabulary VOCABULARY = getLexicon().getVocabulary();
+
+    /**
+     * Text of the sentence.
+     */
+    private final String text;
+
+    /**
+     * Words of the sentence, as they were segmented.
+     */
+    private final String[] words;
+
+    /**
+     * Position of each word within the prepared post.
+     */
+    private final int[] offsets;
+
+    /**
+     * Id of each clean word in the vocabulary of the lexicon.
+     */
+    private final int[] ids;
+
+    /**
+     * Takes the words of the sentence from the segmentation
+     * of the prepared post. The ids are looked up straight
+     * in the prepared post, so no word is cleaned.
+     * @param segmentation - segmentation of the prepared post
+     * @param sentence - index of the sentence
+     */
+    AnalyzedSentence(final Segmentation segmentation, final int sentence) {
+        int first = segmentation.getFirstWord(sentence);
+        int count = segmentation.getEndWord(sentence) - first;
+
+        text = segmentation.getSentence(sentence);
+        words = new String[count];
+        offsets = new int[count];
+        ids = new int[count];
+
+        for (int i = 0; i < count; i++) {
+            words[i] = segmentation.getWord(first + i);
+            offsets[i] = segmentation.getWordStart(first + i);
+            ids[i] = VOCABULARY.getId(segmentation.getText(), offsets[i],
+                    segmentation.getWordEnd(first + i) - offsets[i]);
+        }
+    }
+
+    /**
+     * Gives back the text of the sentence.
+     * @return the text of the sentence
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Gives back the number of words.
+     * @return the number of words
+     */
+    public int length() {
+        return words.length;
+    }
+
+    /**
+     * Gives back the word on the given position.
+     * @param position - position of the word
+     * @return the word
+     */
+    public String getWord(final int position) {
+        return words[position];
+    }
+
+    /**
+     * Gives back the position of the word within the
+     * prepared post.
+     * @param position - position of the word
+     * @return the offset of the word
+     */
+    public int getOffset(final int position) {
+        return offsets[position];
+    }
+
+    /**
+     * Creates the token table of the sentence, which
+     * can be changed without affecting the analysis.
+     * @return the new token table
+     */
+    public TokenTable createTokenTable() {
+        return new TokenTable(words, ids);
+    }
+
+}
@@ -0,0 +1,297 @@
+package service.analysis;
+
+import java.util.Arrays;
+
+/**
+ * Sentence and word boundaries of a text, found in one pass
+ * over its characters. The boundaries are kept as arrays of
+ * offsets, so the sentences and words are only cut out of the
+ * text when they are needed. The sentences end where the text
+ * would be split by "(?&lt;=[.?!;])\\s+(?=\\p{Lu})", and the words
+ * are the ones the text, or any of its sentences, would be
+ * split into by "\\s+", so the segmentation gives back exactly
+ * what the splits used to, without running any regex.
+ */
+public final class Segmentation {
+
+    /**
+     * Initial capacity of the offset arrays.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The segmented text.
+     */
+    private final String text;
+
+    /**
+     * Start of every word.
+     */
+    private int[] wordStarts = new int[INITIAL_CAPACITY];
+
+    /**
+     * End of every word, exclusive.
+     */
+    private int[] wordEnds = new int[INITIAL_CAPACITY];
+
+    /**
+     * Number of words.
+     */
+    private int wordCount;
+
+    /**
+     * Start of every sentence.
+     */
+    private int[] sentenceStarts = new int[INITIAL_CAPACITY];
+
+    /**
+     * End of every sentence, exclusive.
+     */
+    private int[] sentenceEnds = new int[INITIAL_CAPACITY];
+
+    /**
+     * Index of the first word of every sentence. The entry
+     * after the last sentence is the number of words.
+     */
+    private int[] firstWords = new int[INITIAL_CAPACITY + 1];
+
+    /**
+     * Number of sentences.
+     */
+    private int sentenceCount;
+
+    /**
+     * Finds all the boundaries of the text.
+     * @param text - the text to be segmented
+     */
+    private Segmentation(final String text) {
+        this.text = text;
+        scan();
+    }
+
+    /**
+     * Finds the sentence and word boundaries of the text.
+     * @param text - the text to be segmented
+     * @return the segmentation of the text
+     */
+    public static Segmentation segment(final String text) {
+        return new Segmentation(text);
+    }
+
+    /**
+     * Gives back the segmented text.
+     * @return the text
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * Gives back the number of sentences. There is always
+     * at least one.
+     * @return the number of sentences
+     */
+    public int sentenceCount() {
+        return sentenceCount;
+    }
+
+    /**
+     * Gives back the start of the sentence within the text.
+     * @param sentence - index of the sentence
+     * @return the offset of the first character
+     */
+    public int getSentenceStart(final int sentence) {
+        return sentenceStarts[sentence];
+    }
+
+    /**
+     * Gives back the end of the sentence within the text.
+     * @param sentence - index of the sentence
+     * @return the offset after the last character
+     */
+    public int getSentenceEnd(final int sentence) {
+        return sentenceEnds[sentence];
+    }
+
+    /**
+     * Gives back the text of the sentence.
+     * @param sentence - index of the sentence
+     * @return the text of the sentence
+     */
+    public String getSentence(final int sentence) {
+        return text.substring(sentenceStarts[sentence],
+                sentenceEnds[sentence]);
+    }
+
+    /**
+     * Gives back the index of the first word of the sentence.
+     * @param sentence - index of the sentence
+     * @return the index of the first word
+     */
+    public int getFirstWord(final int sentence) {
+        return firstWords[sentence];
+    }
+
+    /**
+     * Gives back the index after the last word of the
+     * sentence.
+     * @param sentence - index of the sentence
+     * @return the index after the last word
+     */
+    public int getEndWord(final int sentence) {
+        return firstWords[sentence + 1];
+    }
+
+    /**
+     * Gives back the number of words of the whole text.
+     * @return the number of words
+     */
+    public int wordCount() {
+        return wordCount;
+    }
+
+    /**
+     * Gives back the start of the word within the text.
+     * @param word - index of the word
+     * @return the offset of the first character
+     */
+    public int getWordStart(final int word) {
+        return wordStarts[word];
+    }
+
+    /**
+     * Gives back the end of the word within the text.
+     * @param word - index of the word
+     * @return the offset after the last character
+     */
+    public int getWordEnd(final int word) {
+        return wordEnds[word];
+    }
+
+    /**
+     * Gives back the word.
+     * @param word - index of the word
+     * @return the word
+     */
+    public String getWord(final int word) {
+        return text.substring(wordStarts[word], wordEnds[word]);
+    }
+
+    /**
+     * Gives back all the words of the text.
+     * @return the new array of the words
+     */
+    public String[] getWords() {
+        String[] words = new String[wordCount];
+        for (int word = 0; word < wordCount; word++) {
+            words[word] = getWord(word);
+        }
+        return words;
+    }
+
+    /**
+     * Walks through the text once. Every run of whitespaces
+     * ends a word, and also a sentence if it comes after a
+     * sentence end mark and before an upper case letter.
+     * Like the split, a text starting with whitespaces gets
+     * an empty first word, and an empty text is one empty
+     * word.
+     */
+    private void scan() {
+        int length = text.length();
+        int sentenceStart = 0;
+        int position = 0;
+
+        if (length == 0) {
+            addWord(0, 0);
+        }
+
+        while (position < length) {
+            if (!isSpace(text.charAt(position))) {
+                int start = position;
+                while (position < length
+                        && !isSpace(text.charAt(position))) {
+                    position++;
+                }
+                addWord(start, position);
+                continue;
+            }
+
+            int runStart = position;
+            while (position < length && isSpace(text.charAt(position))) {
+                position++;
+            }
+            if (position == length) {
+                break;
+            }
+
+            if (runStart == 0) {
+                addWord(0, 0);
+            } else if (isSentenceEnd(text.charAt(runStart - 1))
+                    && Character.getType(text.codePointAt(position))
+                    == Character.UPPERCASE_LETTER) {
+                addSentence(sentenceStart, runStart);
+                sentenceStart = position;
+            }
+        }
+
+        addSentence(sentenceStart, length);
+    }
+
+    /**
+     * Adds the boundaries of the next word.
+     * @param start - start of the word
+     * @param end - end of the word
+     */
+    private void addWord(final int start, final int end) {
+        if (wordCount == wordStarts.length) {
+            wordStarts = Arrays.copyOf(wordStarts, wordCount * 2);
+            wordEnds = Arrays.copyOf(wordEnds, wordCount * 2);
+        }
+        wordStarts[wordCount] = start;
+        wordEnds[wordCount] = end;
+        wordCount++;
+    }
+
+    /**
+     * Adds the boundaries of the next sentence, which holds
+     * the words added since the previous one.
+     * @param start - start of the sentence
+     * @param end - end of the sentence
+     */
+    private void addSentence(final int start, final int end) {
+        if (sentenceCount == sentenceStarts.length) {
+            sentenceStarts = Arrays.copyOf(sentenceStarts,
+                    sentenceCount * 2);
+            sentenceEnds = Arrays.copyOf(sentenceEnds, sentenceCount * 2);
+            firstWords = Arrays.copyOf(firstWords, sentenceCount * 2 + 1);
+        }
+        sentenceStarts[sentenceCount] = start;
+        sentenceEnds[sentenceCount] = end;
+        firstWords[sentenceCount + 1] = wordCount;
+        sentenceCount++;
+    }
+
+    /**
+     * Checks if the character is a whitespace, as matched
+     * by "\\s" in a regex.
+     * @param c - the character
+     * @return true if the character is a whitespace,
+     *         false otherwise
+     */
+    static boolean isSpace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B'
+                || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Checks if the character can end a sentence.
+     * @param c - the character
+     * @return true if the character is one of ".?!;",
+     *         false otherwise
+     */
+    static boolean isSentenceEnd(final char c) {
+        return c == '.' || c == '?' || c == '!' || c == ';';
+    }
+
+}
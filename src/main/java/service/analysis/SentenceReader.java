@@ -0,0 +1,168 @@
+package service.analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads a text of any length sentence by sentence. The
+ * sentences end where Segmentation would end them: at a
+ * run of whitespaces after one of ".?!;" and before an upper
+ * case letter. Only the current sentence is held in memory,
+ * and a sentence that grows longer than the maximum length
+ * is cut at the last word boundary, or right there if it
+ * has no whitespaces at all, so the memory stays the same
+ * for any input.
+ */
+public final class SentenceReader {
+
+    /**
+     * Length of the sentence after which it's cut at the
+     * next word boundary.
+     */
+    public static final int MAX_SENTENCE_LENGTH = 4096;
+
+    /**
+     * Length of the sentence after which it's cut even
+     * within a word.
+     */
+    private static final int HARD_SENTENCE_LENGTH = 2 * MAX_SENTENCE_LENGTH;
+
+    /**
+     * Size of the read buffer.
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * The text being read.
+     */
+    private final Reader reader;
+
+    /**
+     * Chars read from the text.
+     */
+    private final char[] buffer = new char[BUFFER_SIZE];
+
+    /**
+     * Number of chars in the buffer.
+     */
+    private int bufferLength;
+
+    /**
+     * Position of the next char in the buffer.
+     */
+    private int bufferPosition;
+
+    /**
+     * The sentence being read.
+     */
+    private final StringBuilder sentence = new StringBuilder();
+
+    /**
+     * Creates the reader of the sentences. The text is read
+     * in blocks, so it does not need to be buffered.
+     * @param reader - the text
+     */
+    public SentenceReader(final Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next sentence, without the whitespaces
+     * that separate it from the next one.
+     * @return the sentence, or null at the end of the text
+     * @throws IOException - if the text cannot be read
+     */
+    public String next() throws IOException {
+        int spaceStart = -1;
+
+        for (int c = read(); c >= 0; c = read()) {
+            char next = (char) c;
+
+            if (Segmentation.isSpace(next)) {
+                if (spaceStart < 0) {
+                    spaceStart = sentence.length();
+                }
+
+            } else if (spaceStart > 0 && (Segmentation.isSentenceEnd(
+                    sentence.charAt(spaceStart - 1))
+                    && isSentenceStart(next)
+                    || sentence.length() >= MAX_SENTENCE_LENGTH)) {
+                return cut(spaceStart, next);
+
+            } else {
+                spaceStart = -1;
+            }
+
+            sentence.append(next);
+            if (sentence.length() >= HARD_SENTENCE_LENGTH) {
+                return cut(sentence.length(), -1);
+            }
+        }
+
+        if (sentence.length() == 0) {
+            return null;
+        }
+        return cut(sentence.length(), -1);
+    }
+
+    /**
+     * Gives back the sentence up to the given end, and
+     * starts the next one with the given char.
+     * @param end - end of the sentence
+     * @param first - first char of the next sentence,
+     *              -1 if there is none yet
+     * @return the sentence
+     */
+    private String cut(final int end, final int first) {
+        String result = sentence.substring(0, end);
+        sentence.setLength(0);
+        if (first >= 0) {
+            sentence.append((char) first);
+        }
+        return result;
+    }
+
+    /**
+     * Checks if the char, together with the one after it
+     * if it's a high surrogate, is an upper case letter.
+     * @param c - the char
+     * @return true if a sentence can start with the char,
+     *         false otherwise
+     * @throws IOException - if the text cannot be read
+     */
+    private boolean isSentenceStart(final char c) throws IOException {
+        int codePoint = c;
+        if (Character.isHighSurrogate(c) && fill()
+                && Character.isLowSurrogate(buffer[bufferPosition])) {
+            codePoint = Character.toCodePoint(c, buffer[bufferPosition]);
+        }
+        return Character.getType(codePoint) == Character.UPPERCASE_LETTER;
+    }
+
+    /**
+     * Reads the next char of the text.
+     * @return the char, or -1 at the end of the text
+     * @throws IOException - if the text cannot be read
+     */
+    private int read() throws IOException {
+        return fill() ? buffer[bufferPosition++] : -1;
+    }
+
+    /**
+     * Makes sure that there is a char in the buffer.
+     * @return false at the end of the text, true otherwise
+     * @throws IOException - if the text cannot be read
+     */
+    private boolean fill() throws IOException {
+        while (bufferPosition == bufferLength) {
+            int read = reader.read(buffer, 0, buffer.length);
+            if (read < 0) {
+                return false;
+            }
+            bufferLength = read;
+            bufferPosition = 0;
+        }
+        return true;
+    }
+
+}
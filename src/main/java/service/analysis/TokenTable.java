@@ -0,0 +1,612 @@
+package service.analysis;
+
+import dm.data.Vocabulary;
+import dm.data.WordFlags;
+import service.util.EditList;
+
+import java.util.function.IntPredicate;
+
+import static dm.dao.Utility.clean;
+import static dm.dao.Utility.getLexicon;
+import static dm.dao.VerbUtility.isAdverb;
+import static service.inversion.NewSubSentenceHelper.isSubSentenceCase;
+import static dm.data.Vocabulary.ANY;
+import static dm.data.Vocabulary.BUT;
+import static dm.data.Vocabulary.NOT;
+import static dm.data.Vocabulary.SOME;
+import static dm.data.Vocabulary.UNKNOWN;
+import static service.inversion.SkipHelper.isPossession;
+
+/**
+ * Words of a sentence that is being inverted, together with
+ * their vocabulary ids and lexical tags. The tags of a word are
+ * computed from its id, the first time any of them is needed,
+ * so every rule of the inversion reads them from the table
+ * instead of cleaning the word and looking it up again. A
+ * word is only cleaned when a rule asks for its clean form,
+ * or for the tags read from the form of a word outside the
+ * vocabulary. When a word is replaced, its id is looked up
+ * in the new word and its tags are computed again. The table
+ * also keeps the positions of the next verb, separator and
+ * a few key words after every position, so the rules looking
+ * ahead don't have to scan the rest of the sentence.
+ */
+public final class TokenTable {
+
+    /**
+     * Tag for any form of a verb, modal verbs included.
+     */
+    public static final long VERB = WordFlags.VERB;
+
+    /**
+     * Tag for modal verbs.
+     */
+    public static final long MODAL = WordFlags.MODAL;
+
+    /**
+     * Tag for the forms of the verb "to do".
+     */
+    public static final long FORM_OF_DO = WordFlags.FORM_OF_DO;
+
+    /**
+     * Tag for the forms of the verb "to be".
+     */
+    public static final long FORM_OF_BE = WordFlags.FORM_OF_BE;
+
+    /**
+     * Tag for the forms of the verb "to have".
+     */
+    public static final long FORM_OF_HAVE = WordFlags.FORM_OF_HAVE;
+
+    /**
+     * Tag for verbs in infinitive.
+     */
+    public static final long INFINITIVE = WordFlags.INFINITIVE;
+
+    /**
+     * Tag for verbs in perfect.
+     */
+    public static final long PERFECT = WordFlags.PERFECT;
+
+    /**
+     * Tag for verbs in past participle.
+     */
+    public static final long PAST_PARTICIPLE = WordFlags.PAST_PARTICIPLE;
+
+    /**
+     * Tag for verbs in third person.
+     */
+    public static final long THIRD_PERSON = WordFlags.THIRD_PERSON;
+
+    /**
+     * Tag for verbs in gerund.
+     */
+    public static final long GERUND = WordFlags.GERUND;
+
+    /**
+     * Tag for verbs usually starting a new sub-sentence.
+     */
+    public static final long NEW_SUB_SENTENCE_VERB
+            = WordFlags.NEW_SUB_SENTENCE_VERB;
+
+    /**
+     * Tag for the forms of the verbs "start" and "stop".
+     */
+    public static final long START_OR_STOP = WordFlags.START_OR_STOP;
+
+    /**
+     * Tag for adverbs.
+     */
+    public static final long ADVERB = 1L << 59;
+
+    /**
+     * Tag for names.
+     */
+    public static final long NAME = WordFlags.NAME;
+
+    /**
+     * Tag for nouns.
+     */
+    public static final long NOUN = WordFlags.NOUN;
+
+    /**
+     * Tag for nouns in singular.
+     */
+    public static final long SINGULAR = WordFlags.SINGULAR;
+
+    /**
+     * Tag for nouns in plural.
+     */
+    public static final long PLURAL = WordFlags.PLURAL;
+
+    /**
+     * Tag for articles.
+     */
+    public static final long ARTICLE = WordFlags.ARTICLE;
+
+    /**
+     * Tag for possessions of a name (i.e. "John's").
+     */
+    public static final long POSSESSION = 1L << 62;
+
+    /**
+     * Tag for the words "some" and "any".
+     */
+    public static final long SOME_OR_ANY = 1L << 61;
+
+    /**
+     * Tag for the words "not" and "but".
+     */
+    public static final long NOT_OR_BUT = 1L << 60;
+
+    /**
+     * Tag for singular pronouns.
+     */
+    public static final long SINGULAR_PRONOUN = WordFlags.SINGULAR_PRONOUN;
+
+    /**
+     * Tag for plural pronouns.
+     */
+    public static final long PLURAL_PRONOUN = WordFlags.PLURAL_PRONOUN;
+
+    /**
+     * Tag for basic pronouns.
+     */
+    public static final long BASIC_PRONOUN = WordFlags.BASIC_PRONOUN;
+
+    /**
+     * Tag for other pronouns.
+     */
+    public static final long OTHER_PRONOUN = WordFlags.OTHER_PRONOUN;
+
+    /**
+     * Tag for possessive pronouns.
+     */
+    public static final long POSSESSIVE_PRONOUN = WordFlags.POSSESSIVE_PRONOUN;
+
+    /**
+     * Tag for indefinite pronouns.
+     */
+    public static final long INDEFINITE_PRONOUN = WordFlags.INDEFINITE_PRONOUN;
+
+    /**
+     * Tag for negative indefinite pronouns.
+     */
+    public static final long NEG_INDEFINITE_PRONOUN
+            = WordFlags.NEG_INDEFINITE_PRONOUN;
+
+    /**
+     * Tag for conjunctions.
+     */
+    public static final long CONJUNCTION = WordFlags.CONJUNCTION;
+
+    /**
+     * Tag for sentence conjunctions (and, or, nor, but).
+     */
+    public static final long SENTENCE_CONJUNCTION
+            = WordFlags.SENTENCE_CONJUNCTION;
+
+    /**
+     * Tag for prepositions.
+     */
+    public static final long PREPOSITION = WordFlags.PREPOSITION;
+
+    /**
+     * Tag for adjectives.
+     */
+    public static final long ADJECTIVE = WordFlags.ADJECTIVE;
+
+    /**
+     * Tag for interrogative words.
+     */
+    public static final long QUESTION_WORD = WordFlags.QUESTION_WORD;
+
+    /**
+     * Tag for skip interrogative words.
+     */
+    public static final long SKIP_QUESTION_WORD = WordFlags.SKIP_QUESTION_WORD;
+
+    /**
+     * Tag for push interrogative words.
+     */
+    public static final long PUSH_QUESTION_WORD = WordFlags.PUSH_QUESTION_WORD;
+
+    /**
+     * Marks the rows whose tags have been computed.
+     */
+    private static final long COMPUTED = 1L << 63;
+
+    /**
+     * Marks the rows whose adverb and possession tags have
+     * been computed.
+     */
+    private static final long FORM_COMPUTED = 1L << 58;
+
+    /**
+     * Tags recognized by the form of the clean word.
+     */
+    private static final long FORM_TAGS = ADVERB | POSSESSION;
+
+    /**
+     * Vocabulary of the lexicon, giving the ids and flags
+     * of the words.
+     */
+    private static final Vocabulary VOCABULARY = getLexicon().getVocabulary();
+
+    /**
+     * Tags of every id, computed from the clean word of the id
+     * once, so the words in the vocabulary are never cleaned
+     * for their tags.
+     */
+    private static final long[] ID_TAGS = computeIdTags();
+
+    /**
+     * Current words of the sentence. They are the words of
+     * the analyzed sentence until the first one is replaced.
+     */
+    private String[] words;
+
+    /**
+     * Clean form of each word outside the vocabulary, cleaned
+     * the first time it's needed. The array is created then.
+     */
+    private String[] cleanWords;
+
+    /**
+     * Vocabulary id of each clean word, shared the same way
+     * as the words.
+     */
+    private int[] ids;
+
+    /**
+     * True once the words are copied, so they can be replaced.
+     */
+    private boolean copied;
+
+    /**
+     * All the replaced words, recorded against the words of
+     * the analyzed sentence.
+     */
+    private final EditList edits;
+
+    /**
+     * Tags of each word.
+     */
+    private final long[] tags;
+
+    /**
+     * Positions of the next verbs.
+     */
+    private final NextIndex verbs;
+
+    /**
+     * Positions of the next sub-sentence separators.
+     */
+    private final NextIndex separators;
+
+    /**
+     * Positions of the next words "some" or "any".
+     */
+    private final NextIndex someOrAny;
+
+    /**
+     * Positions of the next words "not" or "but".
+     */
+    private final NextIndex notOrBut;
+
+    /**
+     * Creates the table of the words with already known
+     * ids. The arrays are only read by the table, which
+     * copies them before the first word is replaced.
+     * @param words - words of the sentence
+     * @param ids - vocabulary id of each clean word
+     */
+    TokenTable(final String[] words, final int[] ids) {
+        this.words = words;
+        this.ids = ids;
+        this.edits = new EditList(words);
+        this.tags = new long[words.length];
+        this.verbs = new NextIndex(position -> is(position, VERB));
+        this.separators = new NextIndex(
+                position -> isSubSentenceCase(this, position));
+        this.someOrAny = new NextIndex(position -> is(position, SOME_OR_ANY));
+        this.notOrBut = new NextIndex(position -> is(position, NOT_OR_BUT));
+    }
+
+    /**
+     * Gives back the number of words.
+     * @return the number of words
+     */
+    public int length() {
+        return words.length;
+    }
+
+    /**
+     * Gives back the word on the given position.
+     * @param position - position of the word
+     * @return the word
+     */
+    public String getWord(final int position) {
+        return words[position];
+    }
+
+    /**
+     * Gives back the clean form of the word on the given
+     * position. A word in the vocabulary has the word of its
+     * id, any other word is cleaned once.
+     * @param position - position of the word
+     * @return the clean form of the word
+     */
+    public String getClean(final int position) {
+        if (ids[position] != UNKNOWN) {
+            return VOCABULARY.getWord(ids[position]);
+        }
+        if (cleanWords == null) {
+            cleanWords = new String[words.length];
+        }
+        if (cleanWords[position] == null) {
+            cleanWords[position] = clean(words[position]);
+        }
+        return cleanWords[position];
+    }
+
+    /**
+     * Gives back the vocabulary id of the word on the
+     * given position.
+     * @param position - position of the word
+     * @return the id of the clean word, Vocabulary.UNKNOWN
+     *         if it's not in the vocabulary
+     */
+    public int getId(final int position) {
+        return ids[position];
+    }
+
+    /**
+     * Gives back the current words. The array is the one
+     * used by the table, so it must only be read.
+     * @return the current words
+     */
+    public String[] getWords() {
+        return words;
+    }
+
+    /**
+     * Gives back the vocabulary ids of the current words.
+     * The array is the one used by the table, so it must
+     * only be read.
+     * @return the ids of the current words
+     */
+    public int[] getIds() {
+        return ids;
+    }
+
+    /**
+     * Replaces the word on the given position. Its id is
+     * looked up in the new word, which isn't cleaned, and
+     * its clean form and tags will be computed again.
+     * @param position - position of the word
+     * @param word - the new word
+     */
+    public void setWord(final int position, final String word) {
+        if (!copied) {
+            words = words.clone();
+            ids = ids.clone();
+            copied = true;
+        }
+
+        edits.replace(position, word);
+        words[position] = word;
+        ids[position] = VOCABULARY.getId(word);
+        if (cleanWords != null) {
+            cleanWords[position] = null;
+        }
+        tags[position] = 0L;
+
+        verbs.invalidate(position);
+        separators.invalidate(position);
+        someOrAny.invalidate(position);
+        notOrBut.invalidate(position);
+    }
+
+    /**
+     * Gives back the replaced words, as edits of the words
+     * of the analyzed sentence.
+     * @return the edit list, which must only be read
+     */
+    public EditList getEdits() {
+        return edits;
+    }
+
+    /**
+     * Checks if the word on the given position has
+     * any of the tags.
+     * @param position - position of the word
+     * @param tag - one or more tags
+     * @return true if the word has any of the tags,
+     *         false otherwise
+     */
+    public boolean is(final int position, final long tag) {
+        long row = tags[position];
+        if (row == 0L) {
+            row = ID_TAGS[ids[position]];
+            tags[position] = row;
+        }
+        if ((row & FORM_COMPUTED) == 0L && (tag & FORM_TAGS) != 0L) {
+            row |= FORM_COMPUTED | computeFormTags(getClean(position));
+            tags[position] = row;
+        }
+        return (row & tag) != 0L;
+    }
+
+    /**
+     * Gives back the position of the first verb at or after
+     * the given position.
+     * @param position - position where the search starts
+     * @return position of the verb, or the number of words
+     *         if there is no verb
+     */
+    public int nextVerb(final int position) {
+        return verbs.find(position);
+    }
+
+    /**
+     * Gives back the position of the first sub-sentence
+     * separator at or after the given position.
+     * @param position - position where the search starts
+     * @return position of the separator, or the number of
+     *         words if there is no separator
+     */
+    public int nextSeparator(final int position) {
+        return separators.find(position);
+    }
+
+    /**
+     * Checks if the word on the given position separates
+     * the sub-sentences.
+     * @param position - position of the word
+     * @return true if the word is a separator, false otherwise
+     */
+    public boolean isSeparator(final int position) {
+        return separators.find(position) == position;
+    }
+
+    /**
+     * Gives back the position of the first word "some" or
+     * "any" at or after the given position.
+     * @param position - position where the search starts
+     * @return position of the word, or the number of words
+     *         if there is no such word
+     */
+    public int nextSomeOrAny(final int position) {
+        return someOrAny.find(position);
+    }
+
+    /**
+     * Gives back the position of the first word "not" or
+     * "but" at or after the given position.
+     * @param position - position where the search starts
+     * @return position of the word, or the number of words
+     *         if there is no such word
+     */
+    public int nextNotOrBut(final int position) {
+        return notOrBut.find(position);
+    }
+
+    /**
+     * Computes the tags of every id. The lexical tags are the
+     * word flags of the id, the rest are recognized by the id
+     * and by the form of its clean word. The form of the words
+     * outside the vocabulary is only known in the sentence, so
+     * UNKNOWN has no form tags.
+     * @return the tags of every id, marked as computed
+     */
+    private static long[] computeIdTags() {
+        long[] idTags = new long[VOCABULARY.size()];
+        idTags[UNKNOWN] = COMPUTED;
+
+        for (int id = UNKNOWN + 1; id < idTags.length; id++) {
+            long row = COMPUTED | FORM_COMPUTED | VOCABULARY.getFlags(id)
+                    | computeFormTags(VOCABULARY.getWord(id));
+
+            if (id == SOME || id == ANY) {
+                row |= SOME_OR_ANY;
+            }
+            if (id == NOT || id == BUT) {
+                row |= NOT_OR_BUT;
+            }
+            idTags[id] = row;
+        }
+
+        return idTags;
+    }
+
+    /**
+     * Computes the tags recognized by the form of the clean
+     * word, which are adverbs and possessions.
+     * @param word - the clean word
+     * @return the tags
+     */
+    private static long computeFormTags(final String word) {
+        long row = 0L;
+
+        if (isAdverb(word)) {
+            row |= ADVERB;
+        }
+        if (isPossession(word)) {
+            row |= POSSESSION;
+        }
+
+        return row;
+    }
+
+    /**
+     * Suffix index giving back the first position at or after
+     * any position where the words satisfy the test. Every
+     * entry is computed from the entry after it, so the whole
+     * index takes one pass from the end of the sentence. When
+     * a word is replaced, only the entries up to its position
+     * can change. They are computed again when they are asked
+     * for, so the index keeps up with the inversion without
+     * being built again.
+     */
+    private final class NextIndex {
+
+        /**
+         * Test of the wanted words.
+         */
+        private final IntPredicate test;
+
+        /**
+         * First wanted position at or after every position.
+         * The last entry is the number of words.
+         */
+        private final int[] next;
+
+        /**
+         * Entries from this position on are up to date.
+         */
+        private int validFrom;
+
+        /**
+         * Creates the index of the words satisfying the test.
+         * The entries are computed when they are needed.
+         * @param test - test of the wanted words
+         */
+        private NextIndex(final IntPredicate test) {
+            this.test = test;
+            this.next = new int[words.length + 1];
+            this.next[words.length] = words.length;
+            this.validFrom = words.length;
+        }
+
+        /**
+         * Gives back the first wanted position at or after
+         * the given position.
+         * @param position - position where the search starts
+         * @return the wanted position, or the number of words
+         *         if there is none
+         */
+        private int find(final int position) {
+            if (position >= words.length) {
+                return words.length;
+            }
+
+            for (int pos = validFrom - 1; pos >= position; pos--) {
+                next[pos] = test.test(pos) ? pos : next[pos + 1];
+            }
+            validFrom = Math.min(validFrom, position);
+
+            return next[position];
+        }
+
+        /**
+         * Marks the entries which may change after the word
+         * on the given position is replaced.
+         * @param position - position of the replaced word
+         */
+        private void invalidate(final int position) {
+            validFrom = Math.max(validFrom, position + 1);
+        }
+    }
+
+}
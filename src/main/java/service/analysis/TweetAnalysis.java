@@ -0,0 +1,162 @@
+package service.analysis;
+
+import service.formatter.Pipe;
+import service.formatter.PipeMode;
+import service.formatter.PipedBuffer;
+import service.formatter.PostFormatter;
+import service.util.EditList;
+
+import static service.inversion.ShortModalHelper.fixShortModals;
+
+/**
+ * Everything that is derived from a single post. The
+ * piped tokens are used by the classifier and the tagged
+ * sentences by the inversion. Both are computed at most
+ * once, the first time they are needed, so a post that is
+ * not classified as relevant is never split into sentences.
+ */
+public final class TweetAnalysis {
+
+    /**
+     * Original text of the post.
+     */
+    private final String original;
+
+    /**
+     * Piped version of the post.
+     */
+    private final PipedBuffer piped;
+
+    /**
+     * True once the post has been piped.
+     */
+    private boolean isPiped;
+
+    /**
+     * Post formatted and prepared for the inversion.
+     */
+    private String prepared;
+
+    /**
+     * True if the formatter ran out of its time budget and
+     * the post was prepared without being formatted.
+     */
+    private boolean unformatted;
+
+    /**
+     * Sentences of the prepared post.
+     */
+    private AnalyzedSentence[] sentences;
+
+    /**
+     * Creates the analysis of the post.
+     * @param original - original text of the post
+     */
+    public TweetAnalysis(final String original) {
+        this(original, new PipedBuffer());
+    }
+
+    /**
+     * Creates the analysis of the post, storing the piped
+     * version in the given buffer. The buffer is cleared,
+     * so it can be reused from one post to the next.
+     * @param original - original text of the post
+     * @param piped - buffer for the piped version
+     */
+    public TweetAnalysis(final String original,
+                         final PipedBuffer piped) {
+        this.original = original;
+        this.piped = piped;
+    }
+
+    /**
+     * Gives back the original text of the post.
+     * @return the original text
+     */
+    public String getOriginal() {
+        return original;
+    }
+
+    /**
+     * Gives back the piped version of the post, as needed
+     * by the classifier. The post is piped on the first call.
+     * @return the piped version
+     */
+    public PipedBuffer getPiped() {
+        if (!isPiped) {
+            piped.clear();
+            Pipe.pipe(original, PipeMode.TESTING, piped);
+            isPiped = true;
+        }
+        return piped;
+    }
+
+    /**
+     * Gives back the post formatted for the inversion, with
+     * no short modal forms.
+     * @return the prepared post
+     */
+    public String getPrepared() {
+        if (prepared == null) {
+            String formatted = PostFormatter.formatWithinBudget(original);
+            unformatted = formatted == null;
+            prepared = prepare(unformatted ? original : formatted);
+        }
+        return prepared;
+    }
+
+    /**
+     * Checks if the post was prepared without being
+     * formatted, because the formatter ran out of its time
+     * budget. The inversion of such a post depends on the
+     * load of the machine, so it must not be cached.
+     * @return true if the post was not formatted, false
+     *         otherwise
+     */
+    public boolean isUnformatted() {
+        getPrepared();
+        return unformatted;
+    }
+
+    /**
+     * Gives back the sentences of the prepared post. The
+     * post is split and tagged on the first call.
+     * @return the sentences
+     */
+    public AnalyzedSentence[] getSentences() {
+        if (sentences == null) {
+            sentences = split(getPrepared());
+        }
+        return sentences;
+    }
+
+    /**
+     * Makes sure that there are no short modal forms like
+     * "it's" in the formatted post.
+     * @param post - formatted post
+     * @return the prepared post
+     */
+    private static String prepare(final String post) {
+        String[] allWords = Segmentation.segment(post).getWords();
+
+        return EditList.join(fixShortModals(allWords));
+    }
+
+    /**
+     * Splits the prepared post into sentences, keeping
+     * the word offsets from its segmentation.
+     * @param post - prepared post
+     * @return the sentences
+     */
+    private static AnalyzedSentence[] split(final String post) {
+        Segmentation segmentation = Segmentation.segment(post);
+
+        AnalyzedSentence[] result
+                = new AnalyzedSentence[segmentation.sentenceCount()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new AnalyzedSentence(segmentation, i);
+        }
+        return result;
+    }
+
+}
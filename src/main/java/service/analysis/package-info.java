@@ -0,0 +1,5 @@
+/**
+ * Classes holding the analysis of a single post, shared
+ * by the classification and the inversion.
+ */
+package service.analysis;
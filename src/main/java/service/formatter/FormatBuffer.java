@@ -0,0 +1,187 @@
+package service.formatter;
+
+import java.util.Arrays;
+
+/**
+ * Char buffer used by the PostFormatter. Every formatting
+ * step reads the current text and emits the new version
+ * into a second array, which then becomes the current
+ * text. That way each step is a single linear pass, with
+ * no substrings and no regular expressions.
+ */
+final class FormatBuffer {
+
+    /**
+     * The current text.
+     */
+    private char[] chars;
+
+    /**
+     * Length of the current text.
+     */
+    private int length;
+
+    /**
+     * The text being emitted by the current step.
+     */
+    private char[] next;
+
+    /**
+     * Number of chars emitted by the current step.
+     */
+    private int emitted;
+
+    /**
+     * Creates the buffer holding the given text.
+     * @param text - the initial text
+     */
+    FormatBuffer(final String text) {
+        length = text.length();
+        chars = new char[Math.max(length * 2, 16)];
+        text.getChars(0, length, chars, 0);
+        next = new char[chars.length];
+    }
+
+    /**
+     * Gives back the length of the current text.
+     * @return length of the current text
+     */
+    int length() {
+        return length;
+    }
+
+    /**
+     * Gives back the char of the current text.
+     * @param pos - position of the char
+     * @return the char on the given position
+     */
+    char charAt(final int pos) {
+        return chars[pos];
+    }
+
+    /**
+     * Changes one char of the current text.
+     * @param pos - position of the char
+     * @param c - the new char
+     */
+    void setCharAt(final int pos, final char c) {
+        chars[pos] = c;
+    }
+
+    /**
+     * Checks if the current text contains the given string
+     * on the given position.
+     * @param pos - position to be checked
+     * @param string - string to look for
+     * @return true if the string is on the position,
+     *         false otherwise
+     */
+    boolean regionMatches(final int pos, final String string) {
+        if (pos + string.length() > length) {
+            return false;
+        }
+
+        for (int i = 0; i < string.length(); i++) {
+            if (chars[pos + i] != string.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Starts a new step. Nothing is emitted yet.
+     */
+    void begin() {
+        emitted = 0;
+    }
+
+    /**
+     * Emits one char.
+     * @param c - the char to be emitted
+     */
+    void emit(final char c) {
+        if (emitted == next.length) {
+            next = Arrays.copyOf(next, next.length * 2);
+        }
+        next[emitted++] = c;
+    }
+
+    /**
+     * Emits all the chars of the string.
+     * @param string - chars to be emitted
+     */
+    void emit(final String string) {
+        for (int i = 0; i < string.length(); i++) {
+            emit(string.charAt(i));
+        }
+    }
+
+    /**
+     * Emits a part of the current text.
+     * @param start - position of the first char
+     * @param end - position after the last char
+     */
+    void emit(final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            emit(chars[i]);
+        }
+    }
+
+    /**
+     * Gives back the number of chars emitted by the
+     * current step.
+     * @return the number of emitted chars
+     */
+    int emitted() {
+        return emitted;
+    }
+
+    /**
+     * Gives back one of the emitted chars.
+     * @param pos - position of the char
+     * @return the emitted char on the given position
+     */
+    char emittedAt(final int pos) {
+        return next[pos];
+    }
+
+    /**
+     * Gives back the last emitted char.
+     * @return the last emitted char
+     */
+    char lastEmitted() {
+        return next[emitted - 1];
+    }
+
+    /**
+     * Takes back all the whitespaces from the end of
+     * the emitted text.
+     * @return number of removed whitespaces
+     */
+    int dropEmittedWhitespace() {
+        int dropped = 0;
+        while (emitted > 0 && Character.isWhitespace(next[emitted - 1])) {
+            emitted--;
+            dropped++;
+        }
+        return dropped;
+    }
+
+    /**
+     * Finishes the step. The emitted text becomes the
+     * current text.
+     */
+    void commit() {
+        char[] previous = chars;
+        chars = next;
+        length = emitted;
+        next = previous;
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+}
@@ -3,6 +3,10 @@ package service.formatter;
 import opennlp.tools.stemmer.PorterStemmer;
 import org.apache.commons.lang.StringEscapeUtils;
 
+import java.io.IOException;
+import java.io.Reader;
+
+import static dm.dao.CharUtility.isRegexWhitespace;
 import static dm.dao.MlUtility.abbreviations;
 import static dm.dao.MlUtility.isAboutRussia;
 import static dm.dao.MlUtility.isTestingWord;
@@ -22,6 +26,16 @@ public final class Pipe {
      */
     private static final int MIN_WORD_NUM = 3;
 
+    /**
+     * Number of characters read from a Reader at once.
+     */
+    private static final int CHUNK_SIZE = 1024;
+
+    /**
+     * Characters below this value are ASCII.
+     */
+    private static final char ASCII_LIMIT = 128;
+
     /**
      * Empty private constructor for preventing
      * public or default constructor.
@@ -51,63 +65,59 @@ public final class Pipe {
      * @return filtered status, ready for training or classification
      */
     public static String pipe(final String original, final PipeMode mode) {
-        String copy = original;
-
-        // Step 1
-        copy = StringEscapeUtils.unescapeHtml(copy);
-
-        // Step 2
-        copy = fixAbbreviations(copy);
-
-        StringBuilder result = new StringBuilder();
-        String[] tokens = copy.split("[\\s]+");
-        for (String current : tokens) {
-            String token = current;
-
-            // Step 3
-            token = token.toLowerCase();
-
-            // Step 4
-            token = token.replaceAll("-",
-                    " ");
+        PipedBuffer buffer = new PipedBuffer();
+        pipe(original, mode, buffer);
+        return buffer.toString();
+    }
 
-            // Step 5
-            token = token.replaceAll("[^A-Za-z0-9]+",
-                    "");
+    /**
+     * Passes the status through the same filters as
+     * pipe(String, PipeMode), but hands the resulting tokens
+     * to the sink one by one instead of joining them.
+     * @param original - original status in text form
+     * @param mode - execution mode (training or testing)
+     * @param sink - receives the filtered tokens
+     * @return true if the status is long enough or about
+     *         Russia, false if the tokens were discarded
+     */
+    public static boolean pipe(final CharSequence original,
+                               final PipeMode mode,
+                               final TokenSink sink) {
+        TokenPipeline pipeline = new TokenPipeline(mode, sink);
 
-            // Step 6
-            if (isVerb(token)) {
-                token = getInfinitive(token);
-            }
+        for (int i = 0; i < original.length(); i++) {
+            pipeline.feed(original.charAt(i));
+        }
 
-            // Step 7
-            if (shouldIgnore(token)) {
-                continue;
+        return pipeline.finish();
+    }
 
-            } else if (mode == PipeMode.TRAINING
-                    && !isTrainingWord(token)) {
-                continue;
+    /**
+     * Reads the status from the reader and passes it through
+     * the same filters as pipe(String, PipeMode). Tokens are
+     * handed to the sink as soon as they are read.
+     * @param original - reader for the original status
+     * @param mode - execution mode (training or testing)
+     * @param sink - receives the filtered tokens
+     * @return true if the status is long enough or about
+     *         Russia, false if the tokens were discarded
+     * @throws IOException - if the status cannot be read
+     */
+    public static boolean pipe(final Reader original,
+                               final PipeMode mode,
+                               final TokenSink sink)
+            throws IOException {
+        TokenPipeline pipeline = new TokenPipeline(mode, sink);
+        char[] chunk = new char[CHUNK_SIZE];
 
-            } else if (mode == PipeMode.TESTING
-                    && !isTestingWord(token)) {
-                continue;
+        int read;
+        while ((read = original.read(chunk)) != -1) {
+            for (int i = 0; i < read; i++) {
+                pipeline.feed(chunk[i]);
             }
-
-            // Step 8
-            token = stemWord(token);
-
-            result.append(token + " ");
         }
 
-        String[] finalTokens = result.toString().split("\\s+");
-
-        if (finalTokens.length < MIN_WORD_NUM
-                && !isAboutRussia(result.toString())) {
-
-            return "";
-        } else {
-            return result.toString();
-        }
+        return pipeline.finish();
     }
 
     /**
@@ -116,13 +126,24 @@ public final class Pipe {
      * @return post with no slash abbreviations
      */
     public static String fixAbbreviations(final String original) {
+        return fixAbbreviations(original, abbreviations());
+    }
+
+    /**
+     * Replaces the slash abbreviations with their full versions.
+     * @param original - post with slash abbreviations
+     * @param abbreviations - pairs of abbreviations and full words
+     * @return post with no slash abbreviations
+     */
+    private static String fixAbbreviations(final String original,
+                                           final String[] abbreviations) {
         String copy = original;
 
-        for (int i = 0; i < abbreviations().length; i += 2) {
-            if (copy.contains(abbreviations()[i])) {
+        for (int i = 0; i < abbreviations.length; i += 2) {
+            if (copy.contains(abbreviations[i])) {
 
-                copy = copy.replace(abbreviations()[i],
-                        abbreviations()[i + 1] + " ");
+                copy = copy.replace(abbreviations[i],
+                        abbreviations[i + 1] + " ");
             }
         }
 
@@ -139,4 +160,193 @@ public final class Pipe {
         return stemmer.stem(original);
     }
 
+    /**
+     * State of one post passing through the filters. Characters
+     * are collected until a whitespace, and every collected raw
+     * token goes through all the steps on its own. Each step
+     * only looks at a single token, so this gives the same
+     * tokens as running the steps on the whole post.
+     */
+    private static final class TokenPipeline {
+
+        /**
+         * Execution mode (training or testing).
+         */
+        private final PipeMode mode;
+
+        /**
+         * Receives the filtered tokens.
+         */
+        private final TokenSink sink;
+
+        /**
+         * Slash abbreviations, read once per post.
+         */
+        private final String[] abbreviations = abbreviations();
+
+        /**
+         * Stemmer shared by all the tokens of the post.
+         */
+        private final PorterStemmer stemmer = new PorterStemmer();
+
+        /**
+         * Characters of the raw token being read.
+         */
+        private final StringBuilder raw = new StringBuilder();
+
+        /**
+         * Characters of the token being normalized.
+         */
+        private final StringBuilder normalized = new StringBuilder();
+
+        /**
+         * Number of tokens handed to the sink.
+         */
+        private int accepted;
+
+        /**
+         * True if any of the accepted tokens is about Russia.
+         */
+        private boolean aboutRussia;
+
+        /**
+         * Creates the pipeline for one post.
+         * @param mode - execution mode (training or testing)
+         * @param sink - receives the filtered tokens
+         */
+        TokenPipeline(final PipeMode mode, final TokenSink sink) {
+            this.mode = mode;
+            this.sink = sink;
+        }
+
+        /**
+         * Takes the next character of the post.
+         * @param c - the next character
+         */
+        void feed(final char c) {
+            if (isRegexWhitespace(c)) {
+                flush();
+            } else {
+                raw.append(c);
+            }
+        }
+
+        /**
+         * Processes the last token and decides if the post
+         * is kept. Posts with less than MIN_WORD_NUM tokens
+         * are discarded, unless they are about Russia.
+         * @return true if the post is kept, false otherwise
+         */
+        boolean finish() {
+            flush();
+
+            if (accepted < MIN_WORD_NUM && !aboutRussia) {
+                sink.discard();
+                return false;
+            }
+            return true;
+        }
+
+        /**
+         * Passes the collected raw token through steps 1 and 2.
+         * If that produces any whitespaces, the pieces are
+         * processed as separate tokens.
+         */
+        private void flush() {
+            if (raw.length() == 0) {
+                return;
+            }
+
+            String token = raw.toString();
+            raw.setLength(0);
+
+            // Step 1
+            if (token.indexOf('&') >= 0) {
+                token = StringEscapeUtils.unescapeHtml(token);
+            }
+
+            // Step 2
+            token = fixAbbreviations(token, abbreviations);
+
+            int start = 0;
+            for (int i = 0; i < token.length(); i++) {
+                if (isRegexWhitespace(token.charAt(i))) {
+                    if (i > start) {
+                        filter(token, start, i);
+                    }
+                    start = i + 1;
+                }
+            }
+            if (start < token.length()) {
+                filter(token, start, token.length());
+            }
+        }
+
+        /**
+         * Passes one token through steps 3 to 8 and hands it
+         * to the sink if it's not skipped.
+         * @param token - text containing the token
+         * @param start - index of the first character
+         * @param end - index after the last character
+         */
+        private void filter(final String token,
+                            final int start,
+                            final int end) {
+            normalized.setLength(0);
+
+            for (int i = start; i < end; i++) {
+                char c = token.charAt(i);
+
+                // Step 3, 4 and 5
+                if (c < ASCII_LIMIT) {
+                    if (c >= 'A' && c <= 'Z') {
+                        normalized.append((char) (c + ('a' - 'A')));
+                    } else if ((c >= 'a' && c <= 'z')
+                            || (c >= '0' && c <= '9')) {
+                        normalized.append(c);
+                    }
+                } else {
+                    String lower = String.valueOf(c).toLowerCase();
+                    for (int j = 0; j < lower.length(); j++) {
+                        char l = lower.charAt(j);
+                        if ((l >= 'a' && l <= 'z')
+                                || (l >= '0' && l <= '9')) {
+                            normalized.append(l);
+                        }
+                    }
+                }
+            }
+
+            String word = normalized.toString();
+
+            // Step 6
+            if (isVerb(word)) {
+                word = getInfinitive(word);
+            }
+
+            // Step 7
+            if (shouldIgnore(word)) {
+                return;
+
+            } else if (mode == PipeMode.TRAINING
+                    && !isTrainingWord(word)) {
+                return;
+
+            } else if (mode == PipeMode.TESTING
+                    && !isTestingWord(word)) {
+                return;
+            }
+
+            // Step 8
+            word = stemmer.stem(word);
+
+            if (!aboutRussia) {
+                aboutRussia = isAboutRussia(word);
+            }
+            accepted++;
+            sink.accept(word);
+        }
+
+    }
+
 }
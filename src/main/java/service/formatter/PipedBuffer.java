@@ -0,0 +1,132 @@
+package service.formatter;
+
+import java.util.Arrays;
+
+/**
+ * Reusable buffer for the piped version of a post. Tokens
+ * are stored in the same form that Pipe.pipe gives back
+ * (every token followed by a space), so the classifier can
+ * score the characters directly, without any intermediate
+ * strings. The buffer should be cleared before every post.
+ */
+public final class PipedBuffer implements TokenSink, CharSequence {
+
+    /**
+     * Initial capacity of the buffer.
+     */
+    private static final int INITIAL_CAPACITY = 128;
+
+    /**
+     * Characters of the piped post.
+     */
+    private char[] chars = new char[INITIAL_CAPACITY];
+
+    /**
+     * Number of used characters.
+     */
+    private int length;
+
+    /**
+     * Number of stored tokens.
+     */
+    private int tokenCount;
+
+    /**
+     * Appends the token, followed by a space.
+     * @param token - the token that passed all the filters
+     */
+    @Override
+    public void accept(final CharSequence token) {
+        int tokenLength = token.length();
+        ensureCapacity(length + tokenLength + 1);
+
+        for (int i = 0; i < tokenLength; i++) {
+            chars[length++] = token.charAt(i);
+        }
+        chars[length++] = ' ';
+        tokenCount++;
+    }
+
+    /**
+     * Drops all the tokens of the current post.
+     */
+    @Override
+    public void discard() {
+        clear();
+    }
+
+    /**
+     * Empties the buffer, so it can be used for the next
+     * post. The allocated memory is kept.
+     */
+    public void clear() {
+        length = 0;
+        tokenCount = 0;
+    }
+
+    /**
+     * Checks if there are no tokens in the buffer.
+     * @return true if the buffer is empty, false otherwise
+     */
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    /**
+     * Gives back the number of stored tokens.
+     * @return the number of stored tokens
+     */
+    public int getTokenCount() {
+        return tokenCount;
+    }
+
+    /**
+     * Gives back the underlying array. Only the first
+     * length() characters are valid, and the array may be
+     * replaced when more tokens are added.
+     * @return the underlying array
+     */
+    public char[] getChars() {
+        return chars;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(final int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return chars[index];
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+        if (start < 0 || end > length || start > end) {
+            throw new IndexOutOfBoundsException(
+                    "Start: " + start + ", end: " + end);
+        }
+        return new String(chars, start, end - start);
+    }
+
+    @Override
+    public String toString() {
+        return new String(chars, 0, length);
+    }
+
+    /**
+     * Makes sure that the given number of characters
+     * fits in the buffer.
+     * @param capacity - needed number of characters
+     */
+    private void ensureCapacity(final int capacity) {
+        if (capacity > chars.length) {
+            chars = Arrays.copyOf(chars,
+                    Math.max(capacity, chars.length * 2));
+        }
+    }
+
+}
@@ -1,6 +1,13 @@
 package service.formatter;
 
-import org.apache.commons.lang.StringUtils;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 
 import static dm.dao.CharUtility.isCharWithSpaceAfter;
 import static dm.dao.CharUtility.isCharWithSpaceBefore;
@@ -8,8 +15,10 @@ import static dm.dao.CharUtility.isCharWithSpacesAround;
 import static dm.dao.CharUtility.isLetterOrDigit;
 import static dm.dao.CharUtility.isNumber;
 import static dm.dao.CharUtility.isPunctuation;
+import static dm.dao.CharUtility.isRegexWhitespace;
 import static dm.dao.CharUtility.isSpecialChar;
 import static dm.dao.CharUtility.isWhitespace;
+import static dm.dao.Utility.getLexicon;
 
 /**
  * Class used for formatting the post to a form where
@@ -20,6 +29,18 @@ import static dm.dao.CharUtility.isWhitespace;
  */
 public final class PostFormatter {
 
+    /**
+     * Used for logging events that happen in this class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(PostFormatter.class);
+        // The utility classes load the word collections with
+        // them, which must not count in the first post's budget.
+        getLexicon();
+    }
+
     /**
      * In order to know if we should capitalize letter
      * after punctuation, we have to check if there is
@@ -32,6 +53,80 @@ public final class PostFormatter {
      */
     private static final int MIN_DIST = 4;
 
+    /**
+     * Chars that get a space after them if there was
+     * a space before them.
+     */
+    private static final char[] SPACE_AFTER_OPENING = {'(', '[', '{'};
+
+    /**
+     * Chars that get the space before them moved after
+     * them. The dot, which is the first one, just loses
+     * the space before.
+     */
+    private static final char[] SPACE_BEFORE_MOVED
+            = {'.', '?', '!', ')', ']', '}', '%', ':', ',', ';'};
+
+    /**
+     * Punctuation chars that are moved after the
+     * closing chars.
+     */
+    private static final char[] MOVED_PUNCTUATION = {'.', '?', '!', ','};
+
+    /**
+     * Closing chars that the punctuation is moved
+     * behind.
+     */
+    private static final char[] CLOSING_CHARS = {')', ']', '}', '"', '\''};
+
+    /**
+     * Link with spaces between the special characters,
+     * as it is left after the previous steps.
+     */
+    private static final String SPACED_LINK = ": / / t. co / ";
+
+    /**
+     * Correctly written link.
+     */
+    private static final String LINK = "://t.co/";
+
+    /**
+     * All the formatting steps, in the order they are
+     * executed. Every step takes time linear in the
+     * length of the post.
+     */
+    private static final List<Consumer<FormatBuffer>> STEPS = Arrays.asList(
+            PostFormatter::replaceUncoveredChars,
+            PostFormatter::fixSpace,
+            PostFormatter::fixQuotes,
+            PostFormatter::deleteUnnecessaryChars,
+            PostFormatter::clearSpaceAfter,
+            PostFormatter::clearSpaceBefore,
+            PostFormatter::makeSpaceAround,
+            PostFormatter::removeMultipleDots,
+            PostFormatter::fixNonSpace,
+            PostFormatter::removeMultipleSpaces,
+            PostFormatter::isNumberComma,
+            PostFormatter::fixLinks,
+            PostFormatter::deleteLeadingSpecialChars,
+            PostFormatter::removeMultipleDots,
+            PostFormatter::movePunctuation,
+            PostFormatter::setUpperCase);
+
+    /**
+     * Time budget for formatting one post, in nanoseconds.
+     * Zero means that there is no budget, which is the
+     * default, so the formatted post doesn't depend on the
+     * load of the machine unless the caller asks for it.
+     */
+    private static volatile long timeBudget;
+
+    /**
+     * Number of posts that were not formatted within
+     * the time budget.
+     */
+    private static final AtomicLong FALLBACKS = new AtomicLong();
+
     /**
      * Empty private constructor for preventing
      * public or default constructor.
@@ -41,228 +136,213 @@ public final class PostFormatter {
 
     /**
      * The main method that calls all sub-methods for
-     * formatting the post.
+     * formatting the post. Every step is a single pass
+     * over the buffer and leaves the same text that the
+     * step would leave if it worked on Strings. If the
+     * time budget runs out, the original post is given
+     * back unformatted.
      * @param post - retrieved post from Twitter
      * @return formatted post
      */
     public static String format(final String post) {
-        String copy = replaceUncoveredChars(post);
-        copy = fixSpace(copy);
-        copy = fixQuotes(copy);
-        copy = deleteUnnecessaryChars(copy);
-        copy = clearSpaceAfter(copy);
-        copy = clearSpaceBefore(copy);
-        copy = makeSpaceAround(copy);
-        copy = removeMultipleDots(copy);
-        copy = fixNonSpace(copy);
-        copy = removeMultipleSpaces(copy);
-        copy = isNumberComma(copy);
-        copy = fixLinks(copy);
-        copy = deleteLeadingSpecialChars(copy);
-        copy = removeMultipleDots(copy);
-        copy = movePunctuation(copy);
-        copy = setUpperCase(copy);
-
-        return copy;
-    }
-
-    /**
-     * There are some chars that are not covered for the
-     * processing. This method replaces them with the
-     * covered ones.
-     * @param post - post with uncovered chars
-     * @return - post with replaced covered chars
-     */
-    private static String replaceUncoveredChars(final String post) {
-        String copy = post.replaceAll("…", ".");
-        copy = copy.replaceAll("’", "\'");
-        copy = copy.replaceAll("`", "\'");
-        copy = copy.replaceAll("—", "-");
-        return copy.replaceAll("”", "\"");
+        String formatted = formatWithinBudget(post);
+        return formatted == null ? post : formatted;
     }
 
     /**
-     * Deletes the space between the special chars in order
-     * to be able to delete the sufficient chars that are
-     * positioned one after another.
-     * @param post - post with spaces between special chars
-     * @return post without spaces between special chars
+     * Formats the post the same way as format(), but tells
+     * the caller when the time budget runs out, so that a
+     * post which was not formatted is not mistaken for
+     * a formatted one.
+     * @param post - retrieved post from Twitter
+     * @return formatted post, null if the time budget
+     *         ran out
      */
-    private static String fixSpace(final String post) {
-        String copy = post;
-
-        for (int pos1 = 0; pos1 < copy.length() - 1; pos1++) {
-            if (isSpecialChar(copy.charAt(pos1))) {
+    public static String formatWithinBudget(final String post) {
+        long budget = timeBudget;
+        long start = System.nanoTime();
 
-                for (int pos2 = pos1 + 1; pos2 < copy.length(); pos2++) {
-                    if (isSpecialChar(copy.charAt(pos2))) {
+        FormatBuffer buffer = new FormatBuffer(post);
 
-                        if (isOnlySpace(copy, pos1, pos2)) {
-                            copy = copy.substring(0, pos1 + 1)
-                                    + copy.substring(pos2, copy.length());
-                            break;
+        for (Consumer<FormatBuffer> step : STEPS) {
+            step.accept(buffer);
 
-                        } else {
-                            break;
-                        }
-                    }
-                }
+            if (budget > 0 && System.nanoTime() - start > budget) {
+                FALLBACKS.incrementAndGet();
+                LOGGER.warn("Post not formatted within the time budget.");
+                return null;
             }
         }
 
-        return copy;
+        return buffer.toString();
     }
 
     /**
-     * Checks if there are only whitespace chars between
-     * the two positions.
-     * @param post - post to be checked
-     * @param pos1 - starting position
-     * @param pos2 - ending position
-     * @return true if there are only whitespace chars
-     *         between the two positions, false otherwise
+     * Sets the time budget for formatting one post. Posts
+     * that take longer are given back unformatted. There
+     * is no budget until one is set.
+     * @param budget - the time budget, zero for no budget
+     * @param unit - time unit of the budget
      */
-    private static boolean isOnlySpace(final String post,
-                                       final int pos1,
-                                       final int pos2) {
-
-        for (int pos = pos1 + 1; pos < pos2; pos++) {
-            if (!isWhitespace(post.charAt(pos))) {
-                return false;
-            }
-        }
-
-        return true;
+    public static void setTimeBudget(final long budget,
+                                     final TimeUnit unit) {
+        timeBudget = unit.toNanos(budget);
     }
 
     /**
-     * Checks if the number of double quotes in even. If it's
-     * not, all of them are removed. If it is, the method makes
-     * sure that the spacing around them is correct.
-     * @param post - post with possibly incorrect quotes
-     * @return post with correct quotes
+     * Gives back the time budget for formatting one post.
+     * @param unit - time unit of the result
+     * @return the time budget, zero if there is no budget
      */
-    private static String fixQuotes(final String post) {
-        String copy = post;
-
-        if (StringUtils.countMatches(copy, "\"") % 2 == 1) {
-            copy = copy.replaceAll("\"", "");
-        }
+    public static long getTimeBudget(final TimeUnit unit) {
+        return unit.convert(timeBudget, TimeUnit.NANOSECONDS);
+    }
 
-        int doubleQ = 0;
+    /**
+     * Gives back the number of posts that were given back
+     * unformatted, because the time budget ran out.
+     * @return the number of fallbacks
+     */
+    public static long getFallbackCount() {
+        return FALLBACKS.get();
+    }
 
-        for (int pos = 0; pos < copy.length(); pos++) {
-            if (copy.charAt(pos) == '\"') {
-                copy = setQuotes(copy, pos, ++doubleQ);
-                ++pos;
+    /**
+     * There are some chars that are not covered for the
+     * processing. This method replaces them with the
+     * covered ones.
+     * @param buffer - post with uncovered chars
+     */
+    private static void replaceUncoveredChars(final FormatBuffer buffer) {
+        for (int pos = 0; pos < buffer.length(); pos++) {
+            switch (buffer.charAt(pos)) {
+                case '…':
+                    buffer.setCharAt(pos, '.');
+                    break;
+                case '’':
+                case '`':
+                    buffer.setCharAt(pos, '\'');
+                    break;
+                case '—':
+                    buffer.setCharAt(pos, '-');
+                    break;
+                case '”':
+                    buffer.setCharAt(pos, '\"');
+                    break;
+                default:
+                    break;
             }
         }
-
-        return copy;
     }
 
     /**
-     * Clears the sufficient space before opening and
-     * after closing quotes.
-     * @param post - with incorrect space around quotes
-     * @param pos - position that is currently being
-     *            processed
-     * @param counter - quote counter that says which quote
-     *                is currently being processed
-     * @return post with correct space around the specified
-     *         quote
+     * Deletes the space between the special chars in order
+     * to be able to delete the sufficient chars that are
+     * positioned one after another.
+     * @param buffer - post with spaces between special chars
      */
-    private static String setQuotes(final String post,
-                                    final int pos,
-                                    final int counter) {
-        String copy = post;
-
-        if (counter % 2 == 1) {
-            copy = copy.substring(0, pos) + " "
-                    + copy.substring(pos, copy.length());
-
-            copy = clearForward(copy, pos + 1);
+    private static void fixSpace(final FormatBuffer buffer) {
+        int length = buffer.length();
+        buffer.begin();
+
+        int pos = 0;
+        while (pos < length) {
+            if (!isWhitespace(buffer.charAt(pos))) {
+                buffer.emit(buffer.charAt(pos++));
+                continue;
+            }
 
-        } else {
-            copy = copy.substring(0, pos + 1) + " "
-                    + copy.substring(pos + 1, copy.length());
+            int end = pos;
+            while (end < length && isWhitespace(buffer.charAt(end))) {
+                end++;
+            }
 
-            copy = clearBackward(copy, pos - 1);
+            if (pos == 0 || end == length
+                    || !isSpecialChar(buffer.charAt(pos - 1))
+                    || !isSpecialChar(buffer.charAt(end))) {
+                buffer.emit(pos, end);
+            }
+            pos = end;
         }
 
-        return copy;
+        buffer.commit();
     }
 
     /**
-     * Deletes all whitespaces that come directly after the
-     * given position, including that position.
-     * @param post - post to be cleared
-     * @param pos - starting position
-     * @return - post with no whitespaces directly after
-     *           position
+     * Checks if the number of double quotes in even. If it's
+     * not, all of them are removed. If it is, the method makes
+     * sure that the spacing around them is correct: a space
+     * is put before the opening and after the closing quotes,
+     * and the whitespaces before the closing quotes are
+     * deleted. After a closing quote, as many chars as there
+     * were deleted whitespaces are taken over unchecked.
+     * @param buffer - post with possibly incorrect quotes
      */
-    private static String clearForward(final String post,
-                                       final int pos) {
-        String copy = post;
+    private static void fixQuotes(final FormatBuffer buffer) {
+        int length = buffer.length();
 
-        if (pos < copy.length()
-                && isWhitespace(copy.charAt(pos))) {
-
-            copy = post.substring(0, pos)
-                    + copy.substring(pos + 1, copy.length());
+        int quotes = 0;
+        for (int pos = 0; pos < length; pos++) {
+            if (buffer.charAt(pos) == '\"') {
+                quotes++;
+            }
+        }
 
-            return clearForward(copy, pos);
+        if (quotes == 0) {
+            return;
         }
 
-        return copy;
-    }
+        boolean removeQuotes = quotes % 2 == 1;
+        int doubleQ = 0;
+        buffer.begin();
 
-    /**
-     * Deletes all whitespaces that come directly before the
-     * given position, including that position.
-     * @param post - post to be cleared
-     * @param pos - starting position
-     * @return - post with no whitespaces directly before
-     *           position
-     */
-    private static String clearBackward(final String post,
-                                        final int pos) {
-        String copy = post;
+        int pos = 0;
+        while (pos < length) {
+            char c = buffer.charAt(pos++);
 
-        if (pos >= 0
-                && isWhitespace(copy.charAt(pos))) {
+            if (c != '\"') {
+                buffer.emit(c);
 
-            copy = copy.substring(0, pos)
-                    + copy.substring(pos + 1, copy.length());
+            } else if (!removeQuotes && ++doubleQ % 2 == 1) {
+                buffer.emit(' ');
+                buffer.emit(c);
 
-            return clearBackward(copy, pos - 1);
+            } else if (!removeQuotes) {
+                int skipped = buffer.dropEmittedWhitespace();
+                buffer.emit(c);
+                buffer.emit(' ');
+
+                int end = Math.min(pos + skipped, length);
+                buffer.emit(pos, end);
+                pos = end;
+            }
         }
 
-        return copy;
+        buffer.commit();
     }
 
     /**
      * Deletes char sequences which aren't in the allowed list.
-     * @param post - post with non-allowed char sequences
-     * @return post with only allowed char sequences
+     * @param buffer - post with non-allowed char sequences
      */
-    private static String deleteUnnecessaryChars(final String post) {
-        String copy = post;
-
-        for (int pos = 0; pos < copy.length(); pos++) {
-            char c = copy.charAt(pos);
-
-            if (isSpecialChar(c) && pos > 0
-                    && isSpecialChar(copy.charAt(pos  - 1))
-                    && !isCharSequenceSpecialCase(copy.charAt(pos - 1), c)) {
-
-                copy = copy.substring(0, pos)
-                        + copy.substring(pos + 1, copy.length());
-                --pos;
+    private static void deleteUnnecessaryChars(final FormatBuffer buffer) {
+        int length = buffer.length();
+        buffer.begin();
+
+        for (int pos = 0; pos < length; pos++) {
+            char c = buffer.charAt(pos);
+
+            if (isSpecialChar(c) && buffer.emitted() > 0
+                    && isSpecialChar(buffer.lastEmitted())
+                    && !isCharSequenceSpecialCase(
+                            buffer.lastEmitted(), c)) {
+                continue;
             }
+
+            buffer.emit(c);
         }
 
-        return copy;
+        buffer.commit();
     }
 
     /**
@@ -314,234 +394,399 @@ public final class PostFormatter {
 
     /**
      * Makes sure that there is no space after the chars with
-     * space before.
-     * @param post - post with space after the chars with space
-     *             before
-     * @return post with no space after the chars with space
-     *         before
-     */
-    private static String clearSpaceAfter(final String post) {
-        String copy = post.replaceAll("\\(\\s+", " (");
-        copy = copy.replaceAll("\\[\\s+", " [");
-        return copy.replaceAll("\\{\\s+", " {");
+     * space before. The chars are processed one after another,
+     * since a space put before one of them can end up after
+     * the next one.
+     * @param buffer - post with space after the chars with
+     *               space before
+     */
+    private static void clearSpaceAfter(final FormatBuffer buffer) {
+        for (char opening : SPACE_AFTER_OPENING) {
+            if (!hasSpaceAfter(buffer, opening)) {
+                continue;
+            }
+
+            int length = buffer.length();
+            buffer.begin();
+
+            int pos = 0;
+            while (pos < length) {
+                char c = buffer.charAt(pos++);
+
+                if (c == opening && pos < length
+                        && isRegexWhitespace(buffer.charAt(pos))) {
+                    buffer.emit(' ');
+                    buffer.emit(c);
+
+                    while (pos < length
+                            && isRegexWhitespace(buffer.charAt(pos))) {
+                        pos++;
+                    }
+                } else {
+                    buffer.emit(c);
+                }
+            }
+
+            buffer.commit();
+        }
+    }
+
+    /**
+     * Checks if there is a whitespace after any occurrence
+     * of the char.
+     * @param buffer - post to be checked
+     * @param c - char to be checked
+     * @return true if the char is followed by a whitespace
+     *         anywhere in the post, false otherwise
+     */
+    private static boolean hasSpaceAfter(final FormatBuffer buffer,
+                                         final char c) {
+        for (int pos = 0; pos + 1 < buffer.length(); pos++) {
+            if (buffer.charAt(pos) == c
+                    && isRegexWhitespace(buffer.charAt(pos + 1))) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
      * Makes sure that there is no space before the chars with
-     * space after.
-     * @param post - post with space before the chars with space
-     *             after
-     * @return post with no space before the chars with space
-     *         after
-     */
-    private static String clearSpaceBefore(final String post) {
-        String copy = post.replaceAll("\\s+\\.", ".");
-        copy = copy.replaceAll("\\s+\\?", "? ");
-        copy = copy.replaceAll("\\s+!", "! ");
-        copy = copy.replaceAll("\\s+\\)", ") ");
-        copy = copy.replaceAll("\\s+]", "] ");
-        copy = copy.replaceAll("\\s+}", "} ");
-        copy = copy.replaceAll("\\s+%", "% ");
-        copy = copy.replaceAll("\\s+:", ": ");
-        copy = copy.replaceAll("\\s+,", ", ");
-        return copy.replaceAll("\\s+;", "; ");
+     * space after. The chars are processed one after another,
+     * since moving the space after one of them can put it
+     * before the next one.
+     * @param buffer - post with space before the chars with
+     *               space after
+     */
+    private static void clearSpaceBefore(final FormatBuffer buffer) {
+        for (char closing : SPACE_BEFORE_MOVED) {
+            if (!hasSpaceBefore(buffer, closing)) {
+                continue;
+            }
+
+            int length = buffer.length();
+            buffer.begin();
+
+            int pos = 0;
+            while (pos < length) {
+                if (!isRegexWhitespace(buffer.charAt(pos))) {
+                    buffer.emit(buffer.charAt(pos++));
+                    continue;
+                }
+
+                int end = pos;
+                while (end < length
+                        && isRegexWhitespace(buffer.charAt(end))) {
+                    end++;
+                }
+
+                if (end < length && buffer.charAt(end) == closing) {
+                    buffer.emit(closing);
+                    if (closing != '.') {
+                        buffer.emit(' ');
+                    }
+                    end++;
+                } else {
+                    buffer.emit(pos, end);
+                }
+                pos = end;
+            }
+
+            buffer.commit();
+        }
     }
 
     /**
-     * Makes sure that there is no space around the chars with
+     * Checks if there is a whitespace before any occurrence
+     * of the char.
+     * @param buffer - post to be checked
+     * @param c - char to be checked
+     * @return true if the char is preceded by a whitespace
+     *         anywhere in the post, false otherwise
+     */
+    private static boolean hasSpaceBefore(final FormatBuffer buffer,
+                                          final char c) {
+        for (int pos = 1; pos < buffer.length(); pos++) {
+            if (buffer.charAt(pos) == c
+                    && isRegexWhitespace(buffer.charAt(pos - 1))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Makes sure that there are spaces around the chars with
      * space around.
-     * @param post - post with space around the chars with space
-     *             around
-     * @return post with no space around the chars with space
-     *         around
-     */
-    private static String makeSpaceAround(final String post) {
-        String copy = post.replaceAll("\\*", " * ");
-        copy = copy.replaceAll("\\+", " + ");
-        copy = copy.replaceAll("&", " & ");
-        copy = copy.replaceAll("/", " / ");
-        return copy.replaceAll("-", " - ");
+     * @param buffer - post with no space around the chars with
+     *               space around
+     */
+    private static void makeSpaceAround(final FormatBuffer buffer) {
+        int length = buffer.length();
+        buffer.begin();
+
+        for (int pos = 0; pos < length; pos++) {
+            char c = buffer.charAt(pos);
+
+            if (c == '*' || c == '+' || c == '&' || c == '/' || c == '-') {
+                buffer.emit(' ');
+                buffer.emit(c);
+                buffer.emit(' ');
+            } else {
+                buffer.emit(c);
+            }
+        }
+
+        buffer.commit();
     }
 
     /**
      * Turns every array of dots into only one dot.
-     * @param post - post with possibly arrays of dots
-     * @return post with no arrays of dots
+     * @param buffer - post with possibly arrays of dots
      */
-    private static String removeMultipleDots(final String post) {
-        return post.replaceAll("\\.{2,}", ".");
+    private static void removeMultipleDots(final FormatBuffer buffer) {
+        int length = buffer.length();
+        buffer.begin();
+
+        for (int pos = 0; pos < length; pos++) {
+            char c = buffer.charAt(pos);
+
+            if (c != '.' || pos == 0 || buffer.charAt(pos - 1) != '.') {
+                buffer.emit(c);
+            }
+        }
+
+        buffer.commit();
     }
 
     /**
      * Makes sure that there are spaces before the chars
      * with space before and after the chars with space after.
-     * @param post - post with possibly incorrect spaces
-     * @return post with correct spaces
+     * @param buffer - post with possibly incorrect spaces
      */
-    private static String fixNonSpace(final String post) {
-        String copy = post;
+    private static void fixNonSpace(final FormatBuffer buffer) {
+        int length = buffer.length();
+        buffer.begin();
 
-        for (int pos = 0; pos < copy.length(); pos++) {
-            char toCheck = copy.charAt(pos);
+        for (int pos = 0; pos < length; pos++) {
+            char toCheck = buffer.charAt(pos);
 
             if (isCharWithSpaceAfter(toCheck)) {
-
-                if (pos + 2 < copy.length()
-                        && (isLetterOrDigit(copy.charAt(pos + 1))
-                        || (pos > 0 && copy.charAt(pos + 1) == '@'))
-                        && copy.charAt(pos + 2) != '.') {
-
-                    copy = copy.substring(0, pos + 1) + " "
-                            + copy.substring(pos + 1, copy.length());
-                    ++pos;
+                boolean notFirst = buffer.emitted() > 0;
+                buffer.emit(toCheck);
+
+                if (pos + 2 < length
+                        && (isLetterOrDigit(buffer.charAt(pos + 1))
+                        || (notFirst && buffer.charAt(pos + 1) == '@'))
+                        && buffer.charAt(pos + 2) != '.') {
+                    buffer.emit(' ');
                 }
-            }
 
-            if (isCharWithSpaceBefore(toCheck)) {
-                if (pos > 0 && (isLetterOrDigit(copy.charAt(pos - 1))
-                        || (pos > 0 && copy.charAt(pos - 1) == '@'))) {
-
-                    copy = copy.substring(0, pos) + " "
-                            + copy.substring(pos, copy.length());
-                    ++pos;
+            } else if (isCharWithSpaceBefore(toCheck)) {
+                if (buffer.emitted() > 0
+                        && (isLetterOrDigit(buffer.lastEmitted())
+                        || buffer.lastEmitted() == '@')) {
+                    buffer.emit(' ');
                 }
+                buffer.emit(toCheck);
+
+            } else {
+                buffer.emit(toCheck);
             }
         }
 
-        return copy;
+        buffer.commit();
     }
 
     /**
      * Makes sure that there is no multiple spaces one
      * after another.
-     * @param post - post with possibly multiple spaces
-     *             one after another
-     * @return post with no spaces one after another
+     * @param buffer - post with possibly multiple spaces
+     *               one after another
      */
-    private static String removeMultipleSpaces(final String post) {
-        return post.replaceAll("\\s+", " ");
+    private static void removeMultipleSpaces(final FormatBuffer buffer) {
+        int length = buffer.length();
+        buffer.begin();
+
+        int pos = 0;
+        while (pos < length) {
+            if (isRegexWhitespace(buffer.charAt(pos))) {
+                buffer.emit(' ');
+                while (pos < length && isRegexWhitespace(buffer.charAt(pos))) {
+                    pos++;
+                }
+            } else {
+                buffer.emit(buffer.charAt(pos++));
+            }
+        }
+
+        buffer.commit();
     }
 
     /**
      * Makes sure that there is no space after
      * dots and commas in numbers.
-     * @param post - post with possible spaces after
-     *             comas and dots in numbers
-     * @return post without spaces after comas and
-     *         dots in numbers
-     */
-    private static String isNumberComma(final String post) {
-        String copy = post;
-        for (int pos = 0; pos < copy.length(); pos++) {
-
-            if ((copy.charAt(pos) == '.'
-                    || copy.charAt(pos) == ',')
-                    && pos > 0
-                    && isNumber(copy.charAt(pos - 1))
-                    && pos + 2 < copy.length()
-                    && isNumber(copy.charAt(pos + 2))) {
-
-                copy = copy.substring(0, pos + 1)
-                        + copy.substring(pos + 2, copy.length());
+     * @param buffer - post with possible spaces after
+     *               comas and dots in numbers
+     */
+    private static void isNumberComma(final FormatBuffer buffer) {
+        int length = buffer.length();
+        buffer.begin();
+
+        int pos = 0;
+        while (pos < length) {
+            char c = buffer.charAt(pos);
+
+            if ((c == '.' || c == ',')
+                    && buffer.emitted() > 0
+                    && isNumber(buffer.lastEmitted())
+                    && pos + 2 < length
+                    && isNumber(buffer.charAt(pos + 2))) {
+
+                buffer.emit(c);
+                pos += 2;
+            } else {
+                buffer.emit(c);
+                pos++;
             }
         }
-        return copy;
+
+        buffer.commit();
     }
 
     /**
      * Makes sures that the links have no spaces between
      * special characters in them.
-     * @param post - post with links with spaces
-     * @return post with correctly written links
+     * @param buffer - post with links with spaces
      */
-    private static String fixLinks(final String post) {
-        return post.replaceAll(": / / t\\. co / ", "://t.co/");
+    private static void fixLinks(final FormatBuffer buffer) {
+        int length = buffer.length();
+        buffer.begin();
+
+        int pos = 0;
+        while (pos < length) {
+            if (buffer.regionMatches(pos, SPACED_LINK)) {
+                buffer.emit(LINK);
+                pos += SPACED_LINK.length();
+            } else {
+                buffer.emit(buffer.charAt(pos++));
+            }
+        }
+
+        buffer.commit();
     }
 
     /**
      * Deletes special characters from the beginning of the
      * post, since they are usually just written without
      * following the grammatical rules.
-     * @param post - with special chars on leading positions
-     * @return post without special chars on leading positions
+     * @param buffer - with special chars on leading positions
      */
-    private static String deleteLeadingSpecialChars(final String post) {
-        String copy = post;
+    private static void deleteLeadingSpecialChars(
+            final FormatBuffer buffer) {
+        int length = buffer.length();
 
-        if (copy.length() > 0) {
-            char toCheck = copy.charAt(0);
+        int start = 0;
+        while (start < length) {
+            char toCheck = buffer.charAt(start);
 
             if (isCharWithSpaceAfter(toCheck)
                     || isCharWithSpaceBefore(toCheck)
                     || isCharWithSpacesAround(toCheck)
                     || isWhitespace(toCheck)) {
-
-                copy = copy.substring(1, copy.length());
-                copy = deleteLeadingSpecialChars(copy);
+                start++;
+            } else {
+                break;
             }
         }
 
-        return copy;
+        if (start > 0) {
+            buffer.begin();
+            buffer.emit(start, length);
+            buffer.commit();
+        }
     }
 
     /**
      * If there are two special chars one after another
      * and the first one is punctuation, it will be
-     * moved to the second position.
-     * @param post - post with punctuation char before
-     *             some other char
-     * @return post with punctuation char after
-     *             other chars
-     */
-    private static String movePunctuation(final String post) {
-        String copy = post.replaceAll("\\.\\)", ").");
-        copy = copy.replaceAll("\\.]", "].");
-        copy = copy.replaceAll("\\.}", "}.");
-        copy = copy.replaceAll("\\.\"", "\".");
-        copy = copy.replaceAll("\\.\'", "\'.");
-        copy = copy.replaceAll("\\?\\)", ")?");
-        copy = copy.replaceAll("\\?]", "]?");
-        copy = copy.replaceAll("\\?}", "}?");
-        copy = copy.replaceAll("\\?\"", "\"?");
-        copy = copy.replaceAll("\\?\'", "\'?");
-        copy = copy.replaceAll("!\\)", ")!");
-        copy = copy.replaceAll("!]", "]!");
-        copy = copy.replaceAll("!}", "}!");
-        copy = copy.replaceAll("!\"", "\"!");
-        copy = copy.replaceAll("!\'", "\'!");
-        copy = copy.replaceAll(",\\)", "),");
-        copy = copy.replaceAll(",]", "],");
-        copy = copy.replaceAll(",}", "},");
-        copy = copy.replaceAll(",\"", "\",");
-        copy = copy.replaceAll(",\'", "\',");
-        return copy;
+     * moved to the second position. Every pair is
+     * processed on its own, in a fixed order, since
+     * moving one char can create the next pair.
+     * @param buffer - post with punctuation char before
+     *               some other char
+     */
+    private static void movePunctuation(final FormatBuffer buffer) {
+        for (char punctuation : MOVED_PUNCTUATION) {
+            for (char closing : CLOSING_CHARS) {
+                swapPairs(buffer, punctuation, closing);
+            }
+        }
+    }
+
+    /**
+     * Turns every occurrence of the first char directly
+     * followed by the second one into the second char
+     * followed by the first one.
+     * @param buffer - post to be changed
+     * @param first - the char that is moved back
+     * @param second - the char that is moved forward
+     */
+    private static void swapPairs(final FormatBuffer buffer,
+                                  final char first,
+                                  final char second) {
+        int length = buffer.length();
+
+        for (int pos = 0; pos + 1 < length; pos++) {
+            if (buffer.charAt(pos) == first
+                    && buffer.charAt(pos + 1) == second) {
+                buffer.setCharAt(pos, second);
+                buffer.setCharAt(pos + 1, first);
+                pos++;
+            }
+        }
     }
 
     /**
      * Makes sure that the new sentence starts with an upper
-     * case.
-     * @param post - post with possibly lower case on the
-     *             sentence start
-     * @return post with upper case on the sentence start
-     */
-    private static String setUpperCase(final String post) {
-        String copy = post;
-        for (int pos = MIN_DIST; pos < copy.length(); pos++) {
-
-            if (isPunctuation(copy.charAt(pos - 2))
-                    && copy.charAt(pos - MIN_DIST) != ' '
-                    && copy.charAt(pos - MIN_DIST) != '.'
-                    && copy.charAt(pos - MIN_DIST) != 'j'
-                    && copy.charAt(pos - MIN_DIST + 1) != 'r') {
-
-                copy = copy.substring(0, pos)
-                        + ("" + copy.charAt(pos)).toUpperCase()
-                        + copy.substring(pos + 1, copy.length());
+     * case. If the upper case of a char has more than one
+     * char (i.e. "ß" -> "SS"), the added chars are checked
+     * as well, the same way as the chars of the post.
+     * @param buffer - post with possibly lower case on the
+     *               sentence start
+     */
+    private static void setUpperCase(final FormatBuffer buffer) {
+        int length = buffer.length();
+        buffer.begin();
+
+        String pending = "";
+        int pos = 0;
+        while (pos < length || !pending.isEmpty()) {
+            char c;
+            if (pending.isEmpty()) {
+                c = buffer.charAt(pos++);
+            } else {
+                c = pending.charAt(0);
+                pending = pending.substring(1);
+            }
+
+            int out = buffer.emitted();
+            if (out >= MIN_DIST
+                    && isPunctuation(buffer.emittedAt(out - 2))
+                    && buffer.emittedAt(out - MIN_DIST) != ' '
+                    && buffer.emittedAt(out - MIN_DIST) != '.'
+                    && buffer.emittedAt(out - MIN_DIST) != 'j'
+                    && buffer.emittedAt(out - MIN_DIST + 1) != 'r') {
+
+                String upper = String.valueOf(c).toUpperCase();
+                c = upper.charAt(0);
+                pending = upper.substring(1) + pending;
             }
+
+            buffer.emit(c);
         }
 
-        return copy;
+        buffer.commit();
     }
 
-
 }
@@ -0,0 +1,22 @@
+package service.formatter;
+
+/**
+ * Receives the tokens that pass through the Pipe, one
+ * at a time and in the order they appear in the post.
+ */
+public interface TokenSink {
+
+    /**
+     * Takes one normalized and stemmed token.
+     * @param token - the token that passed all the filters
+     */
+    void accept(CharSequence token);
+
+    /**
+     * Called when the post turns out to be too short to be
+     * classified. All the tokens accepted for the current
+     * post should be dropped.
+     */
+    void discard();
+
+}
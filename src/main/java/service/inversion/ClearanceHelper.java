@@ -1,7 +1,15 @@
 package service.inversion;
 
-import static dm.dao.Utility.clean;
-import static dm.dao.VerbUtility.isVerb;
+import service.analysis.TokenTable;
+
+import static dm.data.Vocabulary.ALREADY;
+import static dm.data.Vocabulary.ALWAYS;
+import static dm.data.Vocabulary.ANY;
+import static dm.data.Vocabulary.BUT;
+import static dm.data.Vocabulary.JUST;
+import static dm.data.Vocabulary.NOT;
+import static dm.data.Vocabulary.NOW;
+import static dm.data.Vocabulary.SOME;
 import static service.inversion.InversionService.finalizeWord;
 
 /**
@@ -18,107 +26,104 @@ public final class ClearanceHelper {
     }
 
     /**
-     * Uses the deleteWord(String[], int, String)
+     * Uses the deleteWord(TokenTable, int, int)
      * method to remove any occurrence of the
      * word time stamps around the current position.
      * This is done because when the sentence is
      * being negated, the time stamps lose their
      * meaning.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word
      *                 which is currently being
      *                 processed
      */
     public static void clearAfter(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        clearAlready(words, position);
-        clearAlways(words, position);
-        clearJust(words, position);
-        clearNow(words, position);
+        clearAlready(tokens, position);
+        clearAlways(tokens, position);
+        clearJust(tokens, position);
+        clearNow(tokens, position);
     }
 
     /**
      * Deletes the word if it's one place before or
      * after the specified position.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which
      *                 is currently being processed
-     * @param word - word that should be deleted if
-     *             it exists
+     * @param word - vocabulary id of the word that
+     *             should be deleted if it exists
      */
     private static void deleteWord(
-            final String[] words,
+            final TokenTable tokens,
             final int position,
-            final String word) {
+            final int word) {
 
-        String copy = clean(word);
         if (position > 0
-                && clean(words[position - 1])
-                .equals(copy)) {
+                && tokens.getId(position - 1) == word) {
 
-            words[position - 1] = "";
+            tokens.setWord(position - 1, "");
 
-        } else if (position < words.length - 1
-                && clean(words[position + 1])
-                .equals(copy)) {
+        } else if (position < tokens.length() - 1
+                && tokens.getId(position + 1) == word) {
 
-            words[position + 1] = "";
+            tokens.setWord(position + 1, "");
         }
     }
 
     /**
      * Clears the word "just".
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word
      *                 which is currently being
      *                 processed
      */
     private static void clearJust(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        deleteWord(words, position, "just");
+        deleteWord(tokens, position, JUST);
     }
 
     /**
      * Clears the word "already".
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      */
     private static void clearAlready(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        deleteWord(words, position, "already");
+        deleteWord(tokens, position, ALREADY);
     }
 
     /**
      * Clears the word "always".
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      */
     private static void clearAlways(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        deleteWord(words, position, "always");
+        deleteWord(tokens, position, ALWAYS);
     }
 
     /**
      * Clears the word "now".
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      */
     private static void clearNow(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        deleteWord(words, position, "now");
+        deleteWord(tokens, position, NOW);
     }
 
     /**
@@ -127,39 +132,41 @@ public final class ClearanceHelper {
      * the sentence won't keep the sense so we also have to
      * change "not" to "but" and the other way around. This
      * method checks if our post contains this scenario and
-     * replaces these words.
-     * @param words - words of the sentence
+     * replaces these words. It's only the case if there is
+     * no other verb after the processed one.
+     * @param tokens - words of the sentence
      * @param tense - complete form of the verb which is
      *              being checked
      */
     public static void checkNonButCase(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
         if (tense.getLastLvlPos() > -1) {
-            for (int position = tense.getLastLvlPos() + 1;
-                 position < words.length; position++) {
+            int start = tense.getLastLvlPos() + 1;
 
-                String word = clean(words[position]);
+            if (tokens.nextVerb(start) < tokens.length()) {
+                return;
+            }
 
-                if (isVerb(word)) {
-                    break;
-                }
+            for (int position = tokens.nextNotOrBut(start);
+                 position < tokens.length();
+                 position = tokens.nextNotOrBut(position + 1)) {
+
+                int word = tokens.getId(position);
 
                 if (tense.isToNegative()
-                        && !isThereVerbAfter(words, position)
-                        && word.equals("not")) {
+                        && word == NOT) {
 
-                    words[position] = finalizeWord(words[position],
-                            "but");
+                    tokens.setWord(position,
+                            finalizeWord(tokens.getWord(position), "but"));
                     break;
 
                 } else if (tense.isToPositive()
-                        && !isThereVerbAfter(words, position)
-                        && word.equals("but")) {
+                        && word == BUT) {
 
-                    words[position] = finalizeWord(words[position],
-                            "not");
+                    tokens.setWord(position,
+                            finalizeWord(tokens.getWord(position), "not"));
                     break;
                 }
             }
@@ -168,25 +175,17 @@ public final class ClearanceHelper {
 
     /**
      * Checks if there is a verb after the current position.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      * @return true if there is a verb after the current
      *         position, false otherwise
      */
     public static boolean isThereVerbAfter(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        for (int pos = position + 1;
-             pos < words.length; pos++) {
-
-            if (isVerb(words[pos])) {
-                return true;
-            }
-        }
-
-        return false;
+        return tokens.nextVerb(position + 1) < tokens.length();
     }
 
 
@@ -200,31 +199,32 @@ public final class ClearanceHelper {
      * "some" and get "There was some proof." This method
      * inverts these two words if they are contained
      * within the sentence.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param tense - complete form of the verb which is
      *              being checked
      */
     public static void checkSomeAnyCase(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
-        for (int position = tense.getPosition1() + 1;
-             position < words.length; position++) {
+        for (int position = tokens.nextSomeOrAny(tense.getPosition1() + 1);
+             position < tokens.length();
+             position = tokens.nextSomeOrAny(position + 1)) {
 
-            String word = clean(words[position]);
+            int word = tokens.getId(position);
 
             if (tense.isToNegative()
-                    && word.equals("some")) {
+                    && word == SOME) {
 
-                words[position] = finalizeWord(words[position],
-                        "any");
+                tokens.setWord(position,
+                        finalizeWord(tokens.getWord(position), "any"));
                 break;
 
             } else if (tense.isToPositive()
-                    && word.equals("any")) {
+                    && word == ANY) {
 
-                words[position] = finalizeWord(words[position],
-                        "some");
+                tokens.setWord(position,
+                        finalizeWord(tokens.getWord(position), "some"));
                 break;
             }
         }
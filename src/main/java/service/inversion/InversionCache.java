@@ -0,0 +1,180 @@
+package service.inversion;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of the inversion results, keyed on the text
+ * that was inverted. When it is full, the least recently used
+ * result is dropped. The word collections are loaded only once,
+ * so the results stay valid for as long as they are cached. All
+ * the methods are synchronized, so one cache can be shared by
+ * the threads of a parallel batch.
+ * @param <V> - type of the cached results
+ */
+public final class InversionCache<V> {
+
+    /**
+     * Cached results in the order of their last use.
+     */
+    private final LinkedHashMap<String, V> results;
+
+    /**
+     * Maximum number of the cached results.
+     */
+    private int capacity;
+
+    /**
+     * Number of the lookups that found a result.
+     */
+    private long hits;
+
+    /**
+     * Number of the lookups that found no result.
+     */
+    private long misses;
+
+    /**
+     * Number of the results dropped because the cache was full.
+     */
+    private long evictions;
+
+    /**
+     * Creates an empty cache.
+     * @param capacity - maximum number of the cached results,
+     *                 zero turns the cache off
+     */
+    InversionCache(final int capacity) {
+        this.capacity = capacity;
+        this.results = new LinkedHashMap<String, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    final Map.Entry<String, V> eldest) {
+
+                if (size() > InversionCache.this.capacity) {
+                    evictions++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Gives back the cached result for the text and counts
+     * the lookup as a hit or a miss.
+     * @param text - the text that was inverted
+     * @return the cached result, null if there is none
+     */
+    synchronized V get(final String text) {
+        if (capacity == 0) {
+            return null;
+        }
+        V result = results.get(text);
+        if (result == null) {
+            misses++;
+        } else {
+            hits++;
+        }
+        return result;
+    }
+
+    /**
+     * Stores the result for the text. If the cache is full,
+     * the least recently used result is dropped.
+     * @param text - the text that was inverted
+     * @param result - the result of the inversion
+     */
+    synchronized void put(final String text, final V result) {
+        if (capacity == 0) {
+            return;
+        }
+        results.put(text, result);
+    }
+
+    /**
+     * Drops all the results and resets the statistics.
+     */
+    public synchronized void clear() {
+        results.clear();
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    /**
+     * Sets the maximum number of the cached results. If
+     * there are more of them, the cache is emptied.
+     * @param capacity - maximum number of the cached results,
+     *                 zero turns the cache off
+     */
+    public synchronized void setCapacity(final int capacity) {
+        this.capacity = capacity;
+        if (results.size() > capacity) {
+            results.clear();
+        }
+    }
+
+    /**
+     * Gives back the maximum number of the cached results.
+     * @return the capacity, zero if the cache is off
+     */
+    public synchronized int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Gives back the number of the cached results.
+     * @return the number of the results
+     */
+    public synchronized int size() {
+        return results.size();
+    }
+
+    /**
+     * Gives back the number of the lookups that found a result.
+     * @return the number of the hits
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * Gives back the number of the lookups that found no result.
+     * @return the number of the misses
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Gives back the number of the results dropped because
+     * the cache was full.
+     * @return the number of the evictions
+     */
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * Gives back the share of the lookups that found a result.
+     * @return the hit rate between 0 and 1, zero if there
+     *         were no lookups
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * Gives back the statistics of the cache.
+     * @return the size, the hit rate and the evictions
+     */
+    @Override
+    public synchronized String toString() {
+        return String.format("%d/%d results, %d hits, %d misses "
+                        + "(%.1f%%), %d evictions", results.size(),
+                capacity, hits, misses, getHitRate() * 100, evictions);
+    }
+
+}
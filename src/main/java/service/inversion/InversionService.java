@@ -1,17 +1,24 @@
 package service.inversion;
 
-import service.util.CustomStringBuilder;
-import service.formatter.PostFormatter;
+import service.analysis.AnalyzedSentence;
+import service.analysis.SentenceReader;
+import service.analysis.TweetAnalysis;
+import service.analysis.TokenTable;
+import service.util.EditList;
+import service.util.TextDiff;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
 import static dm.dao.CharUtility.isSpecialChar;
-import static dm.dao.NounUtility.isName;
-import static dm.dao.NounUtility.isSingular;
-import static dm.dao.PronounUtility.isNegIndefinitePronoun;
+import static dm.dao.Utility.getLexicon;
 import static dm.dao.PronounUtility.getOppositePronoun;
-import static dm.dao.PronounUtility.isIndefinitePronoun;
-import static dm.dao.PronounUtility.isSingularPronoun;
 import static dm.dao.PronounUtility.getOppositeNegPronoun;
 import static dm.dao.VerbUtility.isVerb;
 import static dm.dao.VerbUtility.isModal;
@@ -21,14 +28,12 @@ import static dm.dao.VerbUtility.isFormOfHave;
 import static dm.dao.VerbUtility.isThirdPerson;
 import static dm.dao.VerbUtility.isGerund;
 import static dm.dao.VerbUtility.isPastParticiple;
-import static dm.dao.VerbUtility.isStartOrStop;
 import static dm.dao.VerbUtility.getInfinitive;
 import static dm.dao.VerbUtility.isFormOfBe;
 import static dm.dao.VerbUtility.isTwoPartVerb;
 import static dm.dao.VerbUtility.isPositiveBe;
 import static dm.dao.VerbUtility.isPositiveModal;
 import static dm.dao.VerbUtility.isNegativeModal;
-import static dm.dao.VerbUtility.isAdverb;
 import static dm.dao.VerbUtility.isNegativeFormOfDo;
 import static dm.dao.VerbUtility.getThirdPerson;
 import static dm.dao.VerbUtility.getPerfect;
@@ -43,6 +48,27 @@ import static dm.dao.VerbUtility.clearSpecChars;
 import static dm.dao.VerbUtility.clean;
 import static dm.dao.VerbUtility.isNegativeBe;
 import static dm.dao.VerbUtility.isNegativeHave;
+import static dm.data.Vocabulary.AFTER;
+import static dm.data.Vocabulary.BEFORE;
+import static dm.data.Vocabulary.NEVER;
+import static dm.data.Vocabulary.NO;
+import static dm.data.Vocabulary.NOT;
+import static dm.data.Vocabulary.ONE;
+import static dm.data.Vocabulary.TO;
+import static service.analysis.TokenTable.VERB;
+import static service.analysis.TokenTable.MODAL;
+import static service.analysis.TokenTable.FORM_OF_BE;
+import static service.analysis.TokenTable.FORM_OF_HAVE;
+import static service.analysis.TokenTable.INFINITIVE;
+import static service.analysis.TokenTable.NEW_SUB_SENTENCE_VERB;
+import static service.analysis.TokenTable.START_OR_STOP;
+import static service.analysis.TokenTable.ADVERB;
+import static service.analysis.TokenTable.NAME;
+import static service.analysis.TokenTable.SINGULAR;
+import static service.analysis.TokenTable.POSSESSION;
+import static service.analysis.TokenTable.SINGULAR_PRONOUN;
+import static service.analysis.TokenTable.INDEFINITE_PRONOUN;
+import static service.analysis.TokenTable.NEG_INDEFINITE_PRONOUN;
 import static service.inversion.ClearanceHelper.clearAfter;
 import static service.inversion.ClearanceHelper.isThereVerbAfter;
 import static service.inversion.ClearanceHelper.checkNonButCase;
@@ -52,9 +78,19 @@ import static service.inversion.NewSubSentenceHelper.includedInPrevious;
 import static service.inversion.NewSubSentenceHelper.startNewSentence;
 import static service.inversion.QuestionHelper.isPushQuestion;
 import static service.inversion.QuestionHelper.isSkipQuestion;
-import static service.inversion.ShortModalHelper.fixShortModals;
-import static service.inversion.SkipHelper.isPossession;
 import static service.inversion.SkipHelper.shouldSkip;
+import static service.inversion.InversionTrace.start;
+import static service.inversion.InversionTrace.end;
+import static service.inversion.InversionTrace.beginTweet;
+import static service.inversion.InversionTrace.Rule.POSSESSION_BETWEEN;
+import static service.inversion.InversionTrace.Rule.INVERT;
+import static service.inversion.InversionTrace.Rule.SKIP_QUESTION;
+import static service.inversion.InversionTrace.Rule.PUSH_QUESTION;
+import static service.inversion.InversionTrace.Rule.GENERAL_CASE;
+import static service.inversion.InversionTrace.Rule.PERFORM_INVERSION;
+import static service.inversion.InversionTrace.Rule.NON_BUT_CASE;
+import static service.inversion.InversionTrace.Rule.SOME_ANY_CASE;
+import static java.util.stream.Collectors.toList;
 
 /**
  * A class used for inverting the posts.
@@ -66,8 +102,53 @@ public final class InversionService {
      */
     private static final Logger LOGGER;
 
+    /**
+     * Default maximum number of the cached tweets.
+     */
+    private static final int TWEET_CACHE_CAPACITY = 50000;
+
+    /**
+     * Default maximum number of the cached sentences.
+     */
+    private static final int SENTENCE_CACHE_CAPACITY = 100000;
+
+    /**
+     * Negated versions of the whole tweets, keyed on
+     * their original text.
+     */
+    private static final InversionCache<String> TWEETS
+            = new InversionCache<>(TWEET_CACHE_CAPACITY);
+
+    /**
+     * Edits inverting the single sentences, keyed on the
+     * text of the sentence. Quoted headlines and retweets
+     * with added comments share their sentences with other
+     * tweets, so they are inverted only once.
+     */
+    private static final InversionCache<EditList> SENTENCES
+            = new InversionCache<>(SENTENCE_CACHE_CAPACITY);
+
+    /**
+     * Default length of the prepared post above which its
+     * sentences are inverted in parallel.
+     */
+    private static final int PARALLEL_THRESHOLD = 2000;
+
+    /**
+     * Length of the prepared post above which its sentences
+     * are inverted in parallel.
+     */
+    private static volatile int parallelThreshold = PARALLEL_THRESHOLD;
+
+    /**
+     * Number of tweets and streamed sentences that were
+     * given back unchanged, because the inversion failed.
+     */
+    private static final AtomicLong FALLBACKS = new AtomicLong();
+
     static {
         LOGGER = LogManager.getLogger(InversionService.class);
+        getLexicon();
     }
 
     /**
@@ -87,104 +168,370 @@ public final class InversionService {
     public static String createInverseVersion(
             final String original) {
 
-        try {
-            String copy = PostFormatter.format(original);
-            copy = formatModals(copy);
+        return createInverseVersion(new TweetAnalysis(original));
+    }
 
-            CustomStringBuilder resultingStatus = new CustomStringBuilder();
+    /**
+     * Creates negated versions of all the tweets, using
+     * all the cores. The tweets are spread over the common
+     * fork-join pool, whose idle workers steal the tweets
+     * left to the busy ones. The inversion of one tweet
+     * shares no mutable state with the others and all the
+     * word collections are loaded before the first tweet.
+     * @param originals - tweets which will be inverted
+     * @return negated versions in the order of the originals
+     */
+    public static List<String> createInverseVersions(
+            final List<String> originals) {
 
-            String[] sentences
-                    = copy.split("(?<=[.?!;])\\s+(?=\\p{Lu})");
+        return originals.parallelStream()
+                .map(InversionService::createInverseVersion)
+                .collect(toList());
+    }
 
-            for (String sentence : sentences) {
-                invertSentence(resultingStatus, sentence);
-            }
+    /**
+     * Creates a negated version of the analyzed tweet.
+     * The sentences, words and verb tags are taken from
+     * the analysis, so they are not computed again if
+     * the analysis was already used. A tweet or a sentence
+     * that was already inverted is taken from the cache,
+     * so no rules are traced for it. A tweet that the
+     * formatter gave back unformatted, because it ran out
+     * of its time budget, is inverted without the caches,
+     * so the result of one slow moment is not kept.
+     * @param analysis - analysis of the tweet which will
+     *                 be inverted
+     * @return negated version of the original
+     */
+    public static String createInverseVersion(
+            final TweetAnalysis analysis) {
 
-            return resultingStatus.toString();
+        return invert(analysis, true);
+    }
+
+    /**
+     * Inverts the analyzed tweet, taking it from the tweet
+     * cache if it was already inverted.
+     * @param analysis - analysis of the tweet which will
+     *                 be inverted
+     * @param kept - true if the negated version is put into
+     *             the tweet cache
+     * @return negated version of the original
+     */
+    private static String invert(final TweetAnalysis analysis,
+                                 final boolean kept) {
+
+        beginTweet();
+        String cached = TWEETS.get(analysis.getOriginal());
+        if (cached != null) {
+            return cached;
+        }
+
+        try {
+            boolean formatted = !analysis.isUnformatted();
+            String result = invertSentences(analysis, formatted);
+            if (formatted && kept) {
+                TWEETS.put(analysis.getOriginal(), result);
+            }
+            return result;
 
         } catch (Exception exception) {
 
             LOGGER.error("Tweet not inverted.");
-            return original;
+            FALLBACKS.incrementAndGet();
+            return analysis.getOriginal();
+        }
+    }
+
+    /**
+     * Creates a negated version of the tweet as a list of
+     * edits against the original, so that a tweet in which
+     * only a verb has changed is kept as one short edit.
+     * @param original - tweet which will be inverted
+     * @return the edits that turn the original into its
+     *         negated version
+     */
+    public static TextDiff createInverseDiff(final String original) {
+        return createInverseDiff(original, new TweetAnalysis(original));
+    }
+
+    /**
+     * Creates a negated version of the analyzed tweet as a
+     * list of edits against the given text. The negated
+     * version is only used for the diff and is not put into
+     * the tweet cache, so the diff is the only copy of it
+     * that is kept. A tweet that is already in the tweet
+     * cache is taken from it, and the sentences still use
+     * the sentence cache.
+     * @param original - text the edits are made against,
+     *                 such as the original of the analysis
+     *                 without its newlines
+     * @param analysis - analysis of the tweet which will
+     *                 be inverted
+     * @return the edits that turn the text into the
+     *         negated version
+     */
+    public static TextDiff createInverseDiff(
+            final String original,
+            final TweetAnalysis analysis) {
+
+        return TextDiff.compute(original, invert(analysis, false));
+    }
+
+    /**
+     * Reads a text of any length, such as an article, and
+     * writes its negated version sentence by sentence. Every
+     * sentence is formatted and inverted as a post of its own
+     * and written out before the next one is read, so the
+     * memory stays the same however long the text is. The
+     * sentences are put into neither the tweet cache nor the
+     * sentence cache, which would otherwise grow with the
+     * text up to their capacities. The inverted
+     * sentences are separated by single spaces, and a sentence
+     * that cannot be inverted is written unchanged. Neither of
+     * the streams is closed.
+     * @param original - text which will be inverted
+     * @param inverse - where the negated version is written
+     * @throws IOException - if the text cannot be read
+     *                     or written
+     */
+    public static void createInverseVersion(
+            final Reader original,
+            final Writer inverse) throws IOException {
+
+        SentenceReader sentences = new SentenceReader(original);
+        boolean first = true;
+
+        for (String sentence = sentences.next(); sentence != null;
+             sentence = sentences.next()) {
+
+            beginTweet();
+            String inverted;
+            try {
+                inverted = invertSentences(
+                        new TweetAnalysis(sentence), false);
+            } catch (Exception exception) {
+                LOGGER.error("Sentence not inverted.");
+                FALLBACKS.incrementAndGet();
+                inverted = sentence;
+            }
+
+            if (inverted.isEmpty()) {
+                continue;
+            }
+            if (!first) {
+                inverse.write(' ');
+            }
+            inverse.write(inverted);
+            first = false;
+        }
+
+        inverse.flush();
+    }
+
+    /**
+     * Inverts the posts while profiling the skip rules,
+     * and then orders the rules by their profiled cost and
+     * selectivity. The caches are not used, so that every
+     * sentence goes through the rules. Only the calling
+     * thread is profiled; the inversions on other threads
+     * keep the current order. The trained order is used
+     * until the application stops, and
+     * {@link SkipHelper#saveOrder()} keeps it for the next
+     * starts.
+     * @param posts - posts used for the training run
+     */
+    public static void trainSkipRules(final List<String> posts) {
+        SkipHelper.startProfile();
+        try {
+            for (String post : posts) {
+                try {
+                    for (AnalyzedSentence sentence
+                            : new TweetAnalysis(post).getSentences()) {
+                        invertWords(sentence);
+                    }
+                } catch (Exception exception) {
+                    LOGGER.error("Tweet not inverted.");
+                }
+            }
+        } finally {
+            SkipHelper.optimizeOrder();
         }
     }
 
     /**
-     * Method for the inversion of a single sentence. It
-     * saves its results in the CustomStringBuilder.
+     * Gives back the number of tweets and streamed sentences
+     * that were given back unchanged, because the inversion
+     * failed.
+     * @return the number of fallbacks
+     */
+    public static long getFallbackCount() {
+        return FALLBACKS.get();
+    }
+
+    /**
+     * Sets the length of the prepared post above which its
+     * sentences are inverted in parallel.
+     * @param threshold - number of chars, Integer.MAX_VALUE
+     *                  turns the parallel inversion off
+     */
+    public static void setParallelThreshold(final int threshold) {
+        parallelThreshold = threshold;
+    }
+
+    /**
+     * Gives back the length of the prepared post above which
+     * its sentences are inverted in parallel.
+     * @return the number of chars
+     */
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Gives back the cache of the whole tweets.
+     * @return the tweet cache
+     */
+    public static InversionCache<String> getTweetCache() {
+        return TWEETS;
+    }
+
+    /**
+     * Gives back the cache of the single sentences.
+     * @return the sentence cache
+     */
+    public static InversionCache<EditList> getSentenceCache() {
+        return SENTENCES;
+    }
+
+    /**
+     * Inverts all the sentences of the analyzed post. The
+     * sentences share no state, so the sentences of a post
+     * longer than the parallel threshold are spread over the
+     * common fork-join pool, and their edits are rendered in
+     * the original order. While the rules are traced, the
+     * sentences are always inverted on the calling thread,
+     * which keeps the traced events of the post together.
+     * @param analysis - analysis of the post
+     * @param cached - true if the sentence cache is used,
+     *               false if every sentence goes through
+     *               the rules and is not kept
+     * @return negated version of the post
+     */
+    private static String invertSentences(final TweetAnalysis analysis,
+                                          final boolean cached) {
+        AnalyzedSentence[] sentences = analysis.getSentences();
+        EditList[] edits = new EditList[sentences.length];
+
+        if (sentences.length > 1 && !InversionTrace.isEnabled()
+                && analysis.getPrepared().length() > parallelThreshold) {
+            IntStream.range(0, sentences.length).parallel()
+                    .forEach(i -> edits[i]
+                            = invertSentence(sentences[i], cached));
+        } else {
+            for (int i = 0; i < sentences.length; i++) {
+                edits[i] = invertSentence(sentences[i], cached);
+            }
+        }
+
+        return EditList.render(edits);
+    }
+
+    /**
+     * Gives back the edits inverting the sentence, from
+     * the cache if the sentence was already inverted.
+     * @param sentence - sentence to be inverted
+     * @param cached - true if the sentence cache is used
+     * @return the edit list, which must only be read
+     */
+    private static EditList invertSentence(
+            final AnalyzedSentence sentence,
+            final boolean cached) {
+
+        if (!cached) {
+            return invertWords(sentence);
+        }
+
+        EditList inverted = SENTENCES.get(sentence.getText());
+        if (inverted == null) {
+            inverted = invertWords(sentence);
+            SENTENCES.put(sentence.getText(), inverted);
+        }
+        return inverted;
+    }
+
+    /**
+     * Method for the inversion of a single sentence.
      * The method cannot be separated into sub-methods,
      * since it works as a pipeline that the words of
      * the sentence go through. While they go through
      * the pipeline, various checks and operations are
      * performed on them.
-     * @param resultingStatus - where the results will
-     *                        be stored
      * @param sentence - sentence to be inverted
+     * @return the edits inverting the sentence
      */
-    private static void invertSentence(
-            final CustomStringBuilder resultingStatus,
-            final String sentence) {
+    private static EditList invertWords(
+            final AnalyzedSentence sentence) {
 
-        String[] words = sentence.split("\\s+");
+        TokenTable tokens = sentence.createTokenTable();
 
         int subSentenceStart = 0;
         boolean shouldInvert = true;
-        Tense tense = new Tense(words[subSentenceStart],
-                subSentenceStart, words.length);
-        tense.setChanged(false);
+        Tense tense = new Tense(tokens.getWord(subSentenceStart),
+                subSentenceStart, tokens.length());
 
-        for (int position = 0; position < words.length; position++) {
+        for (int position = 0; position < tokens.length(); position++) {
 
-            String word = words[position];
-            String cleanWord = clean(word);
-            int senLen = words.length;
+            String cleanWord = tokens.getClean(position);
+            int id = tokens.getId(position);
+            int senLen = tokens.length();
 
-            if (startNewSentence(words, tense, position)) {
+            if (startNewSentence(tokens, tense, position)) {
 
-                if (includedInPrevious(words[position])) {
+                if (includedInPrevious(tokens.getWord(position))) {
                     if (shouldInvert) {
-                        if (isVerb(cleanWord)
-                                && !shouldSkip(words, tense, position)) {
+                        if (tokens.is(position, VERB)
+                                && !shouldSkip(tokens, tense, position)) {
                             tense.levelAddSuccess(cleanWord, position);
                         }
-                        invert(words, tense);
+                        invert(tokens, tense);
                     }
 
                     if (position + 1 < senLen) {
-                        tense = new Tense(words[position + 1],
-                                position + 1, words.length);
+                        tense.next(tokens.getWord(position + 1),
+                                position + 1, tokens.length());
                         subSentenceStart = position + 1;
                     } else {
-                        tense = new Tense(words[position],
-                                position, words.length);
+                        tense.next(tokens.getWord(position),
+                                position, tokens.length());
                         subSentenceStart = position;
                     }
 
                     shouldInvert = true;
                     continue;
 
-                } else if (includedInNext(words[position])) {
+                } else if (includedInNext(tokens.getWord(position))) {
                     if (shouldInvert) {
-                        invert(words, tense);
+                        invert(tokens, tense);
                     }
 
-                    tense = new Tense(words[position],
-                            position, words.length);
+                    tense.next(tokens.getWord(position),
+                            position, tokens.length());
                     subSentenceStart = position;
                     shouldInvert = true;
 
                 } else {
                     if (shouldInvert) {
-                        invert(words, tense);
+                        invert(tokens, tense);
                     }
 
                     if (position + 1 < senLen) {
-                        tense = new Tense(words[position + 1],
-                                position + 1, words.length);
+                        tense.next(tokens.getWord(position + 1),
+                                position + 1, tokens.length());
                         subSentenceStart = position + 1;
                     } else {
-                        tense = new Tense(words[position],
-                                position, words.length);
+                        tense.next(tokens.getWord(position),
+                                position, tokens.length());
                         subSentenceStart = position;
                     }
 
@@ -193,20 +540,20 @@ public final class InversionService {
                 }
             }
 
-            if (isVerb(cleanWord)) {
+            if (tokens.is(position, VERB)) {
 
-                if (shouldSkip(words, tense, position)) {
+                if (shouldSkip(tokens, tense, position)) {
                     if (shouldInvert && position + 1 == senLen) {
-                        invert(words, tense);
+                        invert(tokens, tense);
                     }
                     continue;
                 }
 
                 if (tense.getLastLvlPos() > -1
-                        && isPossessionBetween(words,
+                        && isPossessionBetween(tokens,
                         tense.getLastLvlPos(), position)) {
                     if (shouldInvert && position + 1 == senLen) {
-                        invert(words, tense);
+                        invert(tokens, tense);
                     }
                     continue;
                 }
@@ -221,123 +568,134 @@ public final class InversionService {
                         continue;
 
                     } else if (shouldInvert) {
-                        if (invert(words, tense)) {
+                        if (invert(tokens, tense)) {
                             shouldInvert = false;
                         }
-                        tense = new Tense(words[subSentenceStart],
-                                subSentenceStart, words.length);
+                        tense.next(tokens.getWord(subSentenceStart),
+                                subSentenceStart, tokens.length());
                         --position;
                     }
                 }
             }
 
-            if (cleanWord.equals("to") && position + 1 < senLen
-                    && isInfinitive(words[position + 1])) {
+            if (id == TO && position + 1 < senLen
+                    && tokens.is(position + 1, INFINITIVE)) {
                 tense.activateInfinitive();
             }
 
-            if (cleanWord.equals("after") || cleanWord.equals("before")
-                    && isThereVerbAfter(words, position)) {
+            if (id == AFTER || id == BEFORE
+                    && isThereVerbAfter(tokens, position)) {
                 if (shouldInvert) {
-                    invert(words, tense);
+                    invert(tokens, tense);
                 }
-                tense = new Tense(cleanWord, position, words.length);
+                tense.next(cleanWord, position, tokens.length());
                 subSentenceStart = position;
                 shouldInvert = false;
             }
 
             if (shouldInvert && position + 1 == senLen) {
-                invert(words, tense);
+                invert(tokens, tense);
             }
         }
 
-        for (String word : words) {
-            resultingStatus.append(word);
-        }
+        return tokens.getEdits();
     }
 
     /**
-     * Makes sure that there are no short modal
-     * forms like "it's".
-     * @param post - post that possibly has short
-     *             modals
-     * @return post without short modals
+     * Method used to make negation of a verb.
+     *
+     * @param tokens - words in the sentence
+     * @param tense - complete form of the verb
+     *              which is being negated
+     * @return words in the negated sentence
      */
-    private static String formatModals(final String post) {
-        String[] allWords = post.split("\\s+");
-        allWords = fixShortModals(allWords);
-
-        CustomStringBuilder fixedPost
-                = new CustomStringBuilder();
-
-        for (String word : allWords) {
-            fixedPost.append(word);
-        }
+    private static boolean invert(
+            final TokenTable tokens,
+            final Tense tense) {
 
-        return fixedPost.toString();
+        long start = start();
+        return end(INVERT, start, invertTense(tokens, tense),
+                tokens, tense.getLastLvlPos());
     }
 
     /**
-     * Method used to make negation of a verb.
-     *
-     * @param words - words in the sentence
+     * Negates the verb, unless it's a verb that
+     * shouldn't be negated.
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb
      *              which is being negated
-     * @return words in the negated sentence
+     * @return true if the verb was negated, false
+     *         otherwise
      */
-    private static boolean invert(
-            final String[] words,
+    private static boolean invertTense(
+            final TokenTable tokens,
             final Tense tense) {
 
         if (tense.getLevel1() == null) {
             return false;
 
-        } else if (isNewSubSentenceVerb(words[tense.getLastLvlPos()])
-                && isThereVerbAfter(words, tense.getLastLvlPos())) {
+        } else if (tokens.is(tense.getLastLvlPos(), NEW_SUB_SENTENCE_VERB)
+                && isThereVerbAfter(tokens, tense.getLastLvlPos())) {
             return false;
+        }
 
-        } else if (isSkipQuestion(words, tense)) {
+        int position = tense.getLastLvlPos();
+        long start = start();
+        if (end(SKIP_QUESTION, start, isSkipQuestion(tokens, tense),
+                tokens, position)) {
             return false;
+        }
 
-        } else if (isPushQuestion(words, tense)) {
-            invertPushQuestion(words, tense);
+        start = start();
+        if (end(PUSH_QUESTION, start, isPushQuestion(tokens, tense),
+                tokens, position)) {
+            invertPushQuestion(tokens, tense);
 
         } else {
-            boolean changed = generalCase(words, tense);
+            start = start();
+            boolean changed = end(GENERAL_CASE, start,
+                    generalCase(tokens, tense), tokens, position);
             if (!changed) {
-                performInversion(words, tense);
+                start = start();
+                performInversion(tokens, tense);
+                end(PERFORM_INVERSION, start, true, tokens, position);
             }
         }
 
-        checkNonButCase(words, tense);
-        checkSomeAnyCase(words, tense);
+        start = start();
+        checkNonButCase(tokens, tense);
+        end(NON_BUT_CASE, start, false, tokens, position);
+
+        start = start();
+        checkSomeAnyCase(tokens, tense);
+        end(SOME_ANY_CASE, start, false, tokens, position);
 
         return true;
     }
 
     /**
      * Inverts the push questions.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param tense - complete form of the
      *              verb which is being negated
      */
     private static void invertPushQuestion(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
         boolean changed = false;
         if (isPositive(tense.getLevel1())) {
-            changed = negationAfter(words, tense.getPosition1());
+            changed = negationAfter(tokens, tense.getPosition1());
             tense.setToPositive();
             tense.setChanged(true);
         }
 
         if (!changed && isNegative(tense.getLevel1())) {
-            invertHashSet(words, tense.getPosition1());
+            invertHashSet(tokens, tense.getPosition1());
             tense.setChanged(true);
 
         } else if (!changed && tense.getLevel2() != null) {
-            negateLast(words, tense);
+            negateLast(tokens, tense);
             tense.setToNegative();
             tense.setChanged(true);
         }
@@ -352,7 +710,7 @@ public final class InversionService {
      * That's why we'll only inverse these pronouns
      * (everybody -> nobody...) and the resulting
      * sentence will still have sense.
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which
      *              is being negated
      * @return true if anything has changed, false
@@ -360,20 +718,20 @@ public final class InversionService {
      *         no indefinite pronouns in the sentence)
      */
     private static boolean generalCase(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
-        boolean changed = everyToNo(words, tense);
+        boolean changed = everyToNo(tokens, tense);
         if (changed) {
             return true;
         }
 
-        changed = noToSome(words, tense);
+        changed = noToSome(tokens, tense);
         if (changed) {
             return true;
         }
 
-        return startToStopCase(words, tense);
+        return startToStopCase(tokens, tense);
     }
 
     /**
@@ -381,7 +739,7 @@ public final class InversionService {
      * contain the word "every" to their
      * counterparts that contain the word "no"
      * (i.e. "everybody" -> "nobody").
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which
      *              is being negated
      * @return true if anything has changed, false
@@ -390,15 +748,15 @@ public final class InversionService {
      *         sentence)
      */
     private static boolean everyToNo(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
         if (tense.getPosition1() > 0
-                && isIndefinitePronoun(words[tense.getPosition1() - 1])) {
+                && tokens.is(tense.getPosition1() - 1, INDEFINITE_PRONOUN)) {
 
-            words[tense.getPosition1() - 1]
-                    = finalizeWord(words[tense.getPosition1() - 1],
-                    getOppositePronoun(words[tense.getPosition1() - 1]));
+            int pronoun = tense.getPosition1() - 1;
+            tokens.setWord(pronoun, finalizeWord(tokens.getWord(pronoun),
+                    getOppositePronoun(tokens.getWord(pronoun))));
 
             tense.setToNegative();
             return true;
@@ -412,7 +770,7 @@ public final class InversionService {
      * contain the word "no" to their
      * counterparts that contain the word "some"
      * (i.e. "nobody" -> "somebody").
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which
      *              is being negated
      * @return true if anything has changed, false
@@ -421,7 +779,7 @@ public final class InversionService {
      *         sentence)
      */
     private static boolean noToSome(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
         int start;
         /*if (tense.getPosition1() > 0) {
@@ -432,9 +790,9 @@ public final class InversionService {
         start = tense.getSubSentenceStart();
 
         int end;
-        if (tense.getLastLvlPos() + 2 < words.length) {
+        if (tense.getLastLvlPos() + 2 < tokens.length()) {
             end = tense.getLastLvlPos() + 2;
-        } else if (tense.getLastLvlPos() + 1 < words.length) {
+        } else if (tense.getLastLvlPos() + 1 < tokens.length()) {
             end = tense.getLastLvlPos() + 1;
         } else {
             end = tense.getLastLvlPos();
@@ -442,20 +800,22 @@ public final class InversionService {
 
         for (int pos = start; pos < end; pos++) {
 
-            String word = clean(words[pos]);
-            if (isNegIndefinitePronoun(word)) {
+            String word = tokens.getClean(pos);
+            if (tokens.is(pos, NEG_INDEFINITE_PRONOUN)) {
 
-                words[pos] = finalizeWord(words[pos],
-                        getOppositeNegPronoun(word));
+                tokens.setWord(pos, finalizeWord(tokens.getWord(pos),
+                        getOppositeNegPronoun(word)));
 
                 tense.setToPositive();
                 return true;
 
-            } else if (word.equals("no") && pos + 1 < words.length
-                    && clean(words[pos + 1]).equals("one")) {
+            } else if (tokens.getId(pos) == NO && pos + 1 < tokens.length()
+                    && tokens.getId(pos + 1) == ONE) {
 
-                words[pos] = finalizeWord(words[pos], "someone");
-                words[pos + 1] = finalizeWord(words[pos + 1], "");
+                tokens.setWord(pos,
+                        finalizeWord(tokens.getWord(pos), "someone"));
+                tokens.setWord(pos + 1,
+                        finalizeWord(tokens.getWord(pos + 1), ""));
 
                 tense.setToPositive();
                 return true;
@@ -468,7 +828,7 @@ public final class InversionService {
     /**
      * Inversion from the verb "start" to the verb "stop".
      * (i.e. "started" -> "stopped").
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which
      *              is being negated
      * @return true if anything has changed, false
@@ -477,15 +837,15 @@ public final class InversionService {
      *         sentence)
      */
     private static boolean startToStopCase(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
         if (tense.getBeforeLastLvlPos() > -1
-                && isStartOrStop(words[tense.getBeforeLastLvlPos()])) {
+                && tokens.is(tense.getBeforeLastLvlPos(), START_OR_STOP)) {
 
-            words[tense.getBeforeLastLvlPos()]
-                    = finalizeWord(words[tense.getBeforeLastLvlPos()],
-                    getStartStop(words[tense.getBeforeLastLvlPos()]));
+            tokens.setWord(tense.getBeforeLastLvlPos(),
+                    finalizeWord(tokens.getWord(tense.getBeforeLastLvlPos()),
+                    getStartStop(tokens.getWord(tense.getBeforeLastLvlPos()))));
 
             return true;
         }
@@ -497,34 +857,34 @@ public final class InversionService {
      * This method is used to detect what tense are
      * the verbs in and to call the appropriate
      * negation method.
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which
      *              is being negated
      */
     private static void performInversion(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
         String toNegate = tense.getLevel1();
         int position = tense.getPosition1();
 
-        String verbPhrase = isTwoPartVerb(words,
+        String verbPhrase = isTwoPartVerb(tokens.getWords(),
                 tense.getLastLvlPos());
 
         if ((isModal(toNegate) || isFormOfBe(toNegate)
                 || isFormOfHave(toNegate))
-                && !shouldNegateHave(words, tense)) {
+                && !shouldNegateHave(tokens, tense)) {
 
-            simpleInversion(words, tense, toNegate, position);
+            simpleInversion(tokens, tense, toNegate, position);
             tense.setChanged(true);
 
         } else if (isVerb(toNegate)) {
 
-            complexInversion(words, tense, toNegate,
+            complexInversion(tokens, tense, toNegate,
                     verbPhrase, position);
         }
 
-        clearAfter(words, position);
+        clearAfter(tokens, position);
     }
 
     /**
@@ -532,7 +892,7 @@ public final class InversionService {
      * "not" or "no" right after the verb. If
      * that's the case, the negation word is
      * removed.
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param position - position of the word
      *                 which is currently being
      *                 processed
@@ -540,17 +900,17 @@ public final class InversionService {
      *         otherwise
      */
     private static boolean negationAfter(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        if (isNextWordNegation(words, position)) {
-            words[position + 1] =
-                    finalizeWord(words[position + 1], "");
+        if (isNextWordNegation(tokens, position)) {
+            tokens.setWord(position + 1,
+                    finalizeWord(tokens.getWord(position + 1), ""));
             return true;
 
-        } else if (isWordAfterNextNegation(words, position)) {
-            words[position + 2] =
-                    finalizeWord(words[position + 2], "");
+        } else if (isWordAfterNextNegation(tokens, position)) {
+            tokens.setWord(position + 2,
+                    finalizeWord(tokens.getWord(position + 2), ""));
             return true;
         }
 
@@ -560,7 +920,7 @@ public final class InversionService {
     /**
      * Inverts the modals and the verbs "to be"
      * and "to have".
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which
      * @param toNegate - verb that will be inverted
      * @param position - position of the word
@@ -568,24 +928,24 @@ public final class InversionService {
      *                 processed
      */
     private static void simpleInversion(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
             final String toNegate,
             final int position) {
 
         if (isPositive(toNegate)) {
             boolean changed
-                    = negationAfter(words, position);
+                    = negationAfter(tokens, position);
 
             if (changed) {
                 tense.setToPositive();
             } else {
-                invertHashSet(words, position);
+                invertHashSet(tokens, position);
                 tense.setToNegative();
             }
 
         } else {
-            invertHashSet(words, position);
+            invertHashSet(tokens, position);
             tense.setToPositive();
         }
     }
@@ -594,7 +954,7 @@ public final class InversionService {
      * Method performs all the inversions that are
      * more complex than just taking the opposite
      * form from the HashSet.
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which
      *              is being negated
      * @param toNegate - verb that will be inverted
@@ -605,7 +965,7 @@ public final class InversionService {
      *                 currently being processed
      */
     private static void complexInversion(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
             final String toNegate,
             final String verbPhrase,
@@ -614,33 +974,33 @@ public final class InversionService {
         tense.setChanged(true);
 
         if (isPositiveDo(toNegate)
-                && negationAfter(words, position)) {
+                && negationAfter(tokens, position)) {
             tense.setToPositive();
 
-        } else if (doAndDidSpecialCase(words, toNegate, tense)
+        } else if (doAndDidSpecialCase(tokens, toNegate, tense)
                 != null) {
 
-            words[position] = finalizeWord(words[position],
-                    doAndDidSpecialCase(words, toNegate, tense));
+            tokens.setWord(position, finalizeWord(tokens.getWord(position),
+                    doAndDidSpecialCase(tokens, toNegate, tense)));
             tense.setToNegative();
 
         } else if (isInfinitive(toNegate)) {
-            negateInfinitive(words, tense, toNegate,
+            negateInfinitive(tokens, tense, toNegate,
                     verbPhrase, position);
             tense.setToNegative();
 
         } else if (isThirdPerson(toNegate)) {
-            negateThirdPerson(words, tense, toNegate,
+            negateThirdPerson(tokens, tense, toNegate,
                     verbPhrase, position);
             tense.setToNegative();
 
         } else if (isPerfect(toNegate)) {
-            negatePast(words, tense, toNegate,
+            negatePast(tokens, tense, toNegate,
                     verbPhrase, position);
             tense.setToNegative();
 
         } else if (isNegativeFormOfDo(toNegate)) {
-            turnDoPositive(words, tense, toNegate,
+            turnDoPositive(tokens, tense, toNegate,
                     verbPhrase, position);
             tense.setToPositive();
         } else {
@@ -652,25 +1012,25 @@ public final class InversionService {
      * If the word on a given position is a
      * modal, a verb "to be" or a verb "to have",
      * it will be turned to its opposite form.
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param position - position of the word which is
      *                 currently being processed
      */
     private static void invertHashSet(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        if (isModal(words[position])) {
-            words[position] = finalizeWord(words[position],
-                    getOppositeModal(words[position]));
+        if (tokens.is(position, MODAL)) {
+            tokens.setWord(position, finalizeWord(tokens.getWord(position),
+                    getOppositeModal(tokens.getWord(position))));
 
-        } else if (isFormOfBe(words[position])) {
-            words[position] = finalizeWord(words[position],
-                    getOppositeBe(words[position]));
+        } else if (tokens.is(position, FORM_OF_BE)) {
+            tokens.setWord(position, finalizeWord(tokens.getWord(position),
+                    getOppositeBe(tokens.getWord(position))));
 
-        } else if (isFormOfHave(words[position])) {
-            words[position] = finalizeWord(words[position],
-                    getOppositeHave(words[position]));
+        } else if (tokens.is(position, FORM_OF_HAVE)) {
+            tokens.setWord(position, finalizeWord(tokens.getWord(position),
+                    getOppositeHave(tokens.getWord(position))));
         }
     }
 
@@ -710,7 +1070,7 @@ public final class InversionService {
      * Method used for turning any negative form of
      * the verb "to do" to its positive form. (i.e.
      * from "doesn't sleep" to "sleeps").
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which
      *              is being negated
      * @param toNegate - verb that will be inverted
@@ -721,7 +1081,7 @@ public final class InversionService {
      *                 currently being processed
      */
     private static void turnDoPositive(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
             final String toNegate,
             final String verbPhrase,
@@ -729,22 +1089,22 @@ public final class InversionService {
 
         if (toNegate.equals("doesn't")) {
 
-            turnToPositive(words, tense, toNegate, verbPhrase,
+            turnToPositive(tokens, tense, toNegate, verbPhrase,
                     "does", getThirdPerson(tense.getLevel2()),
                     position);
 
         } else if (toNegate.equals("don't")) {
 
             if (!tense.isQuestion()) {
-                words[position] = "";
+                tokens.setWord(position, "");
             } else {
-                words[position] = finalizeWord(words[position],
-                        "do");
+                tokens.setWord(position, finalizeWord(tokens.getWord(position),
+                        "do"));
             }
 
         } else  if (toNegate.equals("didn't")) {
 
-            turnToPositive(words, tense, toNegate, verbPhrase,
+            turnToPositive(tokens, tense, toNegate, verbPhrase,
                     "did", getPerfect(tense.getLevel2()),
                     position);
         }
@@ -754,7 +1114,7 @@ public final class InversionService {
      * Method used for turning the negative forms
      * of Third Person and Past Simple of the verb
      * "to do" to their positive versions.
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which
      *              is being negated
      * @param toNegate - verb that will be inverted
@@ -768,7 +1128,7 @@ public final class InversionService {
      *                 currently being processed
      */
     private static void turnToPositive(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
             final String toNegate,
             final String verbPhrase,
@@ -778,20 +1138,21 @@ public final class InversionService {
 
         if (!tense.isQuestion()) {
             if (verbPhrase != null) {
-                words[position] = finalizeWord(words[position],
-                        verbPhrase + " " + mainVerb);
+                tokens.setWord(position, finalizeWord(tokens.getWord(position),
+                        verbPhrase + " " + mainVerb));
 
-                words[tense.getPosition2()] = "";
-                words[tense.getPosition2() - 1] = "";
+                tokens.setWord(tense.getPosition2(), "");
+                tokens.setWord(tense.getPosition2() - 1, "");
 
             } else {
-                words[position] = finalizeWord(words[position],
-                        mainVerb);
+                tokens.setWord(position, finalizeWord(tokens.getWord(position),
+                        mainVerb));
 
-                words[tense.getPosition2()] = "";
+                tokens.setWord(tense.getPosition2(), "");
             }
         } else {
-            words[position] = finalizeWord(words[position], doesOrDid);
+            tokens.setWord(position,
+                    finalizeWord(tokens.getWord(position), doesOrDid));
         }
     }
 
@@ -799,7 +1160,7 @@ public final class InversionService {
      * Method used for negation of Present Simple and Past
      * Simple tense.
      *
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which is
      *              being negated
      * @param toNegate - verb that will be inverted
@@ -811,40 +1172,42 @@ public final class InversionService {
      *                 currently being processed
      */
     private static void negate(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
             final String toNegate,
             final String verbPhrase,
             final String negDo,
             final int position) {
 
-        if (isAdverbBefore(words, position)) {
+        if (isAdverbBefore(tokens, position)) {
 
-            words[position] = finalizeWord(words[position],
-                    negDo + " " + words[position - 1]
-                            + " " + getInfinitive(toNegate));
+            tokens.setWord(position, finalizeWord(tokens.getWord(position),
+                    negDo + " " + tokens.getWord(position - 1)
+                            + " " + getInfinitive(toNegate)));
 
-            words[position - 1] = "";
+            tokens.setWord(position - 1, "");
 
         } else {
             if (tense.isQuestion() && isPositiveDo(toNegate)
-                    && !isOnTheEnd(words, position)) {
+                    && !isOnTheEnd(tokens, position)) {
 
-                words[position] = finalizeWord(words[position],
-                        negDo);
+                tokens.setWord(position, finalizeWord(tokens.getWord(position),
+                        negDo));
 
             } else {
                 if (verbPhrase != null) {
 
-                    words[position] = finalizeWord(words[position],
-                            negDo + " " + verbPhrase + " "
-                                    + getInfinitive(toNegate));
+                    tokens.setWord(position,
+                            finalizeWord(tokens.getWord(position),
+                                    negDo + " " + verbPhrase + " "
+                                    + getInfinitive(toNegate)));
 
-                    words[tense.getLastLvlPos() - 1] = "";
+                    tokens.setWord(tense.getLastLvlPos() - 1, "");
 
                 } else {
-                    words[position] = finalizeWord(words[position],
-                            negDo + " " + getInfinitive(toNegate));
+                    tokens.setWord(position,
+                            finalizeWord(tokens.getWord(position),
+                                    negDo + " " + getInfinitive(toNegate)));
                 }
             }
         }
@@ -854,7 +1217,7 @@ public final class InversionService {
      * Method used for negation of Past Simple tense
      * (i.e. from "slept" to "didn't sleep").
      *
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which is
      *              being negated
      * @param toNegate - verb that will be inverted
@@ -864,7 +1227,7 @@ public final class InversionService {
      *                 currently being processed
      */
     private static void negatePast(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
             final String toNegate,
             final String verbPhrase,
@@ -877,12 +1240,12 @@ public final class InversionService {
         if (toNegate.equals("did")
                 && isInfinitive(tense.getLevel2())) {
 
-            words[position] = finalizeWord(words[position],
-                    "didn't");
+            tokens.setWord(position, finalizeWord(tokens.getWord(position),
+                    "didn't"));
             return;
         }
 
-        negate(words, tense, toNegate,
+        negate(tokens, tense, toNegate,
                 verbPhrase, "didn't", position);
     }
 
@@ -890,7 +1253,7 @@ public final class InversionService {
      * Method used for negation of first person and
      * plural of Present Simple tense (i.e. from
      * "sleeps" to "don't sleep").
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which
      *              is being negated
      * @param toNegate - verb that will be inverted
@@ -901,30 +1264,28 @@ public final class InversionService {
      *                 currently being processed
      */
     private static void negateInfinitive(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
             final String toNegate,
             final String verbPhrase,
             final int position) {
 
-        String[] copy = words;
-
         if (tense.getLevel2() == null && position > 1
-                && clean(copy[position - 1]).equals("to")) {
+                && tokens.getId(position - 1) == TO) {
 
-            copy[position - 1] = "to not";
+            tokens.setWord(position - 1, "to not");
 
         } else if (position > 0
-                && (isSingular(copy[position - 1])
-                || isName(copy[position - 1])
-                || isSingularPronoun(copy[position - 1]))
+                && (tokens.is(position - 1, SINGULAR)
+                || tokens.is(position - 1, NAME)
+                || tokens.is(position - 1, SINGULAR_PRONOUN))
                 && isPerfect(toNegate)) {
 
-            negatePast(copy, tense, toNegate,
+            negatePast(tokens, tense, toNegate,
                     verbPhrase, position);
 
         } else {
-            negate(words, tense, toNegate,
+            negate(tokens, tense, toNegate,
                     verbPhrase, "don't", position);
         }
     }
@@ -933,7 +1294,7 @@ public final class InversionService {
      * Method used for negation of third person of
      * Present Simple tense (i.e. from "sleeps" to
      * "doesn't sleep").
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which
      *              is being negated
      * @param toNegate - verb that will be inverted
@@ -944,30 +1305,30 @@ public final class InversionService {
      *                 is currently being processed
      */
     private static void negateThirdPerson(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
             final String toNegate,
             final String verbPhrase,
             final int position) {
 
-        negate(words, tense, toNegate,
+        negate(tokens, tense, toNegate,
                 verbPhrase, "doesn't", position);
     }
 
     /**
      * Checks if we're on the end of the sentence.
      *
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which
      *                 is currently being processed
      * @return true if we're on the last word of the
      *         sentence, false otherwise
      */
     private static boolean isOnTheEnd(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        return position == words.length - 1;
+        return position == tokens.length() - 1;
     }
 
     /**
@@ -975,17 +1336,17 @@ public final class InversionService {
      * "I have done that." is not negated the same
      * way. This method checks if the "have" should
      * be negated in a "don't have" way or "haven't".
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param tense - complete form of the verb which
      *              is being checked
      * @return true if we do the negation with
      *         "haven't", false otherwise
      */
     private static boolean shouldNegateHave(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
-        String last = words[words.length - 1];
+        String last = tokens.getWord(tokens.length() - 1);
         return tense.getLevel1() != null
                 && (tense.getPosition1() != 0
                 || (tense.getPosition1() == 0
@@ -996,24 +1357,24 @@ public final class InversionService {
                 && ((tense.getLevel2() != null
                 && isInfinitive(tense.getLevel2()))
                 || tense.getLevel2() == null)
-                && !isNextWordNegation(words,
+                && !isNextWordNegation(tokens,
                 tense.getPosition1());
     }
 
     /**
      * The method checks if the word before position
      * is an adverb.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which
      *                 is currently being processed
      * @return true if the word before position is
      *         an adverb, false otherwise
      */
     private static boolean isAdverbBefore(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        return position > 0 && isAdverb(words[position - 1]);
+        return position > 0 && tokens.is(position - 1, ADVERB);
     }
 
     /**
@@ -1049,28 +1410,27 @@ public final class InversionService {
      * verb form in the tense if the tense contains
      * more than one verb form. Otherwise, it will
      * return the original sentence.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param tense - complete form of the verb which
      *              is being checked
      */
     private static void negateLast(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
-        String[] result = words;
         int position = tense.getLastLvlPos();
 
         if (tense.getLevel2() != null) {
-            result[position] = "not " + result[position];
+            tokens.setWord(position, "not " + tokens.getWord(position));
         } else {
-            performInversion(result, tense);
+            performInversion(tokens, tense);
         }
     }
 
     /**
      * Checks if there is a possessive noun between
      * the start and end positions.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param start - start position
      * @param end - end position
      * @return true if there is a possessive noun
@@ -1078,12 +1438,31 @@ public final class InversionService {
      *         otherwise
      */
     private static boolean isPossessionBetween(
-            final String[] words,
+            final TokenTable tokens,
+            final int start,
+            final int end) {
+
+        long time = start();
+        return end(POSSESSION_BETWEEN, time,
+                anyPossessionBetween(tokens, start, end), tokens, end);
+    }
+
+    /**
+     * Searches for a possessive noun between the start
+     * and end positions.
+     * @param tokens - words of the sentence
+     * @param start - start position
+     * @param end - end position
+     * @return true if a possessive noun was found,
+     *         false otherwise
+     */
+    private static boolean anyPossessionBetween(
+            final TokenTable tokens,
             final int start,
             final int end) {
 
         for (int pos = start + 1; pos < end; pos++) {
-            if (isPossession(words[pos])) {
+            if (tokens.is(pos, POSSESSION)) {
                 return true;
             }
         }
@@ -1093,41 +1472,41 @@ public final class InversionService {
 
     /**
      * Checks if the next word is "no" or "not".
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which
      *                 is currently being processed
      * @return true if the next word is "no" or "not",
      *         false otherwise
      */
     private static boolean isNextWordNegation(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
-        return position < words.length - 1
-                && (clean(words[position + 1]).equals("not")
-                || (clean(words[position + 1]).equals("no")
-                && position < words.length - 2
-                && !clean(words[position + 2]).equals("one"))
-                || (clean(words[position + 1]).equals("no")
-                && position == words.length - 2)
-                || clean(words[position + 1]).equals("never"));
+        return position < tokens.length() - 1
+                && (tokens.getId(position + 1) == NOT
+                || (tokens.getId(position + 1) == NO
+                && position < tokens.length() - 2
+                && tokens.getId(position + 2) != ONE)
+                || (tokens.getId(position + 1) == NO
+                && position == tokens.length() - 2)
+                || tokens.getId(position + 1) == NEVER);
     }
 
     /**
      * Checks if the word after next is "no" or "not".
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      * @return true if the word after next is "no" or
      *         "not", false otherwise
      */
     private static boolean isWordAfterNextNegation(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        return position < words.length - 2
-                && (clean(words[position + 2]).equals("not")
-                || clean(words[position + 2]).equals("no")
-                || clean(words[position + 1]).equals("never"));
+        return position < tokens.length() - 2
+                && (tokens.getId(position + 2) == NOT
+                || tokens.getId(position + 2) == NO
+                || tokens.getId(position + 1) == NEVER);
     }
 
     /**
@@ -1139,7 +1518,7 @@ public final class InversionService {
      * only way to differentiate is to check if the verb
      * is on the end of the sentence. This method checks
      * if 'do/did' is on the end.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param word - word to be checked
      * @param tense - complete form of the verb which is
      *              being considered
@@ -1148,7 +1527,7 @@ public final class InversionService {
      *           otherwise
      */
     private static String doAndDidSpecialCase(
-            final String[] words,
+            final TokenTable tokens,
             final String word,
             final Tense tense) {
 
@@ -1157,11 +1536,11 @@ public final class InversionService {
             return null;
 
         } else if (word.equals("do")
-                && tense.getPosition1() == words.length - 1) {
+                && tense.getPosition1() == tokens.length() - 1) {
             return "don't";
 
         } else if (word.equals("did")
-                && tense.getPosition1() == words.length - 1) {
+                && tense.getPosition1() == tokens.length() - 1) {
             return "didn't";
 
         } else {
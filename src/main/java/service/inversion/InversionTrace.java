@@ -0,0 +1,362 @@
+package service.inversion;
+
+import service.analysis.TokenTable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Trace of the inversion rules. It's turned on by starting
+ * the JVM with -Dinversion.trace=true. Then every traced rule
+ * counts its invocations, the times it fired and the time it
+ * took, and the rules that fired on the tokens of the current
+ * tweet are recorded for the thread inverting it. The time of
+ * a rule includes the time of the rules it calls. When the
+ * trace is off, the flag is a constant, so the checks are
+ * removed by the JIT and the rules run as if not traced.
+ */
+public final class InversionTrace {
+
+    /**
+     * Rules whose invocations are traced.
+     */
+    public enum Rule {
+
+        /**
+         * Check for the start of a new sub-sentence.
+         */
+        NEW_SUB_SENTENCE,
+
+        /**
+         * Separator that surely starts a new sub-sentence.
+         */
+        SURELY_NEW_SUB_SENTENCE,
+
+        /**
+         * Check for a sub-sentence separator.
+         */
+        SEPARATOR,
+
+        /**
+         * All the skip rules together.
+         */
+        SKIP,
+
+        /**
+         * Past participle after a gerund.
+         */
+        SKIP_PAST_PARTICIPLE_AFTER_GERUND,
+
+        /**
+         * Article before the verb.
+         */
+        SKIP_ARTICLE_BEFORE,
+
+        /**
+         * Word that only looks like a verb.
+         */
+        SKIP_FALSE_POSITIVE,
+
+        /**
+         * Conjunction before the verb.
+         */
+        SKIP_CONJUNCTION_BEFORE,
+
+        /**
+         * Adjective before the verb.
+         */
+        SKIP_ADJECTIVE_BEFORE,
+
+        /**
+         * Verb on the first place that is not one.
+         */
+        SKIP_FIRST_PLACE_ERROR,
+
+        /**
+         * Preposition after the verb.
+         */
+        SKIP_PREPOSITION_AFTER,
+
+        /**
+         * Verb within a skip phrase.
+         */
+        SKIP_PHRASE,
+
+        /**
+         * Pronoun before the verb.
+         */
+        SKIP_PRONOUN_BEFORE,
+
+        /**
+         * Preposition before the verb.
+         */
+        SKIP_PREPOSITION_BEFORE,
+
+        /**
+         * Past participle followed by "by".
+         */
+        SKIP_PAST_PARTICIPLE_WITH_BY,
+
+        /**
+         * Gerund before the verb.
+         */
+        SKIP_GERUND_BEFORE,
+
+        /**
+         * Verb that is a part of a name.
+         */
+        SKIP_POSSIBLE_NAME,
+
+        /**
+         * Possession between the verbs.
+         */
+        POSSESSION_BETWEEN,
+
+        /**
+         * Inversion of a complete verb form.
+         */
+        INVERT,
+
+        /**
+         * Question that is not inverted.
+         */
+        SKIP_QUESTION,
+
+        /**
+         * Question inverted by pushing the negation.
+         */
+        PUSH_QUESTION,
+
+        /**
+         * Inversion of the indefinite pronouns and of
+         * "start" and "stop".
+         */
+        GENERAL_CASE,
+
+        /**
+         * Negation of the verb itself.
+         */
+        PERFORM_INVERSION,
+
+        /**
+         * Fix of "not ... but".
+         */
+        NON_BUT_CASE,
+
+        /**
+         * Fix of "some" and "any".
+         */
+        SOME_ANY_CASE
+    }
+
+    /**
+     * True if the rules are traced.
+     */
+    private static final boolean ENABLED
+            = Boolean.getBoolean("inversion.trace");
+
+    /**
+     * All the traced rules.
+     */
+    private static final Rule[] RULES = Rule.values();
+
+    /**
+     * Number of invocations of every rule.
+     */
+    private static final LongAdder[] CALLS = createCounters();
+
+    /**
+     * Number of times every rule fired.
+     */
+    private static final LongAdder[] FIRED = createCounters();
+
+    /**
+     * Time spent in every rule, in nanoseconds.
+     */
+    private static final LongAdder[] NANOS = createCounters();
+
+    /**
+     * Rules fired on the tokens of the tweet being inverted
+     * by the current thread.
+     */
+    private static final ThreadLocal<List<String>> EVENTS
+            = ThreadLocal.withInitial(ArrayList::new);
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double NANOS_PER_MILLI = 1e6;
+
+    /**
+     * Empty private constructor for preventing
+     * public or default constructor.
+     */
+    private InversionTrace() {
+    }
+
+    /**
+     * Checks if the rules are traced.
+     * @return true if the trace is on, false otherwise
+     */
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Starts the invocation of a rule.
+     * @return the start time, 0 if the trace is off
+     */
+    static long start() {
+        return ENABLED ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * Ends the invocation of a rule and counts it.
+     * @param rule - the rule
+     * @param start - start time given by start()
+     * @param fired - result of the rule
+     * @param tokens - words of the sentence
+     * @param position - position of the word the rule
+     *                 was checked on
+     * @return the result of the rule
+     */
+    static boolean end(final Rule rule,
+                       final long start,
+                       final boolean fired,
+                       final TokenTable tokens,
+                       final int position) {
+        if (ENABLED) {
+            record(rule, start, fired, tokens, position);
+        }
+        return fired;
+    }
+
+    /**
+     * Starts the trace of a new tweet on the current thread.
+     */
+    static void beginTweet() {
+        if (ENABLED) {
+            EVENTS.get().clear();
+        }
+    }
+
+    /**
+     * Gives back the rules fired on the tokens of the last
+     * tweet inverted by the current thread, in the order
+     * they fired.
+     * @return the events as "position word: RULE"
+     */
+    public static List<String> getEvents() {
+        return Collections.unmodifiableList(
+                new ArrayList<>(EVENTS.get()));
+    }
+
+    /**
+     * Sets all the counters to zero.
+     */
+    public static void reset() {
+        for (int rule = 0; rule < RULES.length; rule++) {
+            CALLS[rule].reset();
+            FIRED[rule].reset();
+            NANOS[rule].reset();
+        }
+    }
+
+    /**
+     * Gives back the number of invocations of the rule.
+     * @param rule - the rule
+     * @return the number of invocations
+     */
+    public static long getCalls(final Rule rule) {
+        return CALLS[rule.ordinal()].sum();
+    }
+
+    /**
+     * Gives back the number of times the rule fired.
+     * @param rule - the rule
+     * @return the number of times the rule fired
+     */
+    public static long getFired(final Rule rule) {
+        return FIRED[rule.ordinal()].sum();
+    }
+
+    /**
+     * Gives back the time spent in the rule.
+     * @param rule - the rule
+     * @return the time in nanoseconds
+     */
+    public static long getNanos(final Rule rule) {
+        return NANOS[rule.ordinal()].sum();
+    }
+
+    /**
+     * Gives back the counters of all the invoked rules as
+     * a table, the rules taking the most time first.
+     * @return the report
+     */
+    public static String report() {
+        Rule[] rules = RULES.clone();
+        Arrays.sort(rules, Comparator.comparingLong(
+                InversionTrace::getNanos).reversed());
+
+        StringBuilder report = new StringBuilder(String.format(
+                "%-34s%12s%12s%12s%10s%n",
+                "rule", "calls", "fired", "ms", "ns/call"));
+
+        for (Rule rule : rules) {
+            long calls = getCalls(rule);
+            if (calls == 0) {
+                continue;
+            }
+            report.append(String.format("%-34s%12d%12d%12.1f%10d%n",
+                    rule, calls, getFired(rule),
+                    getNanos(rule) / NANOS_PER_MILLI,
+                    getNanos(rule) / calls));
+        }
+
+        return report.toString();
+    }
+
+    /**
+     * Counts the invocation and records the rule if it fired.
+     * @param rule - the rule
+     * @param start - start time of the invocation
+     * @param fired - result of the rule
+     * @param tokens - words of the sentence
+     * @param position - position of the word the rule
+     *                 was checked on
+     */
+    private static void record(final Rule rule,
+                               final long start,
+                               final boolean fired,
+                               final TokenTable tokens,
+                               final int position) {
+        int index = rule.ordinal();
+        NANOS[index].add(System.nanoTime() - start);
+        CALLS[index].increment();
+
+        if (fired) {
+            FIRED[index].increment();
+            String word = position >= 0 && position < tokens.length()
+                    ? tokens.getWord(position) : "";
+            EVENTS.get().add(position + " " + word + ": " + rule);
+        }
+    }
+
+    /**
+     * Creates a counter for every rule.
+     * @return the counters
+     */
+    private static LongAdder[] createCounters() {
+        LongAdder[] counters = new LongAdder[Rule.values().length];
+        for (int rule = 0; rule < counters.length; rule++) {
+            counters[rule] = new LongAdder();
+        }
+        return counters;
+    }
+
+}
@@ -1,12 +1,20 @@
 package service.inversion;
 
-import static dm.dao.ConjunctionUtility.isConjunction;
-import static dm.dao.ConjunctionUtility.isSentenceConjunction;
+import service.analysis.TokenTable;
+
 import static dm.dao.InterrogativeUtility.isQuestionWord;
 import static dm.dao.PhraseUtility.isSubSentencePhrase;
-import static dm.dao.Utility.clean;
-import static dm.dao.VerbUtility.isVerb;
 import static dm.dao.VerbUtility.sameTense;
+import static dm.data.Vocabulary.BUT;
+import static service.analysis.TokenTable.VERB;
+import static service.analysis.TokenTable.CONJUNCTION;
+import static service.analysis.TokenTable.SENTENCE_CONJUNCTION;
+import static service.analysis.TokenTable.QUESTION_WORD;
+import static service.inversion.InversionTrace.start;
+import static service.inversion.InversionTrace.end;
+import static service.inversion.InversionTrace.Rule.NEW_SUB_SENTENCE;
+import static service.inversion.InversionTrace.Rule.SEPARATOR;
+import static service.inversion.InversionTrace.Rule.SURELY_NEW_SUB_SENTENCE;
 import static service.inversion.SkipHelper.shouldSkip;
 
 /**
@@ -30,7 +38,7 @@ public class NewSubSentenceHelper {
      * have two sub-sentences which are separated with "and".
      * This is being done by checking if there is a verb
      * after the sub-sentence separator.
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which is
      *              being considered
      * @param start - position of the separator. We should
@@ -39,7 +47,27 @@ public class NewSubSentenceHelper {
      *         subsentence, false otherwise
      */
     public static boolean startNewSentence(
-            final String[] words,
+            final TokenTable tokens,
+            final Tense tense,
+            final int start) {
+
+        long time = start();
+        return end(NEW_SUB_SENTENCE, time,
+                isNewSentence(tokens, tense, start), tokens, start);
+    }
+
+    /**
+     * Decides if the separator really starts a new
+     * sub-sentence, as described in startNewSentence().
+     * @param tokens - words in the sentence
+     * @param tense - complete form of the verb which is
+     *              being considered
+     * @param start - position of the separator
+     * @return true if this is really the beginning of a new
+     *         subsentence, false otherwise
+     */
+    private static boolean isNewSentence(
+            final TokenTable tokens,
             final Tense tense,
             final int start) {
 
@@ -47,25 +75,27 @@ public class NewSubSentenceHelper {
             return false;
         }
 
-        if (isSubSentenceCase(words, start)) {
-            String word = clean(words[start]);
-
-            if (surelyNewSentence(words, tense, word, start)) {
+        if (tokens.isSeparator(start)) {
+            long time = start();
+            if (end(SURELY_NEW_SUB_SENTENCE, time,
+                    surelyNewSentence(tokens, tense, start),
+                    tokens, start)) {
                 return true;
             }
 
-            Tense tenseCopy = tense.copy();
-            for (int pos = start + 1; pos < words.length; pos++) {
+            for (int pos = nextStop(tokens, start + 1);
+                 pos < tokens.length(); pos = nextStop(tokens, pos + 1)) {
 
-                word = clean(words[pos]);
-                if (isVerb(word) && !shouldSkip(words, tense, pos)) {
+                String word = tokens.getClean(pos);
+                if (tokens.is(pos, VERB) && !shouldSkip(tokens, tense, pos)) {
 
-                    if (tenseCopy.levelAddSuccess(word, pos)) {
+                    if (tense.canAdd(word)) {
                         return false;
 
                     } else {
-                        if (isSentenceConjunction(words[pos - 1])
-                                && sameTense(words[tense.getLastLvlPos()],
+                        if (tokens.is(pos - 1, SENTENCE_CONJUNCTION)
+                                && sameTense(
+                                tokens.getWord(tense.getLastLvlPos()),
                                 word)) {
                             return false;
                         }
@@ -73,7 +103,7 @@ public class NewSubSentenceHelper {
                     }
                 }
 
-                if (isSubSentenceCase(words, pos)) {
+                if (tokens.isSeparator(pos)) {
                     return false;
                 }
             }
@@ -81,32 +111,45 @@ public class NewSubSentenceHelper {
         return false;
     }
 
+    /**
+     * Gives back the first position at or after the given one
+     * where startNewSentence has to look at the word, which is
+     * the next verb or sub-sentence separator.
+     * @param tokens - words in the sentence
+     * @param position - position where the search starts
+     * @return the next verb or separator, or the number of
+     *         words if there is none
+     */
+    private static int nextStop(final TokenTable tokens,
+                                final int position) {
+        return Math.min(tokens.nextVerb(position),
+                tokens.nextSeparator(position));
+    }
+
     /**
      * If one og these conditions are fulfilled,
      * it's definitely a new sub-sentence.
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which is
      *              being considered
-     * @param word - current word being processed
      * @param start - position of the separator. We should
      *              search for the verbs after this position
      * @return true if it's definitely a new sub-sentence,
      *         false otherwise
      */
     private static boolean surelyNewSentence(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
-            final String word,
             final int start) {
 
-        return isQuestionWord(word)
-                || isSubSentencePhrase(words, start)
-                || word.equals("but")
+        return tokens.is(start, QUESTION_WORD)
+                || isSubSentencePhrase(tokens.getIds(), start)
+                || tokens.getId(start) == BUT
                 || tense.getLevel1() == null
-                || hasComma(words[start])
-                || (isSentenceConjunction(word)
-                && start + 1 < words.length
-                && isVerb(words[start + 1]));
+                || hasComma(tokens.getWord(start))
+                || (tokens.is(start, SENTENCE_CONJUNCTION)
+                && start + 1 < tokens.length()
+                && tokens.is(start + 1, VERB));
     }
 
     /**
@@ -117,22 +160,24 @@ public class NewSubSentenceHelper {
      * middle od the sentence that contain a whole new
      * sentence. This method checks if the word is one
      * of the possible sentence separators.
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param position - position of the word which is
      *                 currently being processed
      * @return true if the currently processed word is
      *         a sub-sentence case, false otherwise
      */
-    private static boolean isSubSentenceCase(
-            final String[] words,
+    public static boolean isSubSentenceCase(
+            final TokenTable tokens,
             final int position) {
 
-        return (hasComma(words[position]))
-                || isQuestionWord(words[position])
-                || isQuote(words[position])
-                || words[position].equals("&")
-                || isConjunction(words[position])
-                || isSubSentencePhrase(words, position);
+        long start = start();
+        return end(SEPARATOR, start, (hasComma(tokens.getWord(position)))
+                || tokens.is(position, QUESTION_WORD)
+                || isQuote(tokens.getWord(position))
+                || tokens.getWord(position).equals("&")
+                || tokens.is(position, CONJUNCTION)
+                || isSubSentencePhrase(tokens.getIds(), position),
+                tokens, position);
     }
 
     /**
@@ -154,8 +199,9 @@ public class NewSubSentenceHelper {
      *         false otherwise
      */
     private static boolean isQuoteStart(final String word) {
-        return word.charAt(0) == '\"'
-                || word.charAt(0) == '\'';
+        return !word.isEmpty()
+                && (word.charAt(0) == '\"'
+                || word.charAt(0) == '\'');
     }
 
     /**
@@ -166,8 +212,9 @@ public class NewSubSentenceHelper {
      *         false otherwise
      */
     private static boolean isQuoteEnd(final String word) {
-        return word.charAt(word.length() - 1) == '\"'
-                || word.charAt(word.length() - 1) == '\'';
+        return !word.isEmpty()
+                && (word.charAt(word.length() - 1) == '\"'
+                || word.charAt(word.length() - 1) == '\'');
     }
 
     /**
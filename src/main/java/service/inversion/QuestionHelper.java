@@ -1,8 +1,10 @@
 package service.inversion;
 
-import static dm.dao.InterrogativeUtility.isPushQuestionWord;
-import static dm.dao.InterrogativeUtility.isQuestionWord;
-import static dm.dao.InterrogativeUtility.isSkipQuestionWord;
+import service.analysis.TokenTable;
+
+import static service.analysis.TokenTable.QUESTION_WORD;
+import static service.analysis.TokenTable.SKIP_QUESTION_WORD;
+import static service.analysis.TokenTable.PUSH_QUESTION_WORD;
 
 /**
  * Helper class for managing decisions if
@@ -16,22 +18,21 @@ public class QuestionHelper {
      * it be?" doesn't make sense at all). This method
      * checks if the sentence in the post has this form.
      *
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param tense - complete form of the verb which
      *              is being checked
      * @return true if the sentence is a question in
      *         future tense, false otherwise
      */
     private static boolean isFutureQuestion(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
         return tense.getLevel1() != null
                 && tense.getLevel1().equals("will")
                 && (tense.isQuestion()
                 || (tense.getPosition1() > 0
-                && isQuestionWord(
-                        words[tense.getPosition1() - 1])));
+                && tokens.is(tense.getPosition1() - 1, QUESTION_WORD)));
     }
 
     /**
@@ -41,20 +42,19 @@ public class QuestionHelper {
      * the ones that starts with "when", "where" or
      * similar interrogatives. This method assesses if
      * the question should be skipped from negating.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param tense - complete form of the verb which
      *              is being checked
      * @return true if the question should be skipped,
      *         false otherwise
      */
     public static boolean isSkipQuestion(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
-        return isFutureQuestion(words, tense)
+        return isFutureQuestion(tokens, tense)
                 || (tense.getSubSentenceStart() > -1
-                && isSkipQuestionWord(
-                        words[tense.getSubSentenceStart()]));
+                && tokens.is(tense.getSubSentenceStart(), SKIP_QUESTION_WORD));
     }
 
     /**
@@ -68,19 +68,18 @@ public class QuestionHelper {
      * only one verb form (i.e. past simple), the negation
      * is not performed. These questions are the one that
      * start with "who", "which", "whom", "what" and "whose".
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param tense - complete form of the verb which is
      *              being checked
      * @return true if the sentence is a push question,
      *         false otherwise
      */
     public static boolean isPushQuestion(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense) {
 
         return tense.getSubSentenceStart() > -1
-                && isPushQuestionWord(
-                        words[tense.getSubSentenceStart()]);
+                && tokens.is(tense.getSubSentenceStart(), PUSH_QUESTION_WORD);
     }
 
 }
@@ -1,31 +1,67 @@
 package service.inversion;
 
-import static dm.dao.AdjectiveUtility.isAdjective;
-import static dm.dao.ConjunctionUtility.isConjunction;
-import static dm.dao.NounUtility.isArticle;
+import org.apache.log4j.LogManager;
+import org.apache.log4j.Logger;
+import service.analysis.TokenTable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static dm.dao.NounUtility.isName;
-import static dm.dao.NounUtility.isNoun;
-import static dm.dao.NounUtility.isPlural;
-import static dm.dao.NounUtility.isSingular;
 import static dm.dao.PhraseUtility.isNotSkipPhrase;
 import static dm.dao.PhraseUtility.isPhraseToSkip;
-import static dm.dao.PrepositionUtility.isPreposition;
-import static dm.dao.PronounUtility.isSingularPronoun;
-import static dm.dao.PronounUtility.isPluralPronoun;
-import static dm.dao.PronounUtility.isBasicPronoun;
-import static dm.dao.PronounUtility.isOtherPronoun;
-import static dm.dao.PronounUtility.isPossessivePronoun;
 import static dm.dao.Utility.clean;
-import static dm.dao.VerbUtility.isPastParticiple;
-import static dm.dao.VerbUtility.isGerund;
-import static dm.dao.VerbUtility.isThirdPerson;
-import static dm.dao.VerbUtility.isInfinitive;
-import static dm.dao.VerbUtility.isPerfect;
-import static dm.dao.VerbUtility.isModal;
-import static dm.dao.VerbUtility.isVerb;
-import static dm.dao.VerbUtility.isFormOfDo;
-import static dm.dao.VerbUtility.isFormOfBe;
-import static dm.dao.VerbUtility.isFormOfHave;
+import static dm.data.Vocabulary.BY;
+import static dm.data.Vocabulary.OF;
+import static service.analysis.TokenTable.VERB;
+import static service.analysis.TokenTable.MODAL;
+import static service.analysis.TokenTable.FORM_OF_DO;
+import static service.analysis.TokenTable.FORM_OF_BE;
+import static service.analysis.TokenTable.FORM_OF_HAVE;
+import static service.analysis.TokenTable.INFINITIVE;
+import static service.analysis.TokenTable.PERFECT;
+import static service.analysis.TokenTable.PAST_PARTICIPLE;
+import static service.analysis.TokenTable.THIRD_PERSON;
+import static service.analysis.TokenTable.GERUND;
+import static service.analysis.TokenTable.NAME;
+import static service.analysis.TokenTable.NOUN;
+import static service.analysis.TokenTable.SINGULAR;
+import static service.analysis.TokenTable.PLURAL;
+import static service.analysis.TokenTable.ARTICLE;
+import static service.analysis.TokenTable.POSSESSION;
+import static service.analysis.TokenTable.SINGULAR_PRONOUN;
+import static service.analysis.TokenTable.PLURAL_PRONOUN;
+import static service.analysis.TokenTable.BASIC_PRONOUN;
+import static service.analysis.TokenTable.OTHER_PRONOUN;
+import static service.analysis.TokenTable.POSSESSIVE_PRONOUN;
+import static service.analysis.TokenTable.CONJUNCTION;
+import static service.analysis.TokenTable.PREPOSITION;
+import static service.analysis.TokenTable.ADJECTIVE;
+import static service.inversion.InversionTrace.start;
+import static service.inversion.InversionTrace.end;
+import static service.inversion.InversionTrace.Rule.SKIP;
+import static service.inversion.InversionTrace.Rule.SKIP_PAST_PARTICIPLE_AFTER_GERUND;
+import static service.inversion.InversionTrace.Rule.SKIP_ARTICLE_BEFORE;
+import static service.inversion.InversionTrace.Rule.SKIP_FALSE_POSITIVE;
+import static service.inversion.InversionTrace.Rule.SKIP_CONJUNCTION_BEFORE;
+import static service.inversion.InversionTrace.Rule.SKIP_ADJECTIVE_BEFORE;
+import static service.inversion.InversionTrace.Rule.SKIP_FIRST_PLACE_ERROR;
+import static service.inversion.InversionTrace.Rule.SKIP_PREPOSITION_AFTER;
+import static service.inversion.InversionTrace.Rule.SKIP_PHRASE;
+import static service.inversion.InversionTrace.Rule.SKIP_PRONOUN_BEFORE;
+import static service.inversion.InversionTrace.Rule.SKIP_PREPOSITION_BEFORE;
+import static service.inversion.InversionTrace.Rule.SKIP_PAST_PARTICIPLE_WITH_BY;
+import static service.inversion.InversionTrace.Rule.SKIP_GERUND_BEFORE;
+import static service.inversion.InversionTrace.Rule.SKIP_POSSIBLE_NAME;
 
 /**
  * Class with methods for the recognition of
@@ -33,11 +69,268 @@ import static dm.dao.VerbUtility.isFormOfHave;
  */
 public final class SkipHelper {
 
+    /**
+     * Used for logging events that happen in this class.
+     */
+    private static final Logger LOGGER;
+
+    static {
+        LOGGER = LogManager.getLogger(SkipHelper.class);
+    }
+
+    /**
+     * File with the trained order of the skip rules,
+     * one rule per line.
+     */
+    private static final String ORDER_FILE
+            = "src/main/resources/SkipRuleOrder.txt";
+
     /**
      * Three positions before.
      */
     private static final int THREE_POS_BEF = 3;
 
+    /**
+     * Percent of a whole.
+     */
+    private static final double PERCENT = 100.0;
+
+    /**
+     * Rules that decide if a verb should be skipped.
+     */
+    private enum SkipRule {
+
+        /**
+         * Past participle after a gerund.
+         */
+        PAST_PARTICIPLE_AFTER_GERUND(SKIP_PAST_PARTICIPLE_AFTER_GERUND) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isPastParticipleAfterGerund(tokens, position);
+            }
+        },
+
+        /**
+         * Article before the verb.
+         */
+        ARTICLE_BEFORE(SKIP_ARTICLE_BEFORE) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isArticleBefore(tokens, tense, position);
+            }
+        },
+
+        /**
+         * Word that only looks like a verb.
+         */
+        FALSE_POSITIVE(SKIP_FALSE_POSITIVE) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isFalsePositive(tokens, tense, position);
+            }
+        },
+
+        /**
+         * Conjunction before the verb.
+         */
+        CONJUNCTION_BEFORE(SKIP_CONJUNCTION_BEFORE) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isConjunctionBefore(tokens, tense, position);
+            }
+        },
+
+        /**
+         * Adjective before the verb.
+         */
+        ADJECTIVE_BEFORE(SKIP_ADJECTIVE_BEFORE) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isAdjectiveBefore(tokens, tense, position);
+            }
+        },
+
+        /**
+         * Verb on the first place that is not one.
+         */
+        FIRST_PLACE_ERROR(SKIP_FIRST_PLACE_ERROR) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return firstPlaceError(tokens, position);
+            }
+        },
+
+        /**
+         * Preposition after the verb.
+         */
+        PREPOSITION_AFTER(SKIP_PREPOSITION_AFTER) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isPrepositionAfter(tokens, position);
+            }
+        },
+
+        /**
+         * Verb within a skip phrase.
+         */
+        PHRASE(SKIP_PHRASE) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isPhraseToSkip(tokens.getIds(), position);
+            }
+        },
+
+        /**
+         * Pronoun before the verb.
+         */
+        PRONOUN_BEFORE(SKIP_PRONOUN_BEFORE) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isPronounBefore(tokens, tense, position);
+            }
+        },
+
+        /**
+         * Preposition before the verb.
+         */
+        PREPOSITION_BEFORE(SKIP_PREPOSITION_BEFORE) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isPrepositionBefore(tokens, tense, position);
+            }
+        },
+
+        /**
+         * Past participle followed by "by".
+         */
+        PAST_PARTICIPLE_WITH_BY(SKIP_PAST_PARTICIPLE_WITH_BY) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isPastParticipleWithBy(tokens, position);
+            }
+        },
+
+        /**
+         * Gerund before the verb.
+         */
+        GERUND_BEFORE(SKIP_GERUND_BEFORE) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isGerundBefore(tokens, position);
+            }
+        },
+
+        /**
+         * Verb that is a part of a name.
+         */
+        POSSIBLE_NAME(SKIP_POSSIBLE_NAME) {
+            @Override
+            boolean test(final TokenTable tokens, final Tense tense,
+                         final int position) {
+                return isPossibleName(tokens, position);
+            }
+        };
+
+        /**
+         * Rule under which the trace counts this rule.
+         */
+        private final InversionTrace.Rule traced;
+
+        /**
+         * Creates the rule.
+         * @param traced - rule under which it's traced
+         */
+        SkipRule(final InversionTrace.Rule traced) {
+            this.traced = traced;
+        }
+
+        /**
+         * Checks if the rule fires on the word.
+         * @param tokens - words of the sentence
+         * @param tense - complete form of the verb
+         *              which is being checked
+         * @param position - position of the word which
+         *                 is currently being processed
+         * @return true if the word should be skipped
+         */
+        abstract boolean test(TokenTable tokens, Tense tense, int position);
+    }
+
+    /**
+     * Cost and selectivity of every skip rule, counted by
+     * one training run.
+     */
+    private static final class SkipProfile {
+
+        /**
+         * Number of the checks of every rule.
+         */
+        private final long[] calls = new long[SKIP_RULES.length];
+
+        /**
+         * Number of the checks of every rule that fired.
+         */
+        private final long[] fired = new long[SKIP_RULES.length];
+
+        /**
+         * Time of the checks of every rule, in nanoseconds.
+         */
+        private final long[] nanos = new long[SKIP_RULES.length];
+
+        /**
+         * Gives back the time spent per fire of the rule.
+         * @param rule - the rule
+         * @return the time, infinite if it never fired
+         */
+        private double costPerFire(final SkipRule rule) {
+            long times = fired[rule.ordinal()];
+            return times == 0 ? Double.POSITIVE_INFINITY
+                    : (double) nanos[rule.ordinal()] / times;
+        }
+    }
+
+    /**
+     * All the skip rules, in their original order.
+     */
+    private static final SkipRule[] SKIP_RULES = SkipRule.values();
+
+    /**
+     * Order in which the skip rules are checked. It's the
+     * trained order from the order file, if there is one.
+     */
+    private static volatile SkipRule[] order
+            = readOrder(Paths.get(ORDER_FILE));
+
+    /**
+     * Profile of the training run on the current thread,
+     * null on all the other threads.
+     */
+    private static final ThreadLocal<SkipProfile> PROFILE
+            = new ThreadLocal<>();
+
+    /**
+     * Number of the training runs in progress. While there
+     * are none, no thread has to look for its profile.
+     */
+    private static final AtomicInteger TRAINING_RUNS = new AtomicInteger();
+
+    /**
+     * Profile of the last finished training run.
+     */
+    private static volatile SkipProfile lastProfile = new SkipProfile();
+
     /**
      * Empty private constructor for preventing
      * public or default constructor.
@@ -49,7 +342,7 @@ public final class SkipHelper {
      * This method collects all the rules that
      * say that the word which has been recognized
      * as a verb should be skipped and not negated.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which
      *                 is currently being processed
      * @param tense - complete form of the verb
@@ -57,42 +350,250 @@ public final class SkipHelper {
      * @return true if the word should be skipped
      *         and not negated, false otherwise
      */
-    public static boolean shouldSkip(final String[] words,
+    public static boolean shouldSkip(final TokenTable tokens,
+                                      final Tense tense,
+                                      final int position) {
+
+        long start = start();
+        return end(SKIP, start, anySkipRule(tokens, tense, position),
+                tokens, position);
+    }
+
+    /**
+     * Checks the skip rules one by one in the current
+     * order, until one of them fires. The rules only read
+     * the sentence and the tense, so the order doesn't
+     * change the decision as long as no rule throws. A
+     * rule that throws fails the sentence in the orders
+     * that reach it, but not in the orders where an
+     * earlier rule fires first. On the thread of a
+     * training run, all of them are checked and profiled.
+     * @param tokens - words of the sentence
+     * @param tense - complete form of the verb
+     *              which is being checked
+     * @param position - position of the word which
+     *                 is currently being processed
+     * @return true if the word should be skipped
+     *         and not negated, false otherwise
+     */
+    private static boolean anySkipRule(final TokenTable tokens,
+                                       final Tense tense,
+                                       final int position) {
+        if (TRAINING_RUNS.get() > 0) {
+            SkipProfile profile = PROFILE.get();
+            if (profile != null) {
+                return profileAll(profile, tokens, tense, position);
+            }
+        }
+
+        for (SkipRule rule : order) {
+            long start = start();
+            if (end(rule.traced, start, rule.test(tokens, tense, position),
+                    tokens, position)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks all the skip rules and counts the time every
+     * rule took and the times it fired.
+     * @param profile - profile of the training run
+     * @param tokens - words of the sentence
+     * @param tense - complete form of the verb
+     *              which is being checked
+     * @param position - position of the word which
+     *                 is currently being processed
+     * @return true if any of the rules fired
+     */
+    private static boolean profileAll(final SkipProfile profile,
+                                      final TokenTable tokens,
                                       final Tense tense,
                                       final int position) {
+        boolean skip = false;
+        for (SkipRule rule : SKIP_RULES) {
+            long start = System.nanoTime();
+            boolean fired = rule.test(tokens, tense, position);
+            profile.nanos[rule.ordinal()] += System.nanoTime() - start;
+            profile.calls[rule.ordinal()]++;
+            if (fired) {
+                profile.fired[rule.ordinal()]++;
+                skip = true;
+            }
+        }
+        return skip;
+    }
+
+    /**
+     * Starts a training run on the current thread. Until
+     * the order is optimized, every verb candidate checked
+     * on this thread goes through all the rules, which count
+     * their time and the times they fired. The inversions on
+     * the other threads keep checking the rules in the
+     * current order and are not profiled.
+     */
+    static void startProfile() {
+        if (PROFILE.get() == null) {
+            PROFILE.set(new SkipProfile());
+            TRAINING_RUNS.incrementAndGet();
+        }
+    }
+
+    /**
+     * Ends the training run on the current thread and orders
+     * the rules by the time they take per skipped word, which
+     * is the order that takes the least time to find the first
+     * rule that fires. Rules that never fired go last, the
+     * cheaper ones first. Without a training run, the rules
+     * keep their order.
+     */
+    static void optimizeOrder() {
+        SkipProfile profile = PROFILE.get();
+        if (profile == null) {
+            return;
+        }
+        PROFILE.remove();
+        TRAINING_RUNS.decrementAndGet();
+
+        SkipRule[] optimized = SKIP_RULES.clone();
+        Arrays.sort(optimized, (first, second) -> {
+            int compared = Double.compare(profile.costPerFire(first),
+                    profile.costPerFire(second));
+            return compared != 0 ? compared
+                    : Long.compare(profile.nanos[first.ordinal()],
+                    profile.nanos[second.ordinal()]);
+        });
+        lastProfile = profile;
+        order = optimized;
+    }
+
+    /**
+     * Puts the rules back into their original order.
+     */
+    public static void resetOrder() {
+        order = SKIP_RULES;
+    }
+
+    /**
+     * Writes the current order of the rules into the order
+     * file, which is read when the class is loaded, so every
+     * later start of the application checks the rules in the
+     * trained order.
+     * @throws IOException - if the file cannot be written
+     */
+    public static void saveOrder() throws IOException {
+        Files.write(Paths.get(ORDER_FILE), getOrder(),
+                StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Gives back the names of the rules in the order they
+     * are checked.
+     * @return the names of the rules
+     */
+    static List<String> getOrder() {
+        List<String> names = new ArrayList<>();
+        for (SkipRule rule : order) {
+            names.add(rule.name());
+        }
+        return names;
+    }
+
+    /**
+     * Sets the order of the rules by their names.
+     * @param names - names of the rules, in the order
+     *              they should be checked
+     */
+    static void setOrder(final List<String> names) {
+        order = toOrder(names);
+    }
+
+    /**
+     * Reads the order of the rules. Without the file, the
+     * rules keep their original order.
+     * @param file - the order file
+     * @return the rules in the order from the file
+     */
+    private static SkipRule[] readOrder(final Path file) {
+        if (!Files.exists(file)) {
+            return SKIP_RULES;
+        }
+
+        try {
+            return toOrder(Files.readAllLines(file, StandardCharsets.UTF_8));
+        } catch (IOException exception) {
+            LOGGER.error("Skip rule order cannot be read.");
+            return SKIP_RULES;
+        }
+    }
+
+    /**
+     * Gives back the rules in the order of their names.
+     * Unknown names and blank lines are left out, and the
+     * rules missing from the names are checked last, in
+     * their original order, so all the rules are always
+     * checked.
+     * @param names - names of the rules
+     * @return the rules in the order of the names
+     */
+    private static SkipRule[] toOrder(final List<String> names) {
+        Set<SkipRule> rules = new LinkedHashSet<>();
+        for (String line : names) {
+            String name = line.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            try {
+                rules.add(SkipRule.valueOf(name));
+            } catch (IllegalArgumentException exception) {
+                LOGGER.warn("Unknown skip rule " + name + ".");
+            }
+        }
+
+        rules.addAll(Arrays.asList(SKIP_RULES));
+        return rules.toArray(new SkipRule[0]);
+    }
+
+    /**
+     * Gives back the profile of the last training run as
+     * a table, in the order the rules are checked.
+     * @return the report
+     */
+    public static String report() {
+        SkipProfile profile = lastProfile;
+        StringBuilder report = new StringBuilder(String.format(
+                "%-28s%12s%10s%10s%n", "rule", "calls", "fired %",
+                "ns/call"));
+
+        for (SkipRule rule : order) {
+            long calls = profile.calls[rule.ordinal()];
+            report.append(String.format("%-28s%12d%10.2f%10d%n",
+                    rule, calls, calls == 0 ? 0.0
+                            : PERCENT * profile.fired[rule.ordinal()] / calls,
+                    calls == 0 ? 0L : profile.nanos[rule.ordinal()] / calls));
+        }
 
-        return isPastParticipleAfterGerund(words, position)
-                || isArticleBefore(words, tense, position)
-                || isFalsePositive(words, tense, position)
-                || isConjunctionBefore(words, tense, position)
-                || isAdjectiveBefore(words, tense, position)
-                || firstPlaceError(words, position)
-                || isPrepositionAfter(words, position)
-                || isPhraseToSkip(words, position)
-                || isPronounBefore(words, tense, position)
-                || isPrepositionBefore(words, tense, position)
-                || isPastParticipleWithBy(words, position)
-                || isGerundBefore(words, position)
-                || isPossibleName(words, position);
+        return report.toString();
     }
 
     /**
      * Checks if the word is actually a name.
-     *  @param words - words of the sentence
+     *  @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      * @return true if the word is surely a name,
      *         false otherwise
      */
     private static boolean isPossibleName(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        return isName(words[position])
+        return tokens.is(position, NAME)
                 && ((position > 0
-                && isName(words[position - 1]))
-                || position + 1 < words.length
-                && isName(words[position + 1]));
+                && tokens.is(position - 1, NAME))
+                || position + 1 < tokens.length()
+                && tokens.is(position + 1, NAME));
     }
 
     /**
@@ -100,18 +601,18 @@ public final class SkipHelper {
      * gerund is on a previous position (i.e. int the
      * phrases like "taking hold", the word "hold" should
      * not be negated).
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      * @return true if a gerund is on the previous position,
      *         false otherwise
      */
     private static boolean isGerundBefore(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
         return position > 0
-                && isGerund(words[position - 1]);
+                && tokens.is(position - 1, GERUND);
     }
 
     /**
@@ -119,21 +620,21 @@ public final class SkipHelper {
      * we have a past participle which is followed by the
      * word "by", it is very likely that it's used as an
      * adjective. This method checks this scenario.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      * @return true if the verb is followed by the word
      *         "by", false otherwise
      */
     private static boolean isPastParticipleWithBy(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        return isPastParticiple(words[position])
-                && (((position + 1 < words.length)
-                && clean(words[position + 1]).equals("by"))
-                || ((position + 2 < words.length)
-                && clean(words[position + 2]).equals("by")));
+        return tokens.is(position, PAST_PARTICIPLE)
+                && (((position + 1 < tokens.length())
+                && tokens.getId(position + 1) == BY)
+                || ((position + 2 < tokens.length())
+                && tokens.getId(position + 2) == BY));
     }
 
     /**
@@ -142,19 +643,19 @@ public final class SkipHelper {
      * it since the sentence very often loses its meaning.
      * This method if the verb on the specified position
      * is a past participle after gerund.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      * @return true if the past participle is after
      *         gerund, false otherwise
      */
     private static boolean isPastParticipleAfterGerund(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
         return position > 0
-                && isGerund(words[position - 1])
-                && isPastParticiple(words[position]);
+                && tokens.is(position - 1, GERUND)
+                && tokens.is(position, PAST_PARTICIPLE);
     }
 
     /**
@@ -163,7 +664,7 @@ public final class SkipHelper {
      * as a verb is actually an adjective (i.e. in the
      * phrase 'the United Nations', we know because of
      * 'the' that 'United' is used as adjective).
-     * @param words - words in the sentence
+     * @param tokens - words in the sentence
      * @param tense - complete form of the verb which is
      *              being checked
      * @param position - position of the word which is
@@ -171,15 +672,15 @@ public final class SkipHelper {
      * @return - true if an article is before the current
      *           word, false otherwise
      */
-    private static boolean isArticleBefore(final String[] words,
+    private static boolean isArticleBefore(final TokenTable tokens,
                                            final Tense tense,
                                            final int position) {
 
         return position > tense.getSubSentenceStart()
-                && (isArticle(words[position - 1])
+                && (tokens.is(position - 1, ARTICLE)
                 || (position > 1
-                && isArticle(words[position - 2])
-                && isName(words[position - 1])));
+                && tokens.is(position - 2, ARTICLE)
+                && tokens.is(position - 1, NAME)));
     }
 
     /**
@@ -195,13 +696,13 @@ public final class SkipHelper {
      * @return true if there is a non-personal pronoun
      *         before the verb, false otherwise
      */
-    private static boolean isPronounBefore(final String[] words,
+    private static boolean isPronounBefore(final TokenTable tokens,
                                            final Tense tense,
                                            final int position) {
 
         return position > tense.getSubSentenceStart()
-                && (isOtherPronoun(words[position - 1])
-                || isPossessivePronoun(words[position - 1]));
+                && (tokens.is(position - 1, OTHER_PRONOUN)
+                || tokens.is(position - 1, POSSESSIVE_PRONOUN));
     }
 
     /**
@@ -214,7 +715,7 @@ public final class SkipHelper {
      * noun is in plural, the verb has to be in its
      * infinitive form. This method checks if that's the
      * case.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param tense - complete form of the verb which is
      *              being checked
      * @param position - position of the word which is
@@ -222,68 +723,68 @@ public final class SkipHelper {
      * @return true if the composition is a false positive,
      *         false otherwise
      */
-    private static boolean isFalsePositive(final String[] words,
+    private static boolean isFalsePositive(final TokenTable tokens,
                                            final Tense tense,
                                            final int position) {
 
-        return  tense.getPosition1() == null
+        return  tense.getLevel1() == null
                 && (position > tense.getSubSentenceStart()
 
-                && ((multiplicityError(words, position)
-                && !isNotSkipPhrase(words, position)
-                && !nounsConnectedWithAnd(words, position))
+                && ((multiplicityError(tokens, position)
+                && !isNotSkipPhrase(tokens.getWords(), position)
+                && !nounsConnectedWithAnd(tokens, position))
 
-                || isThatVerbCase(words, position)
+                || isThatVerbCase(tokens, position)
 
-                || isPossession(words[position - 1])));
+                || tokens.is(position - 1, POSSESSION)));
     }
 
     /**
      * Looks for the multiplicity error by checking if there is
      * a verb in third person form after a plural or in an
      * infinitive form after a singular.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is currently
      *                 being processed
      * @return true if there is an error, false otherwise
      */
     private static boolean multiplicityError(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        return (isInfinitive(words[position])
-                && !isPerfect(words[position])
-                && (isName(words[position - 1])
-                || isSingular(words[position - 1])
-                || isSingularPronoun(words[position - 1])))
-                || (isThirdPerson(words[position])
-                && (isPlural(words[position - 1])
-                || isPluralPronoun(words[position - 1])));
+        return (tokens.is(position, INFINITIVE)
+                && !tokens.is(position, PERFECT)
+                && (tokens.is(position - 1, NAME)
+                || tokens.is(position - 1, SINGULAR)
+                || tokens.is(position - 1, SINGULAR_PRONOUN)))
+                || (tokens.is(position, THIRD_PERSON)
+                && (tokens.is(position - 1, PLURAL)
+                || tokens.is(position - 1, PLURAL_PRONOUN)));
     }
 
     /**
      * Checks if there are two nouns or names just before
      * the position that are connected with "and" or "&".
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      * @return true if there are nouns connected, false
      *         otherwise
      */
     private static boolean nounsConnectedWithAnd(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
         return position > 2
-                && isInfinitive(words[position])
-                && (isName(words[position - 1])
-                || isNoun(words[position - 1])
-                || isBasicPronoun(words[position - 1]))
-                && (words[position - 2].equals("and")
-                || words[position - 2].equals("&"))
-                && (isName(words[position - THREE_POS_BEF])
-                || isNoun(words[position - THREE_POS_BEF])
-                || isBasicPronoun(words[position - THREE_POS_BEF]));
+                && tokens.is(position, INFINITIVE)
+                && (tokens.is(position - 1, NAME)
+                || tokens.is(position - 1, NOUN)
+                || tokens.is(position - 1, BASIC_PRONOUN))
+                && (tokens.getWord(position - 2).equals("and")
+                || tokens.getWord(position - 2).equals("&"))
+                && (tokens.is(position - THREE_POS_BEF, NAME)
+                || tokens.is(position - THREE_POS_BEF, NOUN)
+                || tokens.is(position - THREE_POS_BEF, BASIC_PRONOUN));
     }
 
     /**
@@ -293,18 +794,18 @@ public final class SkipHelper {
      * position after next (i.e. "part that is...", from
      * the "that is" construction, we know that the word
      * "part" is not a verb in this case).
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      * @return true if there's the word "that" on
      *         position + 1. followed by a verb
      */
-    private static boolean isThatVerbCase(final String[] words,
+    private static boolean isThatVerbCase(final TokenTable tokens,
                                           final int position) {
 
-        return position + 2 < words.length
-                && words[position + 1].equals("that")
-                && isVerb(words[position + 2]);
+        return position + 2 < tokens.length()
+                && tokens.getWord(position + 1).equals("that")
+                && tokens.is(position + 2, VERB);
     }
 
     /**
@@ -326,7 +827,7 @@ public final class SkipHelper {
      * for conjunctions before the verbs while considering
      * that there might be a conjunction between the two
      * verbs. In that case, it will return false.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param tense - complete form of the verb which is
      *              being considered
      * @param position - position of the word which is
@@ -336,7 +837,7 @@ public final class SkipHelper {
      *         positive, false otherwise
      */
     private static boolean isConjunctionBefore(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
             final int position) {
 
@@ -345,18 +846,14 @@ public final class SkipHelper {
             return false;
         }
 
-        if (isConjunction(words[position - 1])) {
+        if (tokens.is(position - 1, CONJUNCTION)) {
 
             if (tense.getLevel1() == null
                     && !tense.hasChanged()) {
                 return true;
             }
 
-            Tense tenseCopy = tense.copy();
-            tenseCopy.undo();
-            return !tenseCopy
-                    .levelAddSuccess(clean(words[position]),
-                            position);
+            return !tense.canReplaceLast(tokens.getClean(position));
         }
 
         return false;
@@ -366,7 +863,7 @@ public final class SkipHelper {
      * The method detects false positives by looking for
      * prepositions before the verbs which are surely
      * never used before them (i.e. "in", "from" etc.).
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param tense - complete form of the verb which is
      *              being considered
      * @param position - position of the word which is
@@ -376,7 +873,7 @@ public final class SkipHelper {
      *         positive, false otherwise
      */
     private static boolean isPrepositionBefore(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
             final int position) {
 
@@ -385,14 +882,14 @@ public final class SkipHelper {
             return false;
         }
 
-        return isPreposition(words[position - 1]);
+        return tokens.is(position - 1, PREPOSITION);
     }
 
     /**
      * The method detects false positives by looking
      * for prepositions after the verbs which are
      * surely never used after them (i.e. "of").
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which
      *                 is currently being processed
      * @return true if there is is a preposition after
@@ -400,15 +897,14 @@ public final class SkipHelper {
      *         false positive, false otherwise
      */
     private static boolean isPrepositionAfter(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        if (position > words.length - 2) {
+        if (position > tokens.length() - 2) {
             return false;
         }
 
-        String next = clean(words[position + 1]);
-        return next.equals("of");
+        return tokens.getId(position + 1) == OF;
     }
 
     /**
@@ -416,7 +912,7 @@ public final class SkipHelper {
      * position. Adjectives are used to describe nouns,
      * and not verbs, and that's how this method
      * recognizes the false positives.
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param tense - complete form of the verb which
      *              is being considered
      * @param position - position of the word which is
@@ -425,12 +921,12 @@ public final class SkipHelper {
      *         given position, false otherwise
      */
     private static boolean isAdjectiveBefore(
-            final String[] words,
+            final TokenTable tokens,
             final Tense tense,
             final int position) {
 
         return position > tense.getSubSentenceStart()
-                && isAdjective(words[position - 1]);
+                && tokens.is(position - 1, ADJECTIVE);
     }
 
     /**
@@ -441,7 +937,7 @@ public final class SkipHelper {
      * only the modal verbs and imperative infinitive can
      * be on the beginning of the sentence.
      *
-     * @param words - words of the sentence
+     * @param tokens - words of the sentence
      * @param position - position of the word which is
      *                 currently being processed
      * @return true if there is a verb form on the
@@ -449,16 +945,17 @@ public final class SkipHelper {
      *         or infinitive, false otherwise
      */
     private static boolean firstPlaceError(
-            final String[] words,
+            final TokenTable tokens,
             final int position) {
 
-        return position == 0 && ((!isModal(words[position])
-                && !isFormOfDo(words[position])
-                && !isInfinitive(words[position])
-                && !isFormOfBe(words[position])
-                && !isFormOfHave(words[position]))
-                || (isInfinitive(words[position])
-                && isVerb(words[1])));
+        return position == 0 && ((!tokens.is(position, MODAL)
+                && !tokens.is(position, FORM_OF_DO)
+                && !tokens.is(position, INFINITIVE)
+                && !tokens.is(position, FORM_OF_BE)
+                && !tokens.is(position, FORM_OF_HAVE))
+                || (tokens.is(position, INFINITIVE)
+                && position + 1 < tokens.length()
+                && tokens.is(position + 1, VERB)));
     }
 
 }
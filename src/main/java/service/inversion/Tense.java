@@ -21,6 +21,11 @@ import static dm.dao.VerbUtility.isStartOrStop;
  */
 public class Tense {
 
+    /**
+     * Position of a level without a verb.
+     */
+    private static final int NO_POSITION = -1;
+
     /**
      * First verb.
      */
@@ -44,22 +49,22 @@ public class Tense {
     /**
      * First verb's position.
      */
-    private Integer position1;
+    private int position1 = NO_POSITION;
 
     /**
      * Second verb's position.
      */
-    private Integer position2;
+    private int position2 = NO_POSITION;
 
     /**
      * Third verb's position.
      */
-    private Integer position3;
+    private int position3 = NO_POSITION;
 
     /**
      * Forth verb's position.
      */
-    private Integer position4;
+    private int position4 = NO_POSITION;
 
     /**
      * Variable that indicates if we
@@ -94,7 +99,12 @@ public class Tense {
      */
     private int subSentenceStart;
 
-    private static boolean alreadyChanged;
+    /**
+     * Variable is true if the sentence has
+     * already been changed. It's carried over
+     * to the Tense of the next sub-sentence.
+     */
+    private boolean alreadyChanged;
 
     /**
      * Empty constructor.
@@ -114,6 +124,20 @@ public class Tense {
                  final int sentenceStart,
                  final int length) {
 
+        start(firstWord, sentenceStart, length);
+    }
+
+    /**
+     * Checks the first word of the sub-sentence and
+     * decides if the sentence is a question or not.
+     * @param firstWord - first word of the sub-sentence
+     * @param sentenceStart - position of the first word
+     * @param length - number of words in sentence
+     */
+    private void start(final String firstWord,
+                       final int sentenceStart,
+                       final int length) {
+
         String copy = clean(firstWord);
         this.subSentenceStart = sentenceStart;
 
@@ -148,124 +172,142 @@ public class Tense {
     public boolean levelAddSuccess(final String verb,
                                    final int position) {
         if (level1 == null) {
-            return addLevel1(verb, position);
+            if (fitsLevel1(verb)) {
+                level1 = verb;
+                position1 = position;
+                return true;
+            }
 
         } else if (level2 == null) {
-            return addLevel2(verb, position);
+            if (fitsLevel2(verb)) {
+                level2 = verb;
+                position2 = position;
+                return true;
+            }
 
         } else if (level3 == null) {
-            return addLevel3(verb, position);
+            if (fitsLevel3(verb)) {
+                level3 = verb;
+                position3 = position;
+                return true;
+            }
 
         } else if (level4 == null) {
-            return addLevel4(verb, position);
+            if (fitsLevel4(verb)) {
+                level4 = verb;
+                position4 = position;
+                return true;
+            }
         }
         return false;
     }
 
     /**
-     * Tries to add a verb to the level 1 and
-     * reports back if it's successful or not.
-     * @param verb - verb to be added to the verb form
-     * @param position - position of the verb
-     * @return true if the verb is added successfully,
+     * Checks if the verb would be added to the verb form,
+     * without adding it.
+     * @param verb - verb to be checked
+     * @return true if levelAddSuccess would add the verb,
+     *         false otherwise
+     */
+    public boolean canAdd(final String verb) {
+        if (level1 == null) {
+            return fitsLevel1(verb);
+
+        } else if (level2 == null) {
+            return fitsLevel2(verb);
+
+        } else if (level3 == null) {
+            return fitsLevel3(verb);
+
+        } else if (level4 == null) {
+            return fitsLevel4(verb);
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the verb would be added to the verb form
+     * in place of its last level, without changing the
+     * verb form. It's the same as undo() followed by
+     * levelAddSuccess().
+     * @param verb - verb to be checked
+     * @return true if the verb would replace the last
+     *         level, false otherwise
+     */
+    public boolean canReplaceLast(final String verb) {
+        if (level4 != null) {
+            return fitsLevel4(verb);
+
+        } else if (level3 != null) {
+            return fitsLevel3(verb);
+
+        } else if (level2 != null) {
+            return fitsLevel2(verb);
+        }
+        return fitsLevel1(verb);
+    }
+
+    /**
+     * Checks if the verb can be on the level 1.
+     * @param verb - verb to be checked
+     * @return true if the verb fits the level,
      *         false otherwise
      */
-    private boolean addLevel1(final String verb,
-                              final int position) {
+    private boolean fitsLevel1(final String verb) {
 
-        if (isFormOfDo(verb)
+        return isFormOfDo(verb)
                 || isModal(verb)
                 || isInfinitive(verb)
                 || isPerfect(verb)
                 || isThirdPerson(verb)
                 || isFormOfBe(verb)
-                || isFormOfHave(verb)) {
-
-            level1 = verb;
-            position1 = position;
-            return true;
-
-        } else {
-            return false;
-        }
+                || isFormOfHave(verb);
     }
 
     /**
-     * Tries to add a verb to the level 2 and
-     * reports back if it's successful or not.
-     * @param verb - verb to be added to the verb form
-     * @param position - position of the verb
-     * @return true if the verb is added successfully,
+     * Checks if the verb can be on the level 2.
+     * @param verb - verb to be checked
+     * @return true if the verb fits the level,
      *         false otherwise
      */
-    private boolean addLevel2(final String verb,
-                              final int position) {
+    private boolean fitsLevel2(final String verb) {
 
-        if ((isInfinitive(verb) && infinitiveOk())
+        return (isInfinitive(verb) && infinitiveOk())
                 || (isGerund(verb) && gerundOk())
                 || (isPastParticiple(verb) && participleOk())
                 || (verb.equals("been") && participleOk())
-                || (verb.equals("be") && modalBefore())) {
-
-            level2 = verb;
-            position2 = position;
-            return true;
-
-        } else {
-            return false;
-        }
+                || (verb.equals("be") && modalBefore());
     }
 
     /**
-     * Tries to add a verb to the level 3 and
-     * reports back if it's successful or not.
-     * @param verb - verb to be added to the verb form
-     * @param position - position of the verb
-     * @return true if the verb is added successfully,
+     * Checks if the verb can be on the level 3.
+     * @param verb - verb to be checked
+     * @return true if the verb fits the level,
      *         false otherwise
      */
-    private boolean addLevel3(final String verb,
-                              final int position) {
+    private boolean fitsLevel3(final String verb) {
 
-        if ((isInfinitive(verb) && (level2.equals("going")
+        return (isInfinitive(verb) && (level2.equals("going")
                 || getInfinitive(level2).equals("allow")))
                 || (isGerund(verb) && (level2.equals("be")
                 || isStartOrStop(level2) || level2.equals("stop")))
                 || (isPastParticiple(verb) && (level2.equals("have")
                 || level2.equals("been") || level2.equals("be")))
-                || (verb.equals("been") && level2.equals("have"))) {
-
-            level3 = verb;
-            position3 = position;
-            return true;
-
-        } else {
-            return false;
-        }
+                || (verb.equals("been") && level2.equals("have"));
     }
 
     /**
-     * Tries to add a verb to the level 4 and
-     * reports back if it's successful or not.
-     * @param verb - verb to be added to the verb form
-     * @param position - position of the verb
-     * @return true if the verb is added successfully,
+     * Checks if the verb can be on the level 4.
+     * @param verb - verb to be checked
+     * @return true if the verb fits the level,
      *         false otherwise
      */
-    private boolean addLevel4(final String verb,
-                              final int position) {
+    private boolean fitsLevel4(final String verb) {
 
-        if ((isGerund(verb) && (level3.equals("been")
+        return (isGerund(verb) && (level3.equals("been")
                 || isStartOrStop(level3)))
                 || (isPastParticiple(verb)
-                && level3.equals("been"))) {
-
-            level4 = verb;
-            position4 = position;
-            return true;
-        } else {
-            return false;
-        }
+                && level3.equals("been"));
     }
 
     /**
@@ -304,9 +346,10 @@ public class Tense {
      * Gives back the position of the
      * first level.
      * @return the position of the
-     *         first level
+     *         first level, -1 if there
+     *         is no first level
      */
-    public Integer getPosition1() {
+    public int getPosition1() {
         return position1;
     }
 
@@ -314,9 +357,10 @@ public class Tense {
      * Gives back the position of the
      * second level.
      * @return the position of the
-     *         second level
+     *         second level, -1 if there
+     *         is no second level
      */
-    public Integer getPosition2() {
+    public int getPosition2() {
         return position2;
     }
 
@@ -326,19 +370,19 @@ public class Tense {
     public void undo() {
         if (level4 != null) {
             level4 = null;
-            position4 = null;
+            position4 = NO_POSITION;
 
         } else if (level3 != null) {
             level3 = null;
-            position3 = null;
+            position3 = NO_POSITION;
 
         } else if (level2 != null) {
             level2 = null;
-            position2 = null;
+            position2 = NO_POSITION;
 
         } else if (level1 != null) {
             level1 = null;
-            position1 = null;
+            position1 = NO_POSITION;
         }
     }
 
@@ -463,25 +507,30 @@ public class Tense {
     }
 
     /**
-     * Makes the copy of the existing Tense.
-     * @return the copy of the existing Tense
-     */
-    public Tense copy() {
-        Tense tense = new Tense();
-        tense.level1 = level1;
-        tense.level2 = level2;
-        tense.level3 = level3;
-        tense.level4 = level4;
-        tense.position1 = position1;
-        tense.position2 = position2;
-        tense.position3 = position3;
-        tense.position4 = position4;
-        tense.infinitive = infinitive;
-        tense.toPositive = toPositive;
-        tense.toNegative = toNegative;
-        tense.isQuestion = isQuestion;
-        tense.subSentenceStart = subSentenceStart;
-        return tense;
+     * Turns the Tense into the one of the next sub-sentence
+     * of the same sentence, without creating a new one. The
+     * information if the sentence has already been changed
+     * is carried over.
+     * @param firstWord - first word of the sub-sentence
+     * @param sentenceStart - position of the first word
+     * @param length - number of words in sentence
+     */
+    public void next(final String firstWord,
+                     final int sentenceStart,
+                     final int length) {
+
+        level1 = null;
+        level2 = null;
+        level3 = null;
+        level4 = null;
+        position1 = NO_POSITION;
+        position2 = NO_POSITION;
+        position3 = NO_POSITION;
+        position4 = NO_POSITION;
+        infinitive = false;
+        toPositive = false;
+        toNegative = false;
+        start(firstWord, sentenceStart, length);
     }
 
     /**
@@ -497,6 +546,8 @@ public class Tense {
     /**
      * Used to state if the sentence has
      * been changed or not.
+     * @param changed - true if the sentence has
+     *                been changed, false otherwise
      */
     public void setChanged(final boolean changed) {
         alreadyChanged = changed;
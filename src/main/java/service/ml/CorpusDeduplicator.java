@@ -0,0 +1,322 @@
+package service.ml;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Recognizes duplicates and near-duplicates within one corpus
+ * (i.e. retweets or the same wire story posted by AP, ABC and
+ * CBSNews). Exact duplicates are recognized by hashing the
+ * normalized content of the original post. Near-duplicates
+ * are recognized by comparing the SimHash fingerprints of the
+ * piped tokens, since the piped tokens are the only thing the
+ * classifier gets to see. One instance should be used for one
+ * pass over the corpus.
+ */
+public class CorpusDeduplicator {
+
+    /**
+     * Number of bits in the SimHash fingerprint.
+     */
+    private static final int FINGERPRINT_BITS = 64;
+
+    /**
+     * Maximal number of differing bits for two fingerprints
+     * to be considered near-duplicates.
+     */
+    private static final int MAX_DISTANCE = 3;
+
+    /**
+     * The fingerprint is split into MAX_DISTANCE + 1 bands.
+     * Two fingerprints which differ in at most MAX_DISTANCE
+     * bits must have at least one identical band, so only
+     * the fingerprints sharing a band have to be compared.
+     */
+    private static final int BANDS = MAX_DISTANCE + 1;
+
+    /**
+     * Number of bits in one band.
+     */
+    private static final int BAND_BITS = FINGERPRINT_BITS / BANDS;
+
+    /**
+     * Mask for extracting one band.
+     */
+    private static final long BAND_MASK = (1L << BAND_BITS) - 1;
+
+    /**
+     * Minimal number of piped tokens needed for the near-duplicate
+     * check. Shorter texts are mostly the same few keywords
+     * (i.e. "putin russia"), so they would be removed even when
+     * they come from unrelated posts.
+     */
+    private static final int MIN_TOKENS = 5;
+
+    /**
+     * FNV-1a 64 bit offset basis.
+     */
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    /**
+     * FNV-1a 64 bit prime.
+     */
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Content hashes of all the accepted posts.
+     */
+    private final Set<String> contentHashes = new HashSet<>();
+
+    /**
+     * Fingerprints of all the accepted posts, indexed by their
+     * bands. Key is the band number followed by the band value.
+     */
+    private final Map<Integer, List<Long>> bandIndex = new HashMap<>();
+
+    /**
+     * Used for hashing the content of the posts.
+     */
+    private final MessageDigest digest;
+
+    /**
+     * Number of checked posts.
+     */
+    private int checked;
+
+    /**
+     * Number of removed exact duplicates.
+     */
+    private int exactDuplicates;
+
+    /**
+     * Number of removed near-duplicates.
+     */
+    private int nearDuplicates;
+
+    /**
+     * Initializes the content hashing.
+     */
+    public CorpusDeduplicator() {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException(
+                    "SHA-256 is not supported.", exception);
+        }
+    }
+
+    /**
+     * Checks if the post is a duplicate or a near-duplicate of
+     * any post accepted before. If it's not, the post is
+     * accepted and the later posts will be compared to it.
+     * @param original - original text of the post
+     * @param piped - piped version of the post
+     * @return true if the post is a duplicate and should be
+     *         removed from the corpus, false otherwise
+     */
+    public boolean isDuplicate(final String original,
+                               final String piped) {
+        ++checked;
+
+        if (!contentHashes.add(contentHash(original))) {
+            ++exactDuplicates;
+            return true;
+        }
+
+        if (countTokens(piped) < MIN_TOKENS) {
+            return false;
+        }
+
+        long fingerprint = simHash(piped);
+        if (hasNearDuplicate(fingerprint)) {
+            ++nearDuplicates;
+            return true;
+        }
+
+        for (int band = 0; band < BANDS; band++) {
+            bandIndex.computeIfAbsent(bandKey(fingerprint, band),
+                    key -> new ArrayList<>()).add(fingerprint);
+        }
+
+        return false;
+    }
+
+    /**
+     * Gives back the number of checked posts.
+     * @return the number of checked posts
+     */
+    public int getChecked() {
+        return checked;
+    }
+
+    /**
+     * Gives back the number of removed exact duplicates.
+     * @return the number of removed exact duplicates
+     */
+    public int getExactDuplicates() {
+        return exactDuplicates;
+    }
+
+    /**
+     * Gives back the number of removed near-duplicates.
+     * @return the number of removed near-duplicates
+     */
+    public int getNearDuplicates() {
+        return nearDuplicates;
+    }
+
+    /**
+     * Describes how much has been removed from the corpus.
+     * @return the report in a readable form
+     */
+    public String report() {
+        int removed = exactDuplicates + nearDuplicates;
+        return "Removed " + removed + " of " + checked + " posts ("
+                + exactDuplicates + " exact duplicates, "
+                + nearDuplicates + " near-duplicates).";
+    }
+
+    /**
+     * Checks if any accepted fingerprint is close enough to
+     * the given one.
+     * @param fingerprint - fingerprint to be checked
+     * @return true if a near-duplicate has already been
+     *         accepted, false otherwise
+     */
+    private boolean hasNearDuplicate(final long fingerprint) {
+        for (int band = 0; band < BANDS; band++) {
+            List<Long> candidates
+                    = bandIndex.get(bandKey(fingerprint, band));
+
+            if (candidates == null) {
+                continue;
+            }
+
+            for (long candidate : candidates) {
+                if (Long.bitCount(candidate ^ fingerprint)
+                        <= MAX_DISTANCE) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Hashes the normalized content of the post. The content
+     * is put in lower case, the whitespaces are collapsed and
+     * the retweet prefix ("RT @user:") is removed.
+     * @param original - original text of the post
+     * @return hash of the normalized content
+     */
+    private String contentHash(final String original) {
+        String normalized = original.trim()
+                .replaceAll("\\s+", " ")
+                .replaceFirst("^RT @\\w+: ", "")
+                .toLowerCase(Locale.ENGLISH);
+
+        byte[] hash = digest.digest(
+                normalized.getBytes(StandardCharsets.UTF_8));
+        return Base64.getEncoder().encodeToString(hash);
+    }
+
+    /**
+     * Computes the SimHash fingerprint of the piped tokens.
+     * Every token votes for each bit of the fingerprint with
+     * the bits of its own hash.
+     * @param piped - space separated piped tokens
+     * @return the fingerprint
+     */
+    private static long simHash(final String piped) {
+        int[] votes = new int[FINGERPRINT_BITS];
+        int length = piped.length();
+        int pos = 0;
+
+        while (pos < length) {
+            while (pos < length && piped.charAt(pos) == ' ') {
+                pos++;
+            }
+
+            if (pos == length) {
+                break;
+            }
+
+            long hash = FNV_OFFSET;
+            while (pos < length && piped.charAt(pos) != ' ') {
+                hash ^= piped.charAt(pos++);
+                hash *= FNV_PRIME;
+            }
+            hash = mix(hash);
+
+            for (int bit = 0; bit < FINGERPRINT_BITS; bit++) {
+                votes[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+
+        long fingerprint = 0L;
+        for (int bit = 0; bit < FINGERPRINT_BITS; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Spreads the bits of the FNV hash, so that every bit of
+     * the token hash is equally likely to be set.
+     * @param hash - FNV hash of the token
+     * @return the mixed hash
+     */
+    private static long mix(final long hash) {
+        long result = hash;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+
+    /**
+     * Counts the space separated tokens.
+     * @param piped - space separated piped tokens
+     * @return number of tokens
+     */
+    private static int countTokens(final String piped) {
+        int tokens = 0;
+        boolean inToken = false;
+
+        for (int pos = 0; pos < piped.length(); pos++) {
+            boolean space = piped.charAt(pos) == ' ';
+            if (!space && !inToken) {
+                tokens++;
+            }
+            inToken = !space;
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Builds the index key for one band of the fingerprint.
+     * @param fingerprint - the fingerprint
+     * @param band - number of the band
+     * @return the band number followed by the band value
+     */
+    private static int bandKey(final long fingerprint, final int band) {
+        return (band << BAND_BITS)
+                | (int) ((fingerprint >>> (band * BAND_BITS)) & BAND_MASK);
+    }
+
+}
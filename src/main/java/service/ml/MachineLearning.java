@@ -10,6 +10,7 @@ import com.aliasi.util.Files;
 import exception.ClassifierCompilationException;
 import org.apache.log4j.LogManager;
 import org.apache.log4j.Logger;
+import service.formatter.PipedBuffer;
 
 import java.io.File;
 import java.io.IOException;
@@ -127,6 +128,32 @@ public final class MachineLearning {
      */
     public static boolean classifyTweet(
             final String text) {
+        return classifyTweet(text.toCharArray(), text.length());
+    }
+
+    /**
+     * Takes a single piped tweet and decides if it's
+     * on the subject "USA - Russia relation" or not.
+     * The characters are scored directly from the buffer.
+     * @param piped - piped version of the tweet
+     * @return true if the tweet is about the subject
+     *         "USA - Russia relation", false otherwise
+     */
+    public static boolean classifyTweet(
+            final PipedBuffer piped) {
+        return classifyTweet(piped.getChars(), piped.length());
+    }
+
+    /**
+     * Decides if the piped characters are on the subject
+     * "USA - Russia relation" or not.
+     * @param chars - characters of the piped tweet
+     * @param length - number of valid characters
+     * @return true if the tweet is about the subject
+     *         "USA - Russia relation", false otherwise
+     */
+    private static boolean classifyTweet(
+            final char[] chars, final int length) {
         try {
 
             ObjectInputStream inputStream = new ObjectInputStream(
@@ -137,11 +164,11 @@ public final class MachineLearning {
             inputStream.close();
 
             String bestCategory;
-            if (text.equals("")) {
+            if (length == 0) {
                 bestCategory = "false";
             } else {
                 JointClassification jc = compiledClassifier.classifyJoint(
-                        text.toCharArray(), 0, text.length());
+                        chars, 0, length);
 
                 if ((jc.score(0) < SCORE)) {
                     bestCategory = "false";
@@ -39,7 +39,8 @@ public final class PipeExecutor {
     /**
      * This method takes data from 'TrainingDataUnresolved,
      * filters it and stores it to 'PipedTrainingData'.
-     * This data is used for training.
+     * This data is used for training. Duplicates and
+     * near-duplicates are left out (see CorpusDeduplicator).
      *
      * @return - true the whole process passes without
      *           problems and exceptions,
@@ -51,6 +52,7 @@ public final class PipeExecutor {
         File pipedDir = new File("src/main/resources/TrainingDataPiped");
 
         String[] twitterAccounts = originalDirTrue.list();
+        CorpusDeduplicator deduplicator = new CorpusDeduplicator();
 
         for (String twitterAccountIterator : twitterAccounts) {
 
@@ -65,10 +67,16 @@ public final class PipeExecutor {
                     File file = new File(twitterAccountFolder, filesIterator);
                     String original = Files.readFromFile(file, "UTF-8");
                     String filtered = Pipe.pipe(original, PipeMode.TRAINING);
+                    File pipedFile = new File(pipedDir + "/"
+                            + twitterAccountIterator + "/" + filesIterator);
+
+                    if (deduplicator.isDuplicate(original, filtered)) {
+                        removeStalePipedFile(pipedFile);
+                        continue;
+                    }
 
                     Writer writer = new BufferedWriter(
-                            new FileWriter(pipedDir + "/"
-                            + twitterAccountIterator + "/" + filesIterator));
+                            new FileWriter(pipedFile));
 
                     writer.write(filtered);
                     writer.close();
@@ -83,6 +91,8 @@ public final class PipeExecutor {
                         + twitterAccountFolder.getName() + ".");
             }
         }
+
+        LOGGER.info("Training data: " + deduplicator.report());
         return true;
     }
 
@@ -90,6 +100,10 @@ public final class PipeExecutor {
      * This method takes data from 'TestDataUnresolved,
      * filters it and stores it to 'TestData'.
      * This data is used for testing how precise the ML is.
+     * Duplicates and near-duplicates are left out. Every
+     * label has its own deduplicator, so a post is only
+     * compared with the posts of the same label and the
+     * posts of one label can't remove the ones of the other.
      *
      * @return - true the whole process passes without
      *           problems and exceptions,
@@ -101,6 +115,8 @@ public final class PipeExecutor {
         File pipedDir = new File("src/main/resources/TestDataPiped");
 
         String[] twitterAccounts = originalDirTrue.list();
+        CorpusDeduplicator trueDeduplicator = new CorpusDeduplicator();
+        CorpusDeduplicator falseDeduplicator = new CorpusDeduplicator();
         assert twitterAccounts != null;
         for (String twitterAccountIterator : twitterAccounts) {
 
@@ -114,10 +130,16 @@ public final class PipeExecutor {
                     File file = new File(twitterAccountFolder, filesIterator);
                     String original = Files.readFromFile(file, "UTF-8");
                     String filtered = Pipe.pipe(original, PipeMode.TESTING);
+                    File pipedFile = new File(pipedDir
+                            + "/true/" + filesIterator);
+
+                    if (trueDeduplicator.isDuplicate(original, filtered)) {
+                        removeStalePipedFile(pipedFile);
+                        continue;
+                    }
 
                     Writer writer = new BufferedWriter(
-                            new FileWriter(pipedDir
-                                    + "/true/" + filesIterator));
+                            new FileWriter(pipedFile));
 
                     writer.write(filtered);
                     writer.close();
@@ -145,10 +167,16 @@ public final class PipeExecutor {
                     File file = new File(twitterAccountFolder, filesIterator);
                     String original = Files.readFromFile(file, "UTF-8");
                     String filtered = Pipe.pipe(original, PipeMode.TESTING);
+                    File pipedFile = new File(pipedDir + "/false/"
+                            + filesIterator);
+
+                    if (falseDeduplicator.isDuplicate(original, filtered)) {
+                        removeStalePipedFile(pipedFile);
+                        continue;
+                    }
 
                     Writer writer = new BufferedWriter(
-                            new FileWriter(pipedDir + "/false/"
-                            + filesIterator));
+                            new FileWriter(pipedFile));
 
                     writer.write(filtered);
                     writer.close();
@@ -163,7 +191,23 @@ public final class PipeExecutor {
             }
         }
 
+        LOGGER.info("Test data (true): " + trueDeduplicator.report());
+        LOGGER.info("Test data (false): " + falseDeduplicator.report());
         return true;
     }
 
+    /**
+     * Deletes the piped version of a post which has been
+     * recognized as a duplicate, since it could still be
+     * there from one of the previous runs and it would be
+     * used for training or testing.
+     * @param pipedFile - piped version of the duplicate
+     */
+    private static void removeStalePipedFile(final File pipedFile) {
+        if (pipedFile.exists() && !pipedFile.delete()) {
+            LOGGER.error("Problem occurred while deleting a duplicate "
+                    + pipedFile.getName() + ".");
+        }
+    }
+
 }
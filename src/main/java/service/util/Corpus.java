@@ -0,0 +1,81 @@
+package service.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Reads the corpora, which are directories with one post
+ * per file. The posts are always given in the order of their
+ * paths, so every run sees them in the same order.
+ */
+public final class Corpus {
+
+    /**
+     * Directory with the training posts.
+     */
+    public static final String TRAINING_DATA
+            = "src/main/resources/TrainingData";
+
+    /**
+     * Directory with the test posts.
+     */
+    public static final String TEST_DATA = "src/main/resources/TestData";
+
+    /**
+     * Empty private constructor for preventing
+     * public or default constructor.
+     */
+    private Corpus() {
+    }
+
+    /**
+     * Gives back all the files under the directory.
+     * @param directory - directory of the corpus
+     * @return the files, in the order of their paths
+     * @throws IOException - if the directory cannot be read
+     */
+    public static List<Path> listFiles(final Path directory)
+            throws IOException {
+        try (Stream<Path> walk = Files.walk(directory)) {
+            return walk.filter(Files::isRegularFile).sorted()
+                    .collect(toList());
+        }
+    }
+
+    /**
+     * Reads the post from the file.
+     * @param file - the file
+     * @return the post
+     * @throws IOException - if the file cannot be read
+     */
+    public static String readPost(final Path file) throws IOException {
+        return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads all the posts under the directories, one
+     * directory after the other.
+     * @param directories - directories of the corpora
+     * @return the posts, in the order of their paths
+     * @throws IOException - if a post cannot be read
+     */
+    public static List<String> readPosts(final String... directories)
+            throws IOException {
+        List<String> posts = new ArrayList<>();
+        for (String directory : directories) {
+            for (Path file : listFiles(Paths.get(directory))) {
+                posts.add(readPost(file));
+            }
+        }
+        return posts;
+    }
+
+}
@@ -0,0 +1,185 @@
+package service.util;
+
+import java.util.Arrays;
+
+/**
+ * Tokens of a text together with the edits made to them.
+ * The tokens themselves are never changed; every edit is
+ * recorded as the position of the token and its replacement,
+ * which may hold several words. The text is rendered once,
+ * at the end, with the tokens separated by single spaces and
+ * the empty tokens left out, into a buffer whose size is
+ * known in advance.
+ */
+public final class EditList {
+
+    /**
+     * Initial capacity of the edit arrays.
+     */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * Original tokens, which are never changed.
+     */
+    private final String[] tokens;
+
+    /**
+     * Positions of the edited tokens, in increasing order.
+     */
+    private int[] positions = new int[INITIAL_CAPACITY];
+
+    /**
+     * Replacement of every edited token.
+     */
+    private String[] replacements = new String[INITIAL_CAPACITY];
+
+    /**
+     * Number of the edited tokens.
+     */
+    private int size;
+
+    /**
+     * Creates the list with no edits. The array is used
+     * by the list and must not be changed from outside.
+     * @param tokens - original tokens
+     */
+    public EditList(final String[] tokens) {
+        this.tokens = tokens;
+    }
+
+    /**
+     * Renders the tokens, separated by single spaces.
+     * @param tokens - tokens to be rendered
+     * @return the rendered text
+     */
+    public static String join(final String[] tokens) {
+        return new EditList(tokens).toString();
+    }
+
+    /**
+     * Renders the texts of all the lists one after the other,
+     * separated by single spaces.
+     * @param lists - lists to be rendered
+     * @return the rendered text
+     */
+    public static String render(final EditList[] lists) {
+        int length = 0;
+        for (EditList list : lists) {
+            length += list.renderedLength() + 1;
+        }
+
+        StringBuilder text = new StringBuilder(length);
+        for (EditList list : lists) {
+            list.renderTo(text);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Replaces the token on the given position. A later edit
+     * of the same token replaces the earlier one.
+     * @param position - position of the token
+     * @param replacement - the new token
+     */
+    public void replace(final int position, final String replacement) {
+        int index = Arrays.binarySearch(positions, 0, size, position);
+        if (index >= 0) {
+            replacements[index] = replacement;
+            return;
+        }
+
+        int insertAt = -index - 1;
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, size * 2);
+            replacements = Arrays.copyOf(replacements, size * 2);
+        }
+        System.arraycopy(positions, insertAt, positions, insertAt + 1,
+                size - insertAt);
+        System.arraycopy(replacements, insertAt, replacements,
+                insertAt + 1, size - insertAt);
+
+        positions[insertAt] = position;
+        replacements[insertAt] = replacement;
+        size++;
+    }
+
+    /**
+     * Gives back the current token on the given position.
+     * @param position - position of the token
+     * @return the replacement if the token was edited,
+     *         the original token otherwise
+     */
+    public String get(final int position) {
+        int index = Arrays.binarySearch(positions, 0, size, position);
+        return index >= 0 ? replacements[index] : tokens[position];
+    }
+
+    /**
+     * Gives back the number of tokens.
+     * @return the number of tokens
+     */
+    public int length() {
+        return tokens.length;
+    }
+
+    /**
+     * Gives back the number of the edited tokens.
+     * @return the number of the edits
+     */
+    public int editCount() {
+        return size;
+    }
+
+    /**
+     * Gives back the length of the rendered text.
+     * @return the number of characters
+     */
+    public int renderedLength() {
+        int length = 0;
+        int edit = 0;
+        for (int position = 0; position < tokens.length; position++) {
+            String token = tokens[position];
+            if (edit < size && positions[edit] == position) {
+                token = replacements[edit++];
+            }
+            if (!token.isEmpty()) {
+                length += length == 0 ? token.length() : token.length() + 1;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Appends the rendered text to the buffer. If the buffer
+     * is not empty, the text is separated by a space.
+     * @param text - buffer for the rendered text
+     */
+    public void renderTo(final StringBuilder text) {
+        int edit = 0;
+        for (int position = 0; position < tokens.length; position++) {
+            String token = tokens[position];
+            if (edit < size && positions[edit] == position) {
+                token = replacements[edit++];
+            }
+            if (!token.isEmpty()) {
+                if (text.length() > 0) {
+                    text.append(' ');
+                }
+                text.append(token);
+            }
+        }
+    }
+
+    /**
+     * Gives back the rendered text.
+     * @return the tokens with all the edits, separated by
+     *         single spaces
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(renderedLength());
+        renderTo(text);
+        return text.toString();
+    }
+
+}
@@ -0,0 +1,358 @@
+package service.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Differences between a text and its changed version, as a
+ * list of edits against the original text. Every edit replaces
+ * the given number of chars at the given offset, and the edits
+ * are in increasing order of their offsets and do not overlap.
+ * The common start and end of the two texts are cut off first,
+ * and the rest is compared word by word, so a text in which one
+ * verb has changed is described by a single short edit. Texts
+ * with too many differences get one edit for everything between
+ * their common start and end.
+ */
+public final class TextDiff {
+
+    /**
+     * Largest number of inserted and deleted words for which
+     * the changed words are searched.
+     */
+    private static final int MAX_DIFFERENCES = 64;
+
+    /**
+     * Initial capacity of the edit arrays.
+     */
+    private static final int INITIAL_CAPACITY = 4;
+
+    /**
+     * Offset of every edit within the original text.
+     */
+    private int[] offsets = new int[INITIAL_CAPACITY];
+
+    /**
+     * Number of the replaced chars of every edit.
+     */
+    private int[] lengths = new int[INITIAL_CAPACITY];
+
+    /**
+     * Replacement of every edit.
+     */
+    private String[] replacements = new String[INITIAL_CAPACITY];
+
+    /**
+     * Number of the edits.
+     */
+    private int size;
+
+    /**
+     * Creates the list with no edits.
+     */
+    private TextDiff() {
+    }
+
+    /**
+     * Finds the edits that turn the original text into
+     * the changed one.
+     * @param original - the original text
+     * @param changed - the changed text
+     * @return the edits against the original text
+     */
+    public static TextDiff compute(final String original,
+                                   final String changed) {
+        TextDiff diff = new TextDiff();
+
+        int start = 0;
+        int limit = Math.min(original.length(), changed.length());
+        while (start < limit
+                && original.charAt(start) == changed.charAt(start)) {
+            start++;
+        }
+
+        int originalEnd = original.length();
+        int changedEnd = changed.length();
+        while (originalEnd > start && changedEnd > start
+                && original.charAt(originalEnd - 1)
+                == changed.charAt(changedEnd - 1)) {
+            originalEnd--;
+            changedEnd--;
+        }
+
+        if (start == originalEnd && start == changedEnd) {
+            return diff;
+        }
+
+        int[] originalWords = words(original, start, originalEnd);
+        int[] changedWords = words(changed, start, changedEnd);
+        if (!diff.compareWords(original, originalWords,
+                changed, changedWords)) {
+            diff.add(start, originalEnd - start,
+                    changed.substring(start, changedEnd));
+        }
+        return diff;
+    }
+
+    /**
+     * Applies the edits to the original text.
+     * @param original - the text the edits were computed against
+     * @return the changed text
+     */
+    public String apply(final String original) {
+        int length = original.length();
+        for (int edit = 0; edit < size; edit++) {
+            length += replacements[edit].length() - lengths[edit];
+        }
+
+        StringBuilder text = new StringBuilder(length);
+        int position = 0;
+        for (int edit = 0; edit < size; edit++) {
+            text.append(original, position, offsets[edit])
+                    .append(replacements[edit]);
+            position = offsets[edit] + lengths[edit];
+        }
+        return text.append(original, position, original.length())
+                .toString();
+    }
+
+    /**
+     * Gives back the number of the edits.
+     * @return the number of the edits
+     */
+    public int editCount() {
+        return size;
+    }
+
+    /**
+     * Gives back the offset of the edit within the original.
+     * @param edit - index of the edit
+     * @return the offset of the first replaced char
+     */
+    public int getOffset(final int edit) {
+        return offsets[edit];
+    }
+
+    /**
+     * Gives back the number of the chars the edit replaces.
+     * @param edit - index of the edit
+     * @return the number of the replaced chars
+     */
+    public int getLength(final int edit) {
+        return lengths[edit];
+    }
+
+    /**
+     * Gives back the replacement of the edit.
+     * @param edit - index of the edit
+     * @return the new chars
+     */
+    public String getReplacement(final int edit) {
+        return replacements[edit];
+    }
+
+    /**
+     * Gives back the edits as text.
+     * @return the edits as "offset+length:replacement"
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("[");
+        for (int edit = 0; edit < size; edit++) {
+            if (edit > 0) {
+                text.append(", ");
+            }
+            text.append(offsets[edit]).append('+').append(lengths[edit])
+                    .append(":\"").append(replacements[edit]).append('"');
+        }
+        return text.append(']').toString();
+    }
+
+    /**
+     * Compares the words of the two texts with the shortest
+     * edit script of Myers, and adds the edits for the words
+     * that are not in both texts.
+     * @param original - the original text
+     * @param originalWords - bounds of the original words
+     * @param changed - the changed text
+     * @param changedWords - bounds of the changed words
+     * @return false if there are too many differences,
+     *         true otherwise
+     */
+    private boolean compareWords(final String original,
+                                 final int[] originalWords,
+                                 final String changed,
+                                 final int[] changedWords) {
+        int n = originalWords.length - 1;
+        int m = changedWords.length - 1;
+        int max = Math.min(n + m, MAX_DIFFERENCES);
+        int middle = max + 1;
+
+        int[] furthest = new int[2 * max + 3];
+        List<int[]> trace = new ArrayList<>();
+        int differences = -1;
+
+        search:
+        for (int d = 0; d <= max; d++) {
+            trace.add(furthest.clone());
+            for (int k = -d; k <= d; k += 2) {
+                int x = k == -d || (k != d && furthest[middle + k - 1]
+                        < furthest[middle + k + 1])
+                        ? furthest[middle + k + 1]
+                        : furthest[middle + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && sameWord(original, originalWords,
+                        x, changed, changedWords, y)) {
+                    x++;
+                    y++;
+                }
+                furthest[middle + k] = x;
+                if (x >= n && y >= m) {
+                    differences = d;
+                    break search;
+                }
+            }
+        }
+
+        if (differences < 0) {
+            return false;
+        }
+
+        boolean[] deleted = new boolean[n];
+        boolean[] inserted = new boolean[m];
+        int x = n;
+        int y = m;
+        for (int d = differences; d > 0; d--) {
+            int[] previous = trace.get(d);
+            int k = x - y;
+            int previousK = k == -d || (k != d && previous[middle + k - 1]
+                    < previous[middle + k + 1]) ? k + 1 : k - 1;
+            int previousX = previous[middle + previousK];
+            int previousY = previousX - previousK;
+
+            while (x > previousX && y > previousY) {
+                x--;
+                y--;
+            }
+            if (x == previousX) {
+                inserted[previousY] = true;
+            } else {
+                deleted[previousX] = true;
+            }
+            x = previousX;
+            y = previousY;
+        }
+
+        addEdits(originalWords, deleted, changed, changedWords, inserted);
+        return true;
+    }
+
+    /**
+     * Adds an edit for every run of deleted and inserted words.
+     * @param originalWords - bounds of the original words
+     * @param deleted - true for every deleted original word
+     * @param changed - the changed text
+     * @param changedWords - bounds of the changed words
+     * @param inserted - true for every inserted changed word
+     */
+    private void addEdits(final int[] originalWords,
+                          final boolean[] deleted,
+                          final String changed,
+                          final int[] changedWords,
+                          final boolean[] inserted) {
+        int i = 0;
+        int j = 0;
+        while (i < deleted.length || j < inserted.length) {
+            if (i < deleted.length && j < inserted.length
+                    && !deleted[i] && !inserted[j]) {
+                i++;
+                j++;
+                continue;
+            }
+
+            int offset = originalWords[i];
+            int from = changedWords[j];
+            while (i < deleted.length && deleted[i]) {
+                i++;
+            }
+            while (j < inserted.length && inserted[j]) {
+                j++;
+            }
+            add(offset, originalWords[i] - offset,
+                    changed.substring(from, changedWords[j]));
+        }
+    }
+
+    /**
+     * Checks if the two words are the same.
+     * @param original - the original text
+     * @param originalWords - bounds of the original words
+     * @param x - index of the original word
+     * @param changed - the changed text
+     * @param changedWords - bounds of the changed words
+     * @param y - index of the changed word
+     * @return true if the words are the same, false otherwise
+     */
+    private static boolean sameWord(final String original,
+                                    final int[] originalWords,
+                                    final int x,
+                                    final String changed,
+                                    final int[] changedWords,
+                                    final int y) {
+        int length = originalWords[x + 1] - originalWords[x];
+        return length == changedWords[y + 1] - changedWords[y]
+                && original.regionMatches(originalWords[x],
+                changed, changedWords[y], length);
+    }
+
+    /**
+     * Cuts the part of the text into words and runs of
+     * whitespaces, so that every char belongs to one of them.
+     * @param text - the text
+     * @param start - start of the part
+     * @param end - end of the part
+     * @return the start of every word and the end of the
+     *         last one
+     */
+    private static int[] words(final String text,
+                               final int start,
+                               final int end) {
+        int[] bounds = new int[INITIAL_CAPACITY];
+        int count = 0;
+
+        for (int position = start; position < end; position++) {
+            if (position == start
+                    || Character.isWhitespace(text.charAt(position))
+                    != Character.isWhitespace(text.charAt(position - 1))) {
+                if (count + 1 == bounds.length) {
+                    bounds = Arrays.copyOf(bounds, count * 2);
+                }
+                bounds[count++] = position;
+            }
+        }
+
+        bounds[count++] = end;
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * Adds the next edit.
+     * @param offset - offset within the original text
+     * @param length - number of the replaced chars
+     * @param replacement - the new chars
+     */
+    private void add(final int offset, final int length,
+                     final String replacement) {
+        if (size == offsets.length) {
+            offsets = Arrays.copyOf(offsets, size * 2);
+            lengths = Arrays.copyOf(lengths, size * 2);
+            replacements = Arrays.copyOf(replacements, size * 2);
+        }
+        offsets[size] = offset;
+        lengths[size] = length;
+        replacements[size] = replacement;
+        size++;
+    }
+
+}
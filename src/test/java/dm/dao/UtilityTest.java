@@ -0,0 +1,134 @@
+package dm.dao;
+
+import dm.data.Lexicon;
+import dm.data.Vocabulary;
+import junit.framework.TestCase;
+import service.util.TestTexts;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Tests of the lookups of the words by their span in a text.
+ * The flags and the id of a span must be the ones found by
+ * cutting the span out, cleaning it and looking the clean word
+ * up in the maps of the lexicon.
+ */
+public class UtilityTest extends TestCase {
+
+    /**
+     * The words of a text, as they are split by whitespace.
+     */
+    private static final Pattern WORD = Pattern.compile("\\S+");
+
+    /**
+     * Chars put around and into the random words.
+     */
+    private static final String CHARS = "aZ'-.,!?\"#@ \t é’";
+
+    /**
+     * Number of the random texts.
+     */
+    private static final int RANDOM_TEXTS = 100000;
+
+    /**
+     * The lexicon of the application.
+     */
+    private static final Lexicon LEXICON = Utility.getLexicon();
+
+    /**
+     * Ids of the clean words.
+     */
+    private static final Map<String, Integer> IDS = new HashMap<>();
+
+    static {
+        Vocabulary vocabulary = LEXICON.getVocabulary();
+        for (int id = Vocabulary.UNKNOWN + 1; id < vocabulary.size(); id++) {
+            IDS.put(vocabulary.getWord(id), id);
+        }
+    }
+
+    /**
+     * A clean word is given back as it is, and a word with
+     * special chars loses them and is folded to lower case.
+     */
+    public void testClean() {
+        String clean = "don't";
+        assertSame(clean, Utility.clearSpecChars(clean));
+        assertEquals("don't", Utility.clean("\"Don't!\""));
+        assertEquals("", Utility.clean(null));
+    }
+
+    /**
+     * Every word of the corpora, looked up by its span in the
+     * post, has the flags and the id of its clean word.
+     * @throws IOException - if a post cannot be read
+     */
+    public void testCorpusSpans() throws IOException {
+        for (String post : TestTexts.corpora()) {
+            Matcher word = WORD.matcher(post);
+            while (word.find()) {
+                assertSpan(post, word.start(), word.end() - word.start());
+            }
+        }
+    }
+
+    /**
+     * Random spans of texts made of the lexicon words in random
+     * case, with special chars, non-ASCII chars and whitespace
+     * around and inside them, have the flags and the id of their
+     * clean words.
+     */
+    public void testRandomSpans() {
+        List<String> words = new ArrayList<>(LEXICON.getWordFlags().keySet());
+        words.sort(null);
+        Random random = new Random(50);
+
+        for (int run = 0; run < RANDOM_TEXTS; run++) {
+            StringBuilder text = new StringBuilder();
+            for (int part = random.nextInt(4); part >= 0; part--) {
+                if (random.nextBoolean()) {
+                    text.append(CHARS.charAt(random.nextInt(CHARS.length())));
+                }
+                String word = words.get(random.nextInt(words.size()));
+                for (int i = 0; i < word.length(); i++) {
+                    char c = word.charAt(i);
+                    text.append(random.nextBoolean()
+                            ? Character.toUpperCase(c) : c);
+                }
+            }
+
+            int offset = random.nextInt(text.length() + 1);
+            int length = random.nextInt(text.length() - offset + 1);
+            assertSpan(text.toString(), offset, length);
+        }
+    }
+
+    /**
+     * Checks that the span and the cut out word have the flags
+     * and the id of the clean word.
+     * @param text - text with the word
+     * @param offset - position of the first char of the word
+     * @param length - number of the chars of the word
+     */
+    private static void assertSpan(final String text,
+                                   final int offset,
+                                   final int length) {
+        String word = text.substring(offset, offset + length);
+        String clean = Utility.clean(word);
+        long flags = LEXICON.getWordFlags().getOrDefault(clean, 0L);
+        int id = IDS.getOrDefault(clean, Vocabulary.UNKNOWN);
+
+        assertEquals(word, flags, Utility.getWordFlags(text, offset, length));
+        assertEquals(word, flags, Utility.getWordFlags(word));
+        assertEquals(word, id, Utility.getWordId(text, offset, length));
+        assertEquals(word, id, Utility.getWordId(word));
+    }
+
+}
@@ -0,0 +1,169 @@
+package dm.data;
+
+import dm.dao.Utility;
+import junit.framework.TestCase;
+import service.util.TestTexts;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tests of the word ids. Comparing the ids of two words, and
+ * looking up a pair of ids in the phrase index, must give the
+ * same answer as comparing and looking up their clean strings.
+ */
+public class VocabularyTest extends TestCase {
+
+    /**
+     * The lexicon of the application.
+     */
+    private static final Lexicon LEXICON = Utility.getLexicon();
+
+    /**
+     * The rule words have the ids of their constants.
+     */
+    public void testRuleWords() {
+        Vocabulary vocabulary = LEXICON.getVocabulary();
+
+        assertEquals("", vocabulary.getWord(Vocabulary.UNKNOWN));
+        assertEquals("by", vocabulary.getWord(Vocabulary.BY));
+        assertEquals("not", vocabulary.getWord(Vocabulary.NOT));
+        assertEquals("one", vocabulary.getWord(Vocabulary.ONE));
+        assertEquals(Vocabulary.NOT, vocabulary.getId("Not,"));
+        assertEquals(Vocabulary.UNKNOWN, vocabulary.getId(""));
+    }
+
+    /**
+     * Every word with flags has the id of its clean word, with
+     * the flags the clean word has in the lexicon, and no two
+     * ids have the same word. A word the lexicon keeps with upper
+     * case letters can only be found by its clean word, as before.
+     */
+    public void testLexiconWords() {
+        Vocabulary vocabulary = LEXICON.getVocabulary();
+        Map<String, Long> wordFlags = LEXICON.getWordFlags();
+
+        for (String word : wordFlags.keySet()) {
+            String clean = Utility.clean(word);
+            int id = vocabulary.getId(word);
+
+            assertEquals(word, (long) wordFlags.getOrDefault(clean, 0L),
+                    vocabulary.getFlags(id));
+            if (wordFlags.containsKey(clean)) {
+                assertEquals(word, clean, vocabulary.getWord(id));
+            }
+        }
+
+        assertEquals(vocabulary.size(), words(vocabulary).size() + 1);
+    }
+
+    /**
+     * Every word of the corpora has the id of its clean word,
+     * and UNKNOWN only if the clean word has no id.
+     * @throws IOException - if a post cannot be read
+     */
+    public void testCorpusWords() throws IOException {
+        Vocabulary vocabulary = LEXICON.getVocabulary();
+        Set<String> known = words(vocabulary);
+
+        for (String[] words : readSentences()) {
+            for (String word : words) {
+                String clean = Utility.clean(word);
+                int id = vocabulary.getId(word);
+
+                assertEquals(word, known.contains(clean),
+                        id != Vocabulary.UNKNOWN);
+                if (id != Vocabulary.UNKNOWN) {
+                    assertEquals(word, clean, vocabulary.getWord(id));
+                }
+            }
+        }
+    }
+
+    /**
+     * The phrase index gives every pair of words of the corpora,
+     * and the first two words of every phrase, the flags of the
+     * phrase lists that hold their clean words.
+     * @throws IOException - if a post cannot be read
+     */
+    public void testPhrases() throws IOException {
+        Map<String, Integer> phrases = new HashMap<>();
+        addPhrases(phrases, LEXICON.getCurrentNextSkipPhrases(),
+                PhraseIndex.CURRENT_NEXT_SKIP);
+        addPhrases(phrases, LEXICON.getPreviousCurrentSkipPhrases(),
+                PhraseIndex.PREVIOUS_CURRENT_SKIP);
+        addPhrases(phrases, LEXICON.getBeforePreviousPreviousSkipPhrases(),
+                PhraseIndex.BEFORE_PREVIOUS_PREVIOUS_SKIP);
+        addPhrases(phrases, LEXICON.getSubSentencePhrases(),
+                PhraseIndex.SUB_SENTENCE);
+
+        List<String[]> sentences = readSentences();
+        for (String phrase : phrases.keySet()) {
+            sentences.add(phrase.split(" "));
+        }
+
+        Vocabulary vocabulary = LEXICON.getVocabulary();
+        PhraseIndex index = LEXICON.getPhraseIndex();
+        for (String[] words : sentences) {
+            for (int i = 0; i + 1 < words.length; i++) {
+                String pair = Utility.clean(words[i]) + " "
+                        + Utility.clean(words[i + 1]);
+                assertEquals(pair, (int) phrases.getOrDefault(pair, 0),
+                        index.getFlags(vocabulary.getId(words[i]),
+                                vocabulary.getId(words[i + 1])));
+            }
+        }
+    }
+
+    /**
+     * Adds the flag to the clean first two words of all the
+     * phrases from the set.
+     * @param phrases - first two words mapped to their flags
+     * @param set - phrases that get the flag
+     * @param flag - the flag to be added
+     */
+    private static void addPhrases(final Map<String, Integer> phrases,
+                                   final Set<String> set,
+                                   final int flag) {
+        for (String phrase : set) {
+            String[] words = phrase.split("\\s+");
+            if (words.length >= 2) {
+                phrases.merge(Utility.clean(words[0]) + " "
+                        + Utility.clean(words[1]), flag,
+                        (old, added) -> old | added);
+            }
+        }
+    }
+
+    /**
+     * Gives back all the words of the vocabulary.
+     * @param vocabulary - the vocabulary
+     * @return the words, UNKNOWN left out
+     */
+    private static Set<String> words(final Vocabulary vocabulary) {
+        Set<String> words = new HashSet<>();
+        for (int id = Vocabulary.UNKNOWN + 1; id < vocabulary.size(); id++) {
+            words.add(vocabulary.getWord(id));
+        }
+        return words;
+    }
+
+    /**
+     * Reads the posts of the corpora split into words.
+     * @return the words of every post
+     * @throws IOException - if a post cannot be read
+     */
+    private static List<String[]> readSentences() throws IOException {
+        List<String[]> sentences = new ArrayList<>();
+        for (String post : TestTexts.corpora()) {
+            sentences.add(post.split("\\s+"));
+        }
+        return sentences;
+    }
+
+}
@@ -0,0 +1,139 @@
+package service.analysis;
+
+import junit.framework.TestCase;
+import service.util.TestTexts;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+/**
+ * Tests of the segmentation. The sentences and words are
+ * compared with the regex splits the segmentation replaced,
+ * and the spans are checked to cut the text back together.
+ */
+public class SegmentationTest extends TestCase {
+
+    /**
+     * Split the sentences used to be cut out by.
+     */
+    private static final Pattern SENTENCES
+            = Pattern.compile("(?<=[.?!;])\\s+(?=\\p{Lu})");
+
+    /**
+     * Split the words used to be cut out by.
+     */
+    private static final Pattern WORDS = Pattern.compile("\\s+");
+
+    /**
+     * Chars the random texts are made of.
+     */
+    private static final String CHARS = "aAb.?!;, \t\n\rÉé";
+
+    /**
+     * Number of the random texts.
+     */
+    private static final int RANDOM_TEXTS = 100000;
+
+    /**
+     * Maximum length of a random text.
+     */
+    private static final int RANDOM_LENGTH = 20;
+
+    /**
+     * A sentence ends after a sentence end mark followed by
+     * whitespace and an upper case letter, and keeps its words.
+     */
+    public void testSentencesAndWords() {
+        Segmentation segmentation = Segmentation.segment(
+                "It is late. we know; It is\tover!  Really?");
+
+        assertEquals(3, segmentation.sentenceCount());
+        assertEquals("It is late. we know;", segmentation.getSentence(0));
+        assertEquals("It is\tover!", segmentation.getSentence(1));
+        assertEquals("Really?", segmentation.getSentence(2));
+        assertEquals(5, segmentation.getFirstWord(1));
+        assertEquals(8, segmentation.getEndWord(1));
+        assertEquals("over!", segmentation.getWord(7));
+        assertEquals(9, segmentation.wordCount());
+    }
+
+    /**
+     * Like the split, a text starting with whitespace has an
+     * empty first word, and an empty text is one empty word.
+     */
+    public void testEmptyWords() {
+        Segmentation leading = Segmentation.segment("  It is.");
+        assertEquals(Arrays.asList("", "It", "is."),
+                Arrays.asList(leading.getWords()));
+
+        Segmentation empty = Segmentation.segment("");
+        assertEquals(1, empty.sentenceCount());
+        assertEquals(Arrays.asList(""), Arrays.asList(empty.getWords()));
+    }
+
+    /**
+     * Every post of the corpora is segmented like the splits.
+     * @throws IOException - if a post cannot be read
+     */
+    public void testCorpora() throws IOException {
+        for (String post : TestTexts.corpora()) {
+            assertSegmentation(post);
+        }
+    }
+
+    /**
+     * Random texts made of whitespace, sentence end marks and
+     * letters of both cases are segmented like the splits.
+     */
+    public void testRandomTexts() {
+        Random random = new Random(39);
+
+        for (int run = 0; run < RANDOM_TEXTS; run++) {
+            assertSegmentation(
+                    TestTexts.randomText(random, RANDOM_LENGTH, CHARS));
+        }
+    }
+
+    /**
+     * Checks that the segmentation gives back the same sentences
+     * and words as the splits, and that the sentences follow one
+     * another with only whitespace between them and hold their
+     * words.
+     * @param text - the text to be segmented
+     */
+    private static void assertSegmentation(final String text) {
+        Segmentation segmentation = Segmentation.segment(text);
+        String[] sentences = SENTENCES.split(text);
+
+        assertEquals(text, Arrays.asList(WORDS.split(text)),
+                Arrays.asList(segmentation.getWords()));
+        assertEquals(text, sentences.length, segmentation.sentenceCount());
+
+        int end = 0;
+        for (int sentence = 0; sentence < sentences.length; sentence++) {
+            assertEquals(text, sentences[sentence],
+                    segmentation.getSentence(sentence));
+
+            int start = segmentation.getSentenceStart(sentence);
+            assertTrue(text, WORDS.matcher(text.substring(end, start))
+                    .matches() || start == end);
+            end = segmentation.getSentenceEnd(sentence);
+
+            String[] words = WORDS.split(sentences[sentence]);
+            int first = segmentation.getFirstWord(sentence);
+            assertEquals(text, words.length,
+                    segmentation.getEndWord(sentence) - first);
+            for (int word = 0; word < words.length; word++) {
+                assertEquals(text, words[word],
+                        segmentation.getWord(first + word));
+                assertTrue(text, segmentation.getWordStart(first + word)
+                        >= start && segmentation.getWordEnd(first + word)
+                        <= end);
+            }
+        }
+        assertEquals(text, text.length(), end);
+    }
+
+}
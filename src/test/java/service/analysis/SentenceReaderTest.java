@@ -0,0 +1,195 @@
+package service.analysis;
+
+import junit.framework.TestCase;
+import service.util.TestTexts;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests of the sentence reader. The sentences read from a
+ * stream are compared with the sentences of the segmentation
+ * of the whole text, and the cut sentences are joined back
+ * into the text.
+ */
+public class SentenceReaderTest extends TestCase {
+
+    /**
+     * Chars the random texts are made of, with an upper case
+     * letter outside the basic plane.
+     */
+    private static final String CHARS
+            = "aAb.?!; \t\n\u00C9\uD835\uDC00";
+
+    /**
+     * Number of the random texts.
+     */
+    private static final int RANDOM_TEXTS = 50000;
+
+    /**
+     * Maximum length of a random text.
+     */
+    private static final int RANDOM_LENGTH = 20;
+
+    /**
+     * Number of the words in the long sentences.
+     */
+    private static final int LONG_WORDS = 3000;
+
+    /**
+     * Every post of the corpora, and all of them read as one
+     * document, give back the sentences of the segmentation.
+     * In the document, every post starts a new sentence, so
+     * no sentence grows long enough to be cut.
+     * @throws IOException - if a post cannot be read
+     */
+    public void testCorpora() throws IOException {
+        List<String> posts = TestTexts.corpora();
+
+        for (String post : posts) {
+            assertEquals(post, sentencesOf(post),
+                    read(new StringReader(post)));
+        }
+
+        String document = String.join(".\nPost ", posts);
+        assertEquals(sentencesOf(document),
+                read(new StringReader(document)));
+    }
+
+    /**
+     * Random texts give back the sentences of the segmentation,
+     * also when they are read one char at a time, so a sentence
+     * end or a surrogate pair falls on the end of a read.
+     * @throws IOException - if a text cannot be read
+     */
+    public void testRandomTexts() throws IOException {
+        Random random = new Random(45);
+
+        for (int run = 0; run < RANDOM_TEXTS; run++) {
+            String expected
+                    = TestTexts.randomText(random, RANDOM_LENGTH, CHARS);
+            assertEquals(expected, sentencesOf(expected),
+                    read(new StringReader(expected)));
+            assertEquals(expected, sentencesOf(expected),
+                    read(new OneCharReader(expected)));
+        }
+    }
+
+    /**
+     * A sentence longer than the maximum length is cut at the
+     * next word boundary, and no chars are lost.
+     * @throws IOException - if the text cannot be read
+     */
+    public void testLongSentenceCutAtWord() throws IOException {
+        String text = String.join(" ",
+                Collections.nCopies(LONG_WORDS, "word"));
+
+        List<String> sentences = read(new StringReader(text));
+
+        assertTrue(sentences.size() > 1);
+        for (String sentence : sentences) {
+            assertTrue(sentence.length()
+                    <= SentenceReader.MAX_SENTENCE_LENGTH + "word".length());
+            assertTrue(sentence.startsWith("word"));
+            assertTrue(sentence.endsWith("word"));
+        }
+        assertEquals(text, String.join(" ", sentences));
+    }
+
+    /**
+     * A sentence with no whitespaces is cut even within a word,
+     * and no chars are lost.
+     * @throws IOException - if the text cannot be read
+     */
+    public void testLongWordCut() throws IOException {
+        String text = String.join("", Collections.nCopies(
+                3 * SentenceReader.MAX_SENTENCE_LENGTH, "a"));
+
+        List<String> sentences = read(new StringReader(text));
+
+        assertTrue(sentences.size() > 1);
+        for (String sentence : sentences) {
+            assertTrue(sentence.length()
+                    <= 2 * SentenceReader.MAX_SENTENCE_LENGTH);
+        }
+        assertEquals(text, String.join("", sentences));
+    }
+
+    /**
+     * Reads all the sentences of the text.
+     * @param text - the text
+     * @return the sentences
+     * @throws IOException - if the text cannot be read
+     */
+    private static List<String> read(final Reader text) throws IOException {
+        SentenceReader reader = new SentenceReader(text);
+        List<String> sentences = new ArrayList<>();
+        for (String sentence = reader.next(); sentence != null;
+             sentence = reader.next()) {
+            sentences.add(sentence);
+        }
+        return sentences;
+    }
+
+    /**
+     * Gives back the sentences of the segmentation of the text.
+     * An empty text has no sentences to read.
+     * @param text - the text
+     * @return the sentences
+     */
+    private static List<String> sentencesOf(final String text) {
+        List<String> sentences = new ArrayList<>();
+        if (text.isEmpty()) {
+            return sentences;
+        }
+        Segmentation segmentation = Segmentation.segment(text);
+        for (int i = 0; i < segmentation.sentenceCount(); i++) {
+            sentences.add(segmentation.getSentence(i));
+        }
+        return sentences;
+    }
+
+    /**
+     * Reader that gives back one char per read.
+     */
+    private static final class OneCharReader extends Reader {
+
+        /**
+         * The text.
+         */
+        private final String text;
+
+        /**
+         * Position of the next char.
+         */
+        private int position;
+
+        /**
+         * Creates the reader of the text.
+         * @param text - the text
+         */
+        OneCharReader(final String text) {
+            this.text = text;
+        }
+
+        @Override
+        public int read(final char[] chars, final int offset,
+                        final int length) {
+            if (position == text.length()) {
+                return -1;
+            }
+            chars[offset] = text.charAt(position++);
+            return 1;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+}
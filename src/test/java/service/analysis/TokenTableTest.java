@@ -0,0 +1,96 @@
+package service.analysis;
+
+import dm.dao.Utility;
+import dm.dao.VerbUtility;
+import dm.data.Vocabulary;
+import junit.framework.TestCase;
+import service.inversion.SkipHelper;
+import service.util.TestTexts;
+
+import java.io.IOException;
+
+/**
+ * Tests of the ids in the token table. The rules compare the
+ * id of a word with the ids of the rule words, such as NOT or
+ * BY, where they used to compare its clean string with the rule
+ * word, so both comparisons must give the same answer. The
+ * clean forms and the tags read from them are taken from the
+ * ids too, so they must be the ones of the cleaned word.
+ */
+public class TokenTableTest extends TestCase {
+
+    /**
+     * Vocabulary of the lexicon.
+     */
+    private static final Vocabulary VOCABULARY
+            = Utility.getLexicon().getVocabulary();
+
+    /**
+     * Ids of the words the rules compare with.
+     */
+    private static final int[] RULE_WORDS = {
+        Vocabulary.BY, Vocabulary.OF, Vocabulary.NOT, Vocabulary.BUT,
+        Vocabulary.SOME, Vocabulary.ANY, Vocabulary.TO, Vocabulary.AFTER,
+        Vocabulary.BEFORE, Vocabulary.JUST, Vocabulary.ALREADY,
+        Vocabulary.ALWAYS, Vocabulary.NOW, Vocabulary.NO, Vocabulary.NEVER,
+        Vocabulary.ONE
+    };
+
+    /**
+     * Every word of every sentence of the corpora has the id of
+     * a rule word exactly when its clean string is the rule word.
+     * @throws IOException - if a post cannot be read
+     */
+    public void testCorpusWords() throws IOException {
+        for (String post : TestTexts.corpora()) {
+            TweetAnalysis analysis = new TweetAnalysis(post);
+            for (AnalyzedSentence sentence : analysis.getSentences()) {
+                assertRuleWords(sentence.createTokenTable());
+            }
+        }
+    }
+
+    /**
+     * A word set by a rule gets the id of a rule word exactly
+     * when its clean string is the rule word, whatever its case
+     * and the special chars around it.
+     */
+    public void testSetWords() {
+        TokenTable tokens = new TweetAnalysis("It is.").getSentences()[0]
+                .createTokenTable();
+
+        for (int rule : RULE_WORDS) {
+            String word = VOCABULARY.getWord(rule);
+            String[] variants = {word, word.toUpperCase(), "\"" + word + ",",
+                word + "s", "k" + word, word + "'", ""};
+            for (String variant : variants) {
+                tokens.setWord(0, variant);
+                assertRuleWords(tokens);
+            }
+        }
+    }
+
+    /**
+     * Checks every word of the table against every rule word,
+     * and checks that its clean form and the tags read from
+     * the form are the ones of the cleaned word.
+     * @param tokens - the token table
+     */
+    private static void assertRuleWords(final TokenTable tokens) {
+        for (int position = 0; position < tokens.length(); position++) {
+            String clean = Utility.clean(tokens.getWord(position));
+            assertEquals(clean, tokens.getClean(position));
+            assertEquals(clean, VerbUtility.isAdverb(clean),
+                    tokens.is(position, TokenTable.ADVERB));
+            assertEquals(clean, SkipHelper.isPossession(clean),
+                    tokens.is(position, TokenTable.POSSESSION));
+            for (int rule : RULE_WORDS) {
+                assertEquals(tokens.getWord(position) + " / "
+                                + VOCABULARY.getWord(rule),
+                        clean.equals(VOCABULARY.getWord(rule)),
+                        tokens.getId(position) == rule);
+            }
+        }
+    }
+
+}
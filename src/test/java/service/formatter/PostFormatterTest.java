@@ -0,0 +1,126 @@
+package service.formatter;
+
+import junit.framework.TestCase;
+import service.util.TestTexts;
+
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Tests of the post formatter. The linear passes over the
+ * char buffer must give back exactly the same text as the
+ * formatter that worked on substrings and regular expressions,
+ * which is kept as RegexPostFormatter.
+ */
+public class PostFormatterTest extends TestCase {
+
+    /**
+     * Posts that go through every formatting step, each
+     * with its formatted version.
+     */
+    private static final String[][] POSTS = {
+        {"RT @user: \u201CBig\u201D news\u2026 https://t.co/abc",
+         "RT @user: \u201CBig news. Https://t.cO/abc"},
+        {"Hello ,world !How are you ?",
+         "Hello, world! How are you? "},
+        {"He said \" it is fine \" and left",
+         "He said \" it is fine\" and left"},
+        {"( a test ) [ another ] { third }",
+         "a test) another] third} "},
+        {"1 , 000 people and 2,5 million",
+         "1,000 people and 2,5 million"},
+        {"a*b+c&d/e-f",
+         "a * b + c & d / e - f"},
+        {"Wait.... what...",
+         "Wait. What."},
+        {"it is.\"Really\"",
+         "it is. \"Really\" "},
+        {"   leading spaces and   many   spaces   ",
+         "leading spaces and many spaces "},
+        {"#tag @name this is it",
+         "#tag @name this is it"},
+        {"first sentence. second sentence! third? yes",
+         "first sentence. Second sentence! Third? Yes"},
+        {"http : //example.com/path and https: //t.co/x",
+         "http: / / example. Com / path and https://t.cO/x"},
+        {"\u2018single\u2019 and \u00E9t\u00E9 and \u2014 dash",
+         "\u2018single' and \u00E9t\u00E9 and - dash"},
+        {"Trump's plan,unveiled today:is bad;really",
+         "Trump's plan, unveiled today: is bad; really"},
+        {"!!!???...Start here",
+         "Start here"},
+        {"",
+         ""}
+    };
+
+    /**
+     * Chars the random posts are made of.
+     */
+    private static final String CHARS
+            = "ab1 .,;:!?\"'()[]{}*+&/-#@\u201C\u201D\u2018\u2019\u2026\n\t";
+
+    /**
+     * Number of the random posts.
+     */
+    private static final int RANDOM_POSTS = 100000;
+
+    /**
+     * Maximum length of a random post.
+     */
+    private static final int RANDOM_LENGTH = 24;
+
+    /**
+     * Every formatting step gives back the same text as before.
+     */
+    public void testFormattingSteps() {
+        for (String[] post : POSTS) {
+            assertEquals(post[0], post[1], RegexPostFormatter.format(post[0]));
+            assertEquals(post[0], post[1], PostFormatter.format(post[0]));
+        }
+    }
+
+    /**
+     * All the posts of the corpora are formatted as before.
+     * @throws IOException - if a post cannot be read
+     */
+    public void testCorpora() throws IOException {
+        for (String post : TestTexts.corpora()) {
+            assertSameFormat(post);
+        }
+    }
+
+    /**
+     * Random posts made of the special chars, which hit the
+     * corner cases of the steps, are formatted as before.
+     */
+    public void testRandomPosts() {
+        Random random = new Random(29);
+
+        for (int run = 0; run < RANDOM_POSTS; run++) {
+            assertSameFormat(
+                    TestTexts.randomText(random, RANDOM_LENGTH, CHARS));
+        }
+    }
+
+    /**
+     * Checks that the post is formatted as the reference formats
+     * it. A post the reference fails on must fail the same way.
+     * @param post - the post
+     */
+    private static void assertSameFormat(final String post) {
+        String expected;
+        try {
+            expected = RegexPostFormatter.format(post);
+        } catch (RuntimeException exception) {
+            try {
+                PostFormatter.format(post);
+                fail(post + ": " + exception + " expected");
+            } catch (RuntimeException thrown) {
+                assertEquals(post, exception.getClass(), thrown.getClass());
+            }
+            return;
+        }
+        assertEquals(post, expected, PostFormatter.format(post));
+    }
+
+}
@@ -0,0 +1,159 @@
+package service.inversion;
+
+import junit.framework.TestCase;
+import service.util.EditList;
+import service.util.TestTexts;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tests of the order of the skip rules. The rules only read
+ * the sentence and the tense, so the posts must be inverted
+ * the same way whatever order the rules are checked in.
+ */
+public class SkipHelperTest extends TestCase {
+
+    /**
+     * File with the trained order of the rules.
+     */
+    private static final String ORDER_FILE
+            = "src/main/resources/SkipRuleOrder.txt";
+
+    /**
+     * Number of the rules.
+     */
+    private static final int RULES = 13;
+
+    /**
+     * Order of the rules before the test.
+     */
+    private List<String> order;
+
+    /**
+     * Capacities of the tweet and sentence caches before the test.
+     */
+    private int[] capacities;
+
+    /**
+     * Turns the caches off, so every post goes through the rules.
+     */
+    @Override
+    protected void setUp() {
+        order = SkipHelper.getOrder();
+        InversionCache<String> tweets = InversionService.getTweetCache();
+        InversionCache<EditList> sentences
+                = InversionService.getSentenceCache();
+        capacities = new int[] {tweets.getCapacity(),
+                sentences.getCapacity()};
+        tweets.setCapacity(0);
+        sentences.setCapacity(0);
+    }
+
+    /**
+     * Puts back the order and the caches.
+     */
+    @Override
+    protected void tearDown() {
+        SkipHelper.setOrder(order);
+        InversionService.getTweetCache().setCapacity(capacities[0]);
+        InversionService.getSentenceCache().setCapacity(capacities[1]);
+    }
+
+    /**
+     * The rules are checked in the order from the order file
+     * as soon as the class is loaded.
+     * @throws IOException - if the order file cannot be read
+     */
+    public void testOrderFileLoaded() throws IOException {
+        List<String> names = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get(ORDER_FILE),
+                StandardCharsets.UTF_8)) {
+            if (!line.trim().isEmpty()) {
+                names.add(line.trim());
+            }
+        }
+
+        assertEquals(names, order);
+    }
+
+    /**
+     * Unknown names are left out and the missing rules are
+     * added, so all the rules are always checked once.
+     */
+    public void testAllRulesKept() {
+        SkipHelper.setOrder(Arrays.asList("PHRASE", "UNKNOWN", "",
+                "PHRASE", "ARTICLE_BEFORE"));
+        List<String> names = SkipHelper.getOrder();
+
+        assertEquals(RULES, names.size());
+        assertEquals(RULES, names.stream().distinct().count());
+        assertEquals(Arrays.asList("PHRASE", "ARTICLE_BEFORE"),
+                names.subList(0, 2));
+    }
+
+    /**
+     * The posts are inverted the same way with the rules in
+     * their original order, in the order from the file, in the
+     * reversed order and in the order trained on the posts.
+     * @throws IOException - if a post cannot be read
+     */
+    public void testSameInversionInEveryOrder() throws IOException {
+        List<String> posts = TestTexts.testData();
+
+        SkipHelper.resetOrder();
+        List<String> original = SkipHelper.getOrder();
+        List<String> expected = InversionService.createInverseVersions(posts);
+
+        SkipHelper.setOrder(order);
+        assertEquals(expected, InversionService.createInverseVersions(posts));
+
+        List<String> reversed = new ArrayList<>(original);
+        Collections.reverse(reversed);
+        SkipHelper.setOrder(reversed);
+        assertEquals(reversed, SkipHelper.getOrder());
+        assertEquals(expected, InversionService.createInverseVersions(posts));
+
+        SkipHelper.resetOrder();
+        InversionService.trainSkipRules(posts);
+        assertFalse(original.equals(SkipHelper.getOrder()));
+        assertEquals(expected, InversionService.createInverseVersions(posts));
+    }
+
+    /**
+     * A sentence of one infinitive has no word after the verb
+     * to look at, so it's inverted instead of failing the whole
+     * post, in every order of the rules.
+     */
+    public void testOneWordSentences() {
+        String[][] posts = {
+            {"Drip.", "Don't drip."},
+            {"Go", "Don't go"},
+            {"He is here. Go.", "He isn't here. Don't go."},
+            {"He was paid today. Drip. Drip.",
+                "He wasn't paid today. Don't drip. Don't drip."}
+        };
+
+        SkipHelper.resetOrder();
+        List<String> reversed = SkipHelper.getOrder();
+        Collections.reverse(reversed);
+        for (List<String> rules : Arrays.asList(order, reversed)) {
+            SkipHelper.setOrder(rules);
+            for (String[] post : posts) {
+                long fallbacks = InversionService.getFallbackCount();
+
+                assertEquals(post[1],
+                        InversionService.createInverseVersion(post[0]));
+                assertEquals(post[0], fallbacks,
+                        InversionService.getFallbackCount());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package service.util;
+
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests of the edit list. The rendered text is compared with
+ * the text built by applying the edits to a copy of the tokens
+ * and joining the non-empty ones with single spaces.
+ */
+public class EditListTest extends TestCase {
+
+    /**
+     * Number of the random token lists in the round trip test.
+     */
+    private static final int RANDOM_LISTS = 20000;
+
+    /**
+     * Tokens the random lists are made of.
+     */
+    private static final String[] TOKENS
+            = {"it", "is", "not", "", "/", "https:", "Russia.", "&"};
+
+    /**
+     * Tokens are always separated by single spaces, even
+     * when a token is the same as the last one.
+     */
+    public void testTokensSeparatedBySingleSpaces() {
+        assertEquals("https: / /",
+                EditList.join(new String[] {"https:", "/", "/"}));
+        assertEquals("win. But it is",
+                EditList.join(new String[] {"win.", "But", "it", "is"}));
+    }
+
+    /**
+     * Empty tokens and replacements are left out.
+     */
+    public void testEmptyTokensLeftOut() {
+        EditList list = new EditList(new String[] {"", "it", "", "is"});
+        list.replace(3, "");
+
+        assertEquals("it", list.toString());
+        assertEquals(2, list.renderedLength());
+    }
+
+    /**
+     * A later edit of a token replaces the earlier one and
+     * the original tokens stay unchanged.
+     */
+    public void testLaterEditReplacesEarlier() {
+        String[] tokens = {"it", "is", "true"};
+        EditList list = new EditList(tokens);
+        list.replace(1, "isn't");
+        list.replace(1, "is not");
+
+        assertEquals("it is not true", list.toString());
+        assertEquals(1, list.editCount());
+        assertEquals("is", tokens[1]);
+        assertEquals("is not", list.get(1));
+        assertEquals("true", list.get(2));
+    }
+
+    /**
+     * The lists are rendered one after the other, separated
+     * by single spaces.
+     */
+    public void testRenderSeparatesLists() {
+        EditList first = new EditList(new String[] {"It", "is."});
+        EditList empty = new EditList(new String[] {""});
+        EditList second = new EditList(new String[] {"It", "was."});
+        second.replace(1, "wasn't.");
+
+        assertEquals("It is. It wasn't.",
+                EditList.render(new EditList[] {first, empty, second}));
+    }
+
+    /**
+     * Random edits of random token lists render the same text
+     * as the edits applied to a copy of the tokens, and the
+     * rendered length is computed exactly.
+     */
+    public void testRoundTrip() {
+        Random random = new Random(1);
+
+        for (int run = 0; run < RANDOM_LISTS; run++) {
+            String[] tokens = TestTexts.randomTokens(random, 12, TOKENS);
+
+            String[] expected = tokens.clone();
+            EditList list = new EditList(tokens);
+            for (int edit = random.nextInt(8); edit > 0
+                    && tokens.length > 0; edit--) {
+                int position = random.nextInt(tokens.length);
+                String replacement = TOKENS[random.nextInt(TOKENS.length)];
+                list.replace(position, replacement);
+                expected[position] = replacement;
+            }
+
+            String rendered = list.toString();
+            assertEquals(Arrays.toString(tokens), join(expected), rendered);
+            assertEquals(rendered.length(), list.renderedLength());
+        }
+    }
+
+    /**
+     * Joins the non-empty tokens with single spaces.
+     * @param tokens - the tokens
+     * @return the joined text
+     */
+    private static String join(final String[] tokens) {
+        List<String> kept = new ArrayList<>();
+        for (String token : tokens) {
+            if (!token.isEmpty()) {
+                kept.add(token);
+            }
+        }
+        return String.join(" ", kept);
+    }
+
+}
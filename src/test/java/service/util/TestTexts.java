@@ -0,0 +1,75 @@
+package service.util;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Texts the tests are run on: the posts of the corpora and
+ * random texts. The random texts are built from a seeded
+ * random, so every run of a test sees the same texts.
+ */
+public final class TestTexts {
+
+    /**
+     * Empty private constructor for preventing
+     * public or default constructor.
+     */
+    private TestTexts() {
+    }
+
+    /**
+     * Reads the posts of the training and the test corpus.
+     * @return the posts, in the order of their paths
+     * @throws IOException - if a post cannot be read
+     */
+    public static List<String> corpora() throws IOException {
+        return Corpus.readPosts(Corpus.TRAINING_DATA, Corpus.TEST_DATA);
+    }
+
+    /**
+     * Reads the posts of the test corpus.
+     * @return the posts, in the order of their paths
+     * @throws IOException - if a post cannot be read
+     */
+    public static List<String> testData() throws IOException {
+        return Corpus.readPosts(Corpus.TEST_DATA);
+    }
+
+    /**
+     * Builds a random text of the chars. A surrogate pair in
+     * the chars is one char of the text, so it is never split.
+     * @param random - the random numbers
+     * @param maxLength - the text has fewer chars than this
+     * @param chars - chars the text is made of
+     * @return the text
+     */
+    public static String randomText(final Random random,
+                                    final int maxLength,
+                                    final String chars) {
+        int[] codePoints = chars.codePoints().toArray();
+        StringBuilder text = new StringBuilder();
+        for (int i = random.nextInt(maxLength); i > 0; i--) {
+            text.appendCodePoint(codePoints[random.nextInt(codePoints.length)]);
+        }
+        return text.toString();
+    }
+
+    /**
+     * Builds a random list of the tokens.
+     * @param random - the random numbers
+     * @param maxTokens - the list has fewer tokens than this
+     * @param tokens - tokens the list is made of
+     * @return the list
+     */
+    public static String[] randomTokens(final Random random,
+                                        final int maxTokens,
+                                        final String... tokens) {
+        String[] list = new String[random.nextInt(maxTokens)];
+        for (int i = 0; i < list.length; i++) {
+            list[i] = tokens[random.nextInt(tokens.length)];
+        }
+        return list;
+    }
+
+}
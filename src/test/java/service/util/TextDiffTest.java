@@ -0,0 +1,161 @@
+package service.util;
+
+import junit.framework.TestCase;
+import service.inversion.InversionService;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Tests of the text diff. Applying the edits computed between
+ * two texts to the first one must give back the second one,
+ * and the edits must be ordered and must not overlap.
+ */
+public class TextDiffTest extends TestCase {
+
+    /**
+     * Words the random texts are made of.
+     */
+    private static final String[] WORDS
+            = {"it", "is", "not", "isn't", "Trump", "Russia.", "", " ", "\n"};
+
+    /**
+     * Number of the random text pairs.
+     */
+    private static final int RANDOM_PAIRS = 50000;
+
+    /**
+     * Maximum number of the words of a random text.
+     */
+    private static final int RANDOM_WORDS = 16;
+
+    /**
+     * Number of the words in the texts with too many differences.
+     */
+    private static final int MANY_WORDS = 200;
+
+    /**
+     * Equal texts have no edits.
+     */
+    public void testEqualTexts() {
+        assertEquals(0, TextDiff.compute("It is.", "It is.").editCount());
+        assertEquals(0, TextDiff.compute("", "").editCount());
+    }
+
+    /**
+     * A text in which one verb has changed is one short edit.
+     */
+    public void testOneChangedVerb() {
+        String original = "Trump is meeting Putin today.";
+        TextDiff diff = TextDiff.compute(original,
+                "Trump is not meeting Putin today.");
+
+        assertEquals(1, diff.editCount());
+        assertEquals("[9+0:\"not \"]", diff.toString());
+        assertEquals("Trump is not meeting Putin today.",
+                diff.apply(original));
+    }
+
+    /**
+     * Every changed word of a sentence gets its own edit.
+     */
+    public void testEditPerChangedWord() {
+        String original = "They will win. It was good.";
+        String changed = "They won't win. It wasn't good.";
+        TextDiff diff = TextDiff.compute(original, changed);
+
+        assertEquals(2, diff.editCount());
+        assertEquals(changed, diff.apply(original));
+        assertOrdered(original, diff);
+    }
+
+    /**
+     * Texts with more differences than are searched get one
+     * edit for everything between their common start and end.
+     */
+    public void testTooManyDifferences() {
+        StringBuilder original = new StringBuilder("Start");
+        StringBuilder changed = new StringBuilder("Start");
+        for (int word = 0; word < MANY_WORDS; word++) {
+            original.append(" a").append(word);
+            changed.append(" b").append(word);
+        }
+        original.append(" end");
+        changed.append(" end");
+
+        TextDiff diff = TextDiff.compute(original.toString(),
+                changed.toString());
+
+        assertEquals(1, diff.editCount());
+        assertEquals(changed.toString(), diff.apply(original.toString()));
+    }
+
+    /**
+     * Random pairs of texts are changed into one another by
+     * their edits.
+     */
+    public void testRandomRoundTrip() {
+        Random random = new Random(48);
+
+        for (int run = 0; run < RANDOM_PAIRS; run++) {
+            String original = randomText(random);
+            String changed = randomText(random);
+            TextDiff diff = TextDiff.compute(original, changed);
+
+            assertEquals(original + " -> " + changed, changed,
+                    diff.apply(original));
+            assertOrdered(original, diff);
+        }
+    }
+
+    /**
+     * Every post of the corpus is changed into its inverted
+     * version by its diff.
+     * @throws IOException - if a post cannot be read
+     */
+    public void testInvertedCorpus() throws IOException {
+        List<String> posts = TestTexts.testData();
+
+        List<String> inverted = InversionService.createInverseVersions(posts);
+        for (int post = 0; post < posts.size(); post++) {
+            TextDiff diff = InversionService.createInverseDiff(
+                    posts.get(post));
+
+            assertEquals(inverted.get(post), diff.apply(posts.get(post)));
+            assertOrdered(posts.get(post), diff);
+        }
+    }
+
+    /**
+     * Checks that the edits are in increasing order of their
+     * offsets, do not overlap and stay within the original.
+     * @param original - the text the edits were computed against
+     * @param diff - the edits
+     */
+    private static void assertOrdered(final String original,
+                                      final TextDiff diff) {
+        int end = 0;
+        for (int edit = 0; edit < diff.editCount(); edit++) {
+            assertTrue(diff.toString(), diff.getOffset(edit) >= end);
+            assertTrue(diff.toString(), diff.getLength(edit) >= 0);
+            end = diff.getOffset(edit) + diff.getLength(edit);
+        }
+        assertTrue(diff.toString(), end <= original.length());
+    }
+
+    /**
+     * Builds a random text of the words, separated by spaces.
+     * @param random - the random numbers
+     * @return the text
+     */
+    private static String randomText(final Random random) {
+        StringBuilder text = new StringBuilder();
+        for (String word
+                : TestTexts.randomTokens(random, RANDOM_WORDS, WORDS)) {
+            text.append(word).append(' ');
+        }
+        return text.toString();
+    }
+
+}